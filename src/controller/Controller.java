@@ -1,6 +1,9 @@
 package controller;
 
 import vo.PersonVO;
+import vo.ShiftVO;
+
+import java.time.LocalDate;
 
 /**
  * {@code Controller} 인터페이스는 특정 관리 모듈에서 사용되는 기본 동작을 정의합니다.
@@ -42,10 +45,120 @@ public interface Controller {
      */
     void totalSearch(int sortNum);
 
+    /**
+     * 식별 번호로 데이터를 찾아 반환합니다.
+     *
+     * @param key 찾을 데이터의 식별 번호
+     * @return 찾은 데이터, 없으면 {@code null}
+     */
+    PersonVO find(String key);
+
     /**
      * 지정된 조건에 맞는 데이터를 검색합니다.
      *
      * @param searchNum 검색할 데이터의 식별 번호
      */
     void search(String searchNum);
+
+    /**
+     * 정규직 직원의 월급을 주어진 비율만큼 인상합니다. 정규직 직원 관리를 선택했을 때만 동작합니다.
+     *
+     * @param eno     월급을 인상할 직원의 사번
+     * @param percent 인상률(%)
+     */
+    void salaryIncrease(String eno, int percent);
+
+    /**
+     * 시간제 직원의 근무 기록으로 정산 기간의 급여를 계산합니다.
+     *
+     * @param from 정산 시작일 (포함)
+     * @param to   정산 종료일 (미포함)
+     */
+    void payroll(LocalDate from, LocalDate to);
+
+    /**
+     * 시간제 직원의 근무 기록 한 건을 등록합니다.
+     *
+     * @param shift 근무 기록
+     */
+    void addShift(ShiftVO shift);
+
+    /**
+     * 급여 정산에 공휴일 가산율을 적용할 날짜를 등록합니다.
+     *
+     * @param day  날짜
+     * @param name 공휴일 이름
+     */
+    void addHoliday(LocalDate day, String name);
+
+    /**
+     * 학생 데이터를 파일로 내보냅니다.
+     *
+     * @param fileName 출력 파일 이름 ({@code .csv} 또는 {@code .jsonl}, 압축하려면 {@code .gz} 추가)
+     */
+    void export(String fileName);
+
+    /**
+     * CSV 파일의 학생 데이터를 가져옵니다.
+     *
+     * @param fileName 입력 CSV 파일 이름
+     */
+    void importCsv(String fileName);
+
+    /**
+     * 학생 성적 통계(등급별 인원, 과목별 평균)를 출력합니다.
+     */
+    void statistics();
+
+    /**
+     * 학생 등급 정책을 바꾸고 전체 학생을 다시 채점합니다.
+     *
+     * @param type    정책 종류 (1: 절대평가, 2: +/- 절대평가, 3: 상대평가)
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     */
+    void gradingPolicy(int type, float[] weights);
+
+    /**
+     * 과목별 점수와 등급 조건을 조합한 조건식으로 학생을 검색합니다.
+     *
+     * @param query 조건식 (예: {@code math>=90 & grade=A & science<60})
+     */
+    void filter(String query);
+
+    /**
+     * 전체 학생의 성적표를 만듭니다.
+     *
+     * @param output 출력 위치 ({@code .zip}이면 압축 파일 하나, 아니면 학생별 파일을 담을 디렉터리)
+     */
+    void reportCards(String output);
+
+    /**
+     * 학생을 입학년도, 학과 등 학번 구간이나 등급으로 묶어 집단별 인원, 과목 평균, 등급 분포를 출력합니다.
+     *
+     * @param keyNum 집단 키 번호 ({@code cohort.keys} 설정 순서, 마지막은 등급)
+     */
+    void cohorts(int keyNum);
+
+    /**
+     * 학생의 최근 학기별 점수와 총점 변화를 출력합니다.
+     *
+     * @param sno   학번
+     * @param terms 최근 몇 학기를 볼지 (0 이하이면 전체)
+     */
+    void scoreTrend(String sno, int terms);
+
+    /**
+     * 최근 몇 학기 동안 총점이 가장 많이 오른 학생을 출력합니다.
+     *
+     * @param terms 비교할 최근 학기 수
+     * @param limit 출력할 최대 학생 수
+     */
+    void mostImproved(int terms, int limit);
+
+    /**
+     * 이후의 점수 입력/수정을 기록할 학기를 바꿉니다.
+     *
+     * @param term 학기 (연도 * 10 + 학기, 예: 20252)
+     */
+    void setTerm(int term);
 }
@@ -1,7 +1,37 @@
 package controller;
 
+import model.CohortAggregator;
+import model.CurvedGrading;
+import model.CutoffGrading;
+import model.DBCommon;
+import model.GradeKernel;
+import model.GradingPolicy;
+import model.Fulltime;
+import model.FulltimeDAO;
+import model.ParttimeDAO;
+import model.PayrollEngine;
+import model.ReportCardGenerator;
+import model.ScoreHistory;
 import model.StudentDAO;
+import model.StudentBitmapIndex;
+import model.StudentExporter;
+import model.StudentImporter;
+import model.StudentStatsView;
+import util.DBUtil;
+import util.InvalidationBus;
+import vo.CohortVO;
+import vo.PayslipVO;
 import vo.PersonVO;
+import vo.ShiftVO;
+import vo.StudentVO;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 /**
@@ -11,16 +41,17 @@ import vo.PersonVO;
 public class ControllerImpl implements Controller {
 
     /**
-     * 학생 정보를 관리하는 DAO 객체
+     * 메뉴 번호별 관리 모듈 (1: 학생, 2: 정규직 직원, 3: 시간제 직원)
      */
-    private StudentDAO student;
-
-
+    private static final Map<Integer, Supplier<DBCommon>> MODULES = Map.of(
+            1, StudentDAO::getInstance,
+            2, FulltimeDAO::getInstance,
+            3, ParttimeDAO::getInstance);
 
     /**
-     * 현재 선택된 모델 (1: 학생, 2: 정규직 직원, 3: 시간제 직원)
+     * 현재 선택된 모듈의 DAO 객체 (선택 전에는 {@code null})
      */
-    private int selectModel = 0;
+    private DBCommon model;
 
     /**
      * Singleton 패턴을 위한 ControllerImpl 객체
@@ -45,30 +76,16 @@ public class ControllerImpl implements Controller {
     }
 
     /**
-     * 사용자가 선택한 메뉴 번호에 따라 어떤 모델을 관리할지 {@code selectModel}변수를 설정하는 메서드입니다.
+     * 사용자가 선택한 메뉴 번호에 따라 어떤 모듈을 관리할지 {@code model}변수를 설정하는 메서드입니다.
      *
      * @param choiceNum 선택된 메뉴 번호 (1: 학생, 2: 정규직 직원, 3: 시간제 직원, 4: 종료)
      */
     @Override
     public void choice(int choiceNum) {
-        //System.out.println("choice선택");
-        switch (choiceNum){
-            case 1:
-                this.selectModel = 1;
-                student = StudentDAO.getInstance();
-                break;
-            case 2:
-                this.selectModel = 2;
-
-                break;
-            case 3:
-                this.selectModel = 3;
-
-                break;
-            case 4:
-                System.exit(0);
-                break;
-        }
+        if (choiceNum == 4) System.exit(0);
+
+        Supplier<DBCommon> module = MODULES.get(choiceNum);
+        this.model = (module != null) ? module.get() : null;
     }
 
 
@@ -79,9 +96,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void input(PersonVO personVO) {
-        if (this.selectModel == 1) {
-            student.input(personVO);
-        }
+        if (model != null) model.input(personVO);
     }
 
     /**
@@ -91,9 +106,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void delete(String deleteNum) {
-        if (this.selectModel == 1) {
-            student.delete(deleteNum);
-        }
+        if (model != null) model.delete(deleteNum);
     }
 
     /**
@@ -103,9 +116,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void update(PersonVO personVO) {
-        if (this.selectModel == 1) {
-            student.update(personVO);
-        }
+        if (model != null) model.update(personVO);
     }
 
     /**
@@ -116,9 +127,18 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void totalSearch(int sortNum) {
-        if (this.selectModel == 1) {
-            student.totalSearch(sortNum);
-        }
+        if (model != null) model.totalSearch(sortNum);
+    }
+
+    /**
+     * 현재 선택된 모델에서 식별 번호로 데이터를 찾습니다.
+     *
+     * @param key 찾을 데이터의 식별 번호
+     * @return 찾은 데이터, 없거나 모델이 선택되지 않았으면 {@code null}
+     */
+    @Override
+    public PersonVO find(String key) {
+        return (model != null) ? model.find(key) : null;
     }
 
     /**
@@ -128,8 +148,297 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void search(String searchNum) {
-        if (this.selectModel == 1) {
-            student.search(searchNum);
+        if (model != null) model.search(searchNum);
+    }
+
+    /**
+     * 현재 선택된 모듈이 정규직 직원이면 월급을 인상합니다.
+     *
+     * @param eno     월급을 인상할 직원의 사번
+     * @param percent 인상률(%)
+     */
+    @Override
+    public void salaryIncrease(String eno, int percent) {
+        if (model instanceof Fulltime) ((Fulltime) model).salaryIncrease(eno, percent);
+    }
+
+    /**
+     * 시간제 직원의 정산 기간 급여를 일괄 계산하고 결과를 출력합니다.
+     *
+     * @param from 정산 시작일 (포함)
+     * @param to   정산 종료일 (미포함)
+     */
+    @Override
+    public void payroll(LocalDate from, LocalDate to) {
+        List<PayslipVO> payslips;
+        try {
+            payslips = PayrollEngine.getInstance().run(from, to);
+        } catch (SQLException e) {
+            System.out.println("정산 실패: " + e.getMessage());
+            System.out.println("정산 결과를 기록하지 않았습니다. 다시 실행해 주세요.");
+            return;
+        }
+
+        System.out.println("사번\t근무시간\t기본급\t가산수당\t주휴수당\t지급총액");
+        System.out.println("--------------------------------------------------");
+        for (PayslipVO payslip : payslips) System.out.println(payslip);
+        System.out.println("총 " + payslips.size() + "명 정산 완료");
+    }
+
+    /**
+     * 등록된 시간제 직원의 근무 기록을 등록하고 결과를 출력합니다.
+     *
+     * @param shift 근무 기록
+     */
+    @Override
+    public void addShift(ShiftVO shift) {
+        if (ParttimeDAO.getInstance().find(shift.getEno()) == null) {
+            System.out.println("등록되지 않은 알바 사번입니다: " + shift.getEno());
+            return;
+        }
+        try {
+            PayrollEngine.getInstance().addShift(shift);
+            System.out.println("근무 기록 등록 완료 (" + shift.getStart() + " ~ " + shift.getEnd() + ")");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        } catch (SQLException e) {
+            System.out.println("근무 기록 등록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 공휴일을 등록하고 결과를 출력합니다.
+     *
+     * @param day  날짜
+     * @param name 공휴일 이름
+     */
+    @Override
+    public void addHoliday(LocalDate day, String name) {
+        try {
+            PayrollEngine.getInstance().addHoliday(day, name);
+            System.out.println(day + " " + name + " 공휴일 등록 완료");
+        } catch (SQLException e) {
+            System.out.println("공휴일 등록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 학생 데이터를 파일로 내보내고 처리 결과를 출력합니다.
+     *
+     * @param fileName 출력 파일 이름 ({@code .csv} 또는 {@code .jsonl}, 압축하려면 {@code .gz} 추가)
+     */
+    @Override
+    public void export(String fileName) {
+        long start = System.nanoTime();
+        try {
+            long rows = StudentExporter.export(Paths.get(fileName));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d명 내보내기 완료 (%.2f초)\n", rows, seconds);
+        } catch (IOException e) {
+            System.out.println("내보내기 실패");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * CSV 파일의 학생 데이터를 가져오고, 처리량과 거부된 행을 출력합니다.
+     *
+     * @param fileName 입력 CSV 파일 이름
+     */
+    @Override
+    public void importCsv(String fileName) {
+        try {
+            StudentImporter.ImportReport report = StudentImporter.importCsv(Paths.get(fileName));
+            System.out.println(report);
+            for (String reject : report.getRejects()) System.out.println("\t" + reject);
+        } catch (IOException e) {
+            System.out.println("가져오기 실패");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 변경 이벤트로 유지되는 학생 성적 통계와 학생 캐시의 적중률, 켜져 있으면 캐시 무효화 채널의 전송 현황을 출력합니다.
+     */
+    @Override
+    public void statistics() {
+        StudentStatsView.getInstance().print();
+        System.out.println(StudentDAO.getInstance().cacheStats());
+        long fallbacks = StudentDAO.getInstance().getFallbacks();
+        if (fallbacks > 0) System.out.println("지연 시간 예산 초과로 캐시에서 응답한 조회: " + fallbacks + "회");
+        if (InvalidationBus.getInstance().isEnabled()) System.out.println(InvalidationBus.getInstance());
+    }
+
+    /**
+     * 학생 등급 정책을 바꾸고, 재채점에 걸린 시간과 등급별 인원, 적용된 기준 점수를 출력합니다.
+     *
+     * @param type    정책 종류 (1: 절대평가, 2: +/- 절대평가, 3: 상대평가)
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     */
+    @Override
+    public void gradingPolicy(int type, float[] weights) {
+        GradingPolicy policy;
+        switch (type) {
+            case 1: policy = CutoffGrading.standard(weights); break;
+            case 2: policy = CutoffGrading.plusMinus(weights); break;
+            case 3: policy = CurvedGrading.standard(weights); break;
+            default:
+                System.out.println("번호를 잘못 입력하셨습니다.");
+                return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            GradeKernel.Scores scores = StudentDAO.getInstance().setGradingPolicy(policy);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            String[] grades = policy.grades();
+            float[] cutoffs = policy.cutoffs();
+            int[] counts = scores.gradeCounts();
+            System.out.printf("%d명 재채점 완료 (%.1fms)\n", scores.size(), millis);
+            System.out.println("등급\t기준\t인원");
+            for (int g = 0; g < grades.length; g++) {
+                String cutoff = (g < cutoffs.length) ? String.format("%.2f", cutoffs[g]) : "-";
+                System.out.println(grades[g] + "\t" + cutoff + "\t" + counts[g]);
+            }
+            StudentStatsView.refreshIfAttached();
+            StudentBitmapIndex.refreshIfAttached();
+        } catch (SQLException e) {
+            System.out.println("재채점 실패");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 비트맵 인덱스로 조건식에 맞는 학생을 찾아 출력합니다.
+     *
+     * @param query 조건식 (예: {@code math>=90 & grade=A & science<60})
+     */
+    @Override
+    public void filter(String query) {
+        long start = System.nanoTime();
+        try {
+            List<StudentVO> students = StudentBitmapIndex.getInstance().filter(query);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            System.out.println("학번\t이름\t국어\t영어\t수학\t과학\t총점\t등급");
+            System.out.println("--------------------------------------------------");
+            for (StudentVO s : students) {
+                System.out.println(s.getSno() + "\t" + s.getName() + "\t" + s.getKorean() + "\t" + s.getEnglish()
+                        + "\t" + s.getMath() + "\t" + s.getScience() + "\t" + s.getTotal() + "\t" + s.getGrade());
+            }
+            System.out.printf("총 %d명 (%.1fms)\n", students.size(), millis);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 학생의 성적표를 만들고 처리량을 출력합니다.
+     * 템플릿 파일({@code report.template})과 동시 쓰기 파일 수({@code report.ioConcurrency})는 설정 파일을 따릅니다.
+     *
+     * @param output 출력 위치 ({@code .zip}이면 압축 파일 하나, 아니면 학생별 파일을 담을 디렉터리)
+     */
+    @Override
+    public void reportCards(String output) {
+        String template = DBUtil.getProperty("report.template", "");
+        try {
+            ReportCardGenerator.Report report = ReportCardGenerator.generate(Paths.get(output),
+                    template.isEmpty() ? null : Paths.get(template),
+                    Integer.parseInt(DBUtil.getProperty("report.ioConcurrency", "4")));
+            System.out.println(report);
+        } catch (IOException | SQLException | IllegalArgumentException e) {
+            System.out.println("성적표 생성 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 집단별 인원, 과목 평균, 총점 평균, 가중 평균, 등급 분포와 집계에 걸린 시간을 출력합니다.
+     *
+     * @param keyNum 집단 키 번호 ({@code cohort.keys} 설정 순서, 마지막은 등급)
+     */
+    @Override
+    public void cohorts(int keyNum) {
+        try {
+            List<CohortAggregator.Key> keys = CohortAggregator.Key.fromProperties();
+            if (keyNum < 1 || keyNum > keys.size()) {
+                System.out.println("번호를 잘못 입력하셨습니다.");
+                return;
+            }
+            CohortAggregator.Key key = keys.get(keyNum - 1);
+
+            long start = System.nanoTime();
+            List<CohortVO> cohorts = StudentDAO.getInstance().groupBy(key);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            System.out.println(key.getName() + "\t인원\t국어\t영어\t수학\t과학\t총점\t평균\t등급 분포");
+            System.out.println("--------------------------------------------------");
+            for (CohortVO cohort : cohorts) System.out.println(cohort);
+            System.out.printf("총 %d개 집단 (%.1fms)\n", cohorts.size(), millis);
+        } catch (SQLException | IllegalArgumentException e) {
+            System.out.println("집계 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 학생의 최근 학기별 점수와 직전 학기 대비 총점 변화를 출력합니다.
+     *
+     * @param sno   학번
+     * @param terms 최근 몇 학기를 볼지 (0 이하이면 전체)
+     */
+    @Override
+    public void scoreTrend(String sno, int terms) {
+        List<ScoreHistory.TermScores> trend = ScoreHistory.getInstance().trend(sno, terms);
+        if (trend.isEmpty()) {
+            System.out.println("성적 이력이 없습니다.");
+            return;
+        }
+
+        System.out.println("학기\t국어\t영어\t수학\t과학\t총점\t변화");
+        System.out.println("--------------------------------------------------");
+        Integer previous = null;
+        for (ScoreHistory.TermScores scores : trend) {
+            String change = (previous == null) ? "" : String.format("%+d", scores.getTotal() - previous);
+            System.out.println(scores + "\t" + change);
+            previous = scores.getTotal();
+        }
+    }
+
+    /**
+     * 최근 몇 학기 동안 총점이 가장 많이 오른 학생과 계산에 걸린 시간을 출력합니다.
+     *
+     * @param terms 비교할 최근 학기 수 (2 이상)
+     * @param limit 출력할 최대 학생 수
+     */
+    @Override
+    public void mostImproved(int terms, int limit) {
+        try {
+            long start = System.nanoTime();
+            List<ScoreHistory.Improvement> top = ScoreHistory.getInstance().mostImproved(terms, limit);
+            double millis = (System.nanoTime() - start) / 1e6;
+
+            System.out.println("학번\t기간\t총점\t변화");
+            System.out.println("--------------------------------------------------");
+            for (ScoreHistory.Improvement improvement : top) System.out.println(improvement);
+            System.out.printf("총 %d명 (%.1fms)\n", top.size(), millis);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * 이후의 점수 입력/수정을 기록할 학기를 바꾸고, 바뀐 학기와 이력 현황을 출력합니다.
+     *
+     * @param term 학기 (연도 * 10 + 학기, 예: 20252)
+     */
+    @Override
+    public void setTerm(int term) {
+        try {
+            ScoreHistory history = ScoreHistory.getInstance();
+            history.setTerm(term);
+            System.out.println(history);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
         }
     }
 }
@@ -0,0 +1,1105 @@
+package model;
+
+import util.BoundedCache;
+import util.Cache;
+import util.CacheStats;
+import util.DBUtil;
+import util.InvalidationBus;
+import util.LatencyBudget;
+import vo.PersonVO;
+import vo.Versioned;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * {@code AbstractDAO} 클래스는 학생, 정규직 직원, 시간제 직원 DAO가 공통으로 사용하는 기반 클래스입니다.
+ * <p>
+ * 하위 클래스는 SQL 문장, 파라미터 바인딩, {@link RowMapper}, 파생 값(총점, 임금 등) 계산만 정의하고,
+ * 다음 기능은 이 클래스가 공통으로 제공합니다:
+ * - 식별 번호를 키로 하는 크기 제한 캐시({@link BoundedCache}, W-TinyLFU)와 read-through 검색
+ *   (캐시에 있으면 O(1), 없으면 기본 키 조건 단건 조회 후 캐시에 적재).
+ *   쓰기는 데이터베이스에 먼저 반영한 뒤 캐시에 반영(write-through)하며, 테이블이 커져도 힙 사용량은 캐시 크기로 제한됩니다
+ * - 입력, 수정, 삭제, 전체 검색, 정렬
+ * - 여러 건을 한 번의 배치로 입력하는 {@link #inputAll(Collection)}
+ * - 읽기/쓰기 분리: 쓰기는 주 서버로, 전체 조회와 캐시 적재는 읽기용 복제본으로 보냅니다
+ * - 낙관적 동시성 제어: {@link Versioned} VO의 수정은 버전이 같을 때만 반영하고, 충돌하면
+ *   {@link OptimisticLockException}으로 알립니다
+ * - 작업 단위: 여러 입력/수정/삭제를 하나의 트랜잭션과 한 번의 커밋으로 묶는 {@link #begin()}
+ * - 변경 이벤트: 입력/수정/삭제마다 변경 전후 값을 담은 {@link ChangeEvent}를 링 버퍼로 구독자에게 전달합니다
+ *   ({@link #subscribe(ChangeListener)})
+ * - 샤딩: 단건 작업은 키가 속한 샤드로 보내고, 전체 조회는 모든 샤드에 병렬로 질의한 뒤
+ *   정렬 순서를 유지하며 k-way 병합합니다 ({@link #shardCount()}, {@link #shardOf(String)} 참고)
+ * - 인스턴스 간 캐시 무효화: 커밋된 변경의 키를 {@link InvalidationBus}로 다른 인스턴스에 알리고,
+ *   다른 인스턴스가 알린 키는 캐시에서 지웁니다. 복제본이 아직 그 변경을 받지 못했을 수 있으므로, 지운 키는
+ *   {@code replica.stickyMillis} 동안 주 서버에서 읽습니다. 변경 이벤트 구독자(집계 뷰 등)는 이 인스턴스의 변경만 받습니다
+ * - 지연 시간 예산: 단건 조회는 {@code budget.readMillis}, 단건 쓰기는 {@code budget.writeMillis} 안에 끝나야 하며
+ *   ({@link LatencyBudget}), 연결 대기와 질의 모두 이 시간을 넘기면 취소됩니다. 조회가 예산을 넘기거나 연결을 얻지 못하면
+ *   캐시에 남아 있는 값(만료된 값 포함)으로 대신 응답합니다. 전체 조회는 단건 예산 대신 {@code budget.scanMillis} 안에
+ *   모든 샤드의 질의를 열어야 하며, 넘기면 캐시에 있는 데이터만 보여줍니다
+ *
+ * @param <T> 관리 대상 VO 타입
+ */
+public abstract class AbstractDAO<T extends PersonVO> implements DBCommon {
+
+    /**
+     * 식별 번호를 키로 하는 데이터 캐시 (크기 제한, 자주 쓰이는 항목 우선 보관)
+     */
+    protected final Cache<String, T> cache = createCache();
+
+    /**
+     * 변경 이벤트를 구독자에게 전달하는 링 버퍼
+     */
+    private final ChangeRingBuffer<ChangeEvent<T>> events =
+            new ChangeRingBuffer<>(4096, getClass().getSimpleName() + "-events");
+
+    /**
+     * 다른 인스턴스와 변경된 키를 주고받는 무효화 채널
+     */
+    private final InvalidationBus peers = InvalidationBus.getInstance();
+
+    /**
+     * 다른 인스턴스의 무효화를 받을 때마다 증가하는 값.
+     * 조회하는 사이에 무효화가 도착하면 읽은 값이 이미 오래되었을 수 있으므로 캐시에 넣지 않는 데 사용합니다.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** 복제본이 주 서버의 변경을 따라잡는 데 걸릴 수 있는 시간(나노초), 읽기 고정 시간과 같습니다 */
+    private static final long REPLICA_LAG_NANOS =
+            Long.parseLong(DBUtil.getProperty("replica.stickyMillis", "2000")) * 1_000_000L;
+
+    /** 이 수를 넘으면 기한이 지난 항목을 정리합니다 */
+    private static final int PRIMARY_KEYS_PRUNE = 10_000;
+
+    /**
+     * 다른 인스턴스가 무효화한 키와, 그 키를 주 서버에서 읽어야 하는 기한({@link System#nanoTime()} 기준).
+     * 무효화 직후 복제본에서 읽으면 복제 지연 때문에 변경 전 값을 다시 캐시할 수 있습니다.
+     */
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    /** 전체 재동기화 후 모든 키를 주 서버에서 읽어야 하는 기한 */
+    private volatile long resyncUntil = System.nanoTime();
+
+    {
+        peers.register(getClass().getSimpleName(), new InvalidationBus.Handler() {
+            @Override
+            public void invalidate(Collection<String> keys) {
+                long now = System.nanoTime();
+                if (primaryUntil.size() > PRIMARY_KEYS_PRUNE) primaryUntil.values().removeIf(until -> now - until >= 0);
+
+                invalidations.incrementAndGet();
+                for (String key : keys) {
+                    // 캐시에서 지우기 전에 기록해야, 그사이 캐시를 놓친 조회도 주 서버로 갑니다.
+                    primaryUntil.put(key, now + REPLICA_LAG_NANOS);
+                    cache.remove(key);
+                }
+            }
+
+            @Override
+            public void resync() {
+                resyncUntil = System.nanoTime() + REPLICA_LAG_NANOS;
+                invalidations.incrementAndGet();
+                primaryUntil.clear();
+                cache.clear();
+            }
+        });
+    }
+
+    /** 단건 조회의 지연 시간 예산(밀리초) */
+    static final long READ_BUDGET_MILLIS = Long.parseLong(DBUtil.getProperty("budget.readMillis", "1000"));
+
+    /** 단건 쓰기의 지연 시간 예산(밀리초) */
+    static final long WRITE_BUDGET_MILLIS = Long.parseLong(DBUtil.getProperty("budget.writeMillis", "3000"));
+
+    /** 전체 조회가 모든 샤드의 질의를 여는 데 허용된 시간(밀리초, 0이면 제한 없음) */
+    static final long SCAN_BUDGET_MILLIS = Long.parseLong(DBUtil.getProperty("budget.scanMillis", "30000"));
+
+    /** 예산을 넘기거나 연결을 얻지 못해 캐시로 대신 응답한 조회 수 */
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    /** 한 번의 IN 조회로 미리 읽어올 최대 키 수 */
+    private static final int PREFETCH_SIZE = 100;
+
+    /**
+     * 샤드별 질의를 동시에 실행하기 위한 스레드 풀
+     */
+    private static final ExecutorService SCATTER = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "dao-scatter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 데이터가 나뉘어 저장된 샤드 수를 반환합니다. 기본값은 샤딩하지 않음(1)입니다.
+     *
+     * @return 샤드 수
+     */
+    protected int shardCount() {
+        return 1;
+    }
+
+    /**
+     * 식별 번호가 저장된 샤드 번호를 반환합니다.
+     *
+     * @param key 식별 번호
+     * @return 샤드 번호
+     */
+    protected int shardOf(String key) {
+        return 0;
+    }
+
+    /**
+     * 지정한 샤드의 연결을 반환합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 연결 객체
+     * @throws SQLException 연결을 얻지 못한 경우 (대기 시간 초과는 {@link java.sql.SQLTimeoutException})
+     */
+    protected Connection getConnection(int shard) throws SQLException {
+        return DBUtil.getConnection(shard);
+    }
+
+    /**
+     * 지정한 샤드의 읽기용 연결을 반환합니다. 복제본이 있으면 복제본 연결입니다.
+     *
+     * @param shard 샤드 번호
+     * @return 연결 객체
+     * @throws SQLException 연결을 얻지 못한 경우 (대기 시간 초과는 {@link java.sql.SQLTimeoutException})
+     */
+    protected Connection getReadConnection(int shard) throws SQLException {
+        return DBUtil.getReadConnection(shard);
+    }
+
+    /**
+     * 키를 읽을 연결을 반환합니다. 다른 인스턴스가 최근에 무효화한 키는 복제 지연 동안 주 서버에서 읽습니다.
+     *
+     * @param key 식별 번호
+     * @return 연결 객체
+     * @throws SQLException 연결을 얻지 못한 경우
+     */
+    private Connection readConnection(String key) throws SQLException {
+        return readFromPrimary(key) ? getConnection(shardOf(key)) : getReadConnection(shardOf(key));
+    }
+
+    /**
+     * @return 다른 인스턴스의 무효화 후 복제 지연 시간이 지나지 않아 주 서버에서 읽어야 하면 {@code true}
+     */
+    private boolean readFromPrimary(String key) {
+        long now = System.nanoTime();
+        if (now - resyncUntil < 0) return true;
+
+        Long until = primaryUntil.get(key);
+        if (until == null) return false;
+        if (now - until < 0) return true;
+        primaryUntil.remove(key, until);
+        return false;
+    }
+
+    /** @return 전체 행을 읽는 SELECT 문 (컬럼 순서는 {@link #mapper()}와 일치해야 합니다) */
+    protected abstract String selectSql();
+
+    /** @return 한 행을 추가하는 INSERT 문 */
+    protected abstract String insertSql();
+
+    /**
+     * 한 행을 추가하거나, 같은 식별 번호의 행이 있으면 수정하는 문장을 반환합니다.
+     * 파라미터 순서는 {@link #bindInsert(PreparedStatement, PersonVO)}와 같아야 합니다.
+     *
+     * @return {@code INSERT ... ON DUPLICATE KEY UPDATE} 문
+     */
+    protected abstract String upsertSql();
+
+    /** @return 식별 번호 컬럼 이름 (단건 조회의 WHERE 절에 사용) */
+    protected abstract String keyColumn();
+
+    /** @return 한 행을 수정하는 UPDATE 문 */
+    protected abstract String updateSql();
+
+    /** @return 식별 번호로 한 행을 삭제하는 DELETE 문 */
+    protected abstract String deleteSql();
+
+    /**
+     * 정렬 조건에 맞는 ORDER BY 절을 반환합니다.
+     *
+     * @param sortNum 정렬 조건 번호
+     * @return ORDER BY 절, 정렬하지 않으면 빈 문자열
+     */
+    protected abstract String orderBy(int sortNum);
+
+    /**
+     * 정렬 조건에 맞는 메모리 정렬 기준을 반환합니다.
+     *
+     * @param sortNum 정렬 조건 번호
+     * @return 정렬 기준, 정렬하지 않으면 {@code null}
+     */
+    protected abstract Comparator<T> comparator(int sortNum);
+
+    /** @return {@link #selectSql()}의 결과 행을 객체로 변환하는 매퍼 */
+    protected abstract RowMapper<T> mapper();
+
+    /**
+     * INSERT 문의 파라미터를 바인딩합니다.
+     *
+     * @param pstmt 바인딩할 문장
+     * @param vo    입력할 객체
+     */
+    protected abstract void bindInsert(PreparedStatement pstmt, T vo) throws SQLException;
+
+    /**
+     * UPDATE 문의 파라미터를 바인딩합니다.
+     *
+     * @param pstmt 바인딩할 문장
+     * @param vo    수정할 객체
+     */
+    protected abstract void bindUpdate(PreparedStatement pstmt, T vo) throws SQLException;
+
+    /**
+     * 객체의 식별 번호(학번, 사번)를 반환합니다.
+     *
+     * @param vo 대상 객체
+     * @return 식별 번호
+     */
+    protected abstract String keyOf(T vo);
+
+    /**
+     * 저장된 값으로부터 파생 값(총점, 평균, 임금 등)을 계산합니다.
+     *
+     * @param vo 대상 객체
+     */
+    protected abstract void derive(T vo);
+
+    /**
+     * 한 행을 출력용 문자열로 변환합니다.
+     *
+     * @param vo 출력할 객체
+     * @return 출력 문자열
+     */
+    protected abstract String format(T vo);
+
+    /** @return 검색 결과가 없을 때 출력할 메시지 */
+    protected abstract String notFoundMessage();
+
+    /**
+     * 캐시를 생성합니다. 기본값은 {@code cache.*} 설정을 따르는 {@link BoundedCache}입니다.
+     * 필드 초기화 중에 호출되므로 하위 클래스의 인스턴스 필드를 사용하면 안 됩니다.
+     *
+     * @return 이 DAO가 사용할 캐시
+     */
+    protected Cache<String, T> createCache() {
+        return BoundedCache.fromProperties();
+    }
+
+    /**
+     * 모든 샤드의 행을 정렬 조건 순서대로 하나씩 읽어 전달합니다.
+     * <p>
+     * 각 샤드에는 같은 ORDER BY 질의를 병렬로 실행하고, 결과 집합은 행 단위로 스트리밍합니다.
+     * 샤드마다 현재 행 하나만 메모리에 두고 우선순위 큐로 가장 앞선 행을 골라내는 k-way 병합이므로,
+     * 전체 행 수와 관계없이 샤드 수만큼의 행만 유지합니다.
+     * 병합은 각 샤드가 {@link #comparator(int)} 순서로 행을 돌려준다고 가정하므로, 샤드에서 읽은 연속된 두 행의 순서가
+     * 이 기준과 어긋나면(ORDER BY와 메모리 정렬 기준의 불일치) 어긋난 건수를 출력합니다.
+     *
+     * @param sortNum 정렬 조건 번호
+     * @param sink    행을 전달받을 소비자 (파생 값 계산이 끝난 객체)
+     * @throws SQLException 질의 실행에 실패한 경우
+     */
+    protected void scan(int sortNum, Consumer<? super T> sink) throws SQLException {
+        String sql = selectSql() + orderBy(sortNum);
+        LatencyBudget caller = LatencyBudget.current();
+
+        List<CompletableFuture<Cursor>> opening = new ArrayList<>();
+        for (int i = 0; i < shardCount(); i++) {
+            // 연결은 호출 스레드에서 빌려와야 세션 단위의 읽기 라우팅(read-your-writes)이 유지됩니다.
+            Connection conn;
+            try {
+                conn = getReadConnection(i);
+            } catch (SQLException e) {
+                // 다른 샤드에서 이미 연 커서는 아래에서 결과를 모은 뒤 닫습니다.
+                opening.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            opening.add(CompletableFuture.supplyAsync(() -> {
+                // 호출 스레드의 예산을 이어 받아 질의를 여는 데에만 적용합니다. 열린 뒤의 스트리밍은 제한하지 않습니다.
+                LatencyBudget budget = LatencyBudget.inherit(caller);
+                try {
+                    return new Cursor(conn, sql);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    budget.close();
+                }
+            }, SCATTER));
+        }
+
+        List<Cursor> cursors = new ArrayList<>();
+        SQLException failure = null;
+        for (CompletableFuture<Cursor> future : opening) {
+            try {
+                cursors.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = (e.getCause() instanceof SQLException)
+                            ? (SQLException) e.getCause() : new SQLException(e.getCause());
+                }
+            }
+        }
+
+        try {
+            if (failure != null) throw failure;
+
+            Comparator<T> order = comparator(sortNum);
+            if (order == null || cursors.size() == 1) {
+                for (Cursor cursor : cursors) {
+                    while (cursor.advance(order)) sink.accept(cursor.current);
+                }
+            } else {
+                PriorityQueue<Cursor> heap = new PriorityQueue<>(cursors.size(),
+                        (c1, c2) -> order.compare(c1.current, c2.current));
+                for (Cursor cursor : cursors) {
+                    if (cursor.advance(order)) heap.add(cursor);
+                }
+                while (!heap.isEmpty()) {
+                    Cursor cursor = heap.poll();
+                    sink.accept(cursor.current);
+                    if (cursor.advance(order)) heap.add(cursor);
+                }
+            }
+
+            long disordered = 0;
+            for (Cursor cursor : cursors) disordered += cursor.disordered;
+            if (disordered > 0) {
+                System.out.println("정렬 순서 불일치 " + disordered + "건: 데이터베이스의 정렬 순서와 메모리 정렬 기준이 다릅니다.");
+            }
+        } finally {
+            for (Cursor cursor : cursors) cursor.close();
+        }
+    }
+
+    /**
+     * 한 샤드의 정렬된 결과 집합을 앞에서부터 한 행씩 읽는 커서
+     */
+    private class Cursor implements AutoCloseable {
+        private final Connection conn;
+        private final PreparedStatement pstmt;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper = mapper();
+
+        /** 커서가 가리키는 현재 행 */
+        T current;
+
+        /** 정렬 기준보다 앞선 행이 뒤에 나온 횟수 */
+        long disordered;
+
+        Cursor(Connection conn, String sql) throws SQLException {
+            this.conn = conn;
+            try {
+                pstmt = conn.prepareStatement(sql);
+                // MySQL 드라이버가 결과 전체를 메모리에 올리지 않고 행 단위로 스트리밍하도록 합니다.
+                pstmt.setFetchSize(Integer.MIN_VALUE);
+                rs = pstmt.executeQuery();
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+        }
+
+        /**
+         * 다음 행으로 이동하고, 정렬 기준이 있으면 직전 행보다 앞서는지 확인합니다.
+         */
+        boolean advance(Comparator<T> order) throws SQLException {
+            if (!rs.next()) return false;
+            T previous = current;
+            current = mapper.map(rs);
+            derive(current);
+            if (order != null && previous != null && order.compare(previous, current) > 0) disordered++;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try { rs.close(); } catch (SQLException e) {}
+            try { pstmt.close(); } catch (SQLException e) {}
+            try { conn.close(); } catch (SQLException e) {}
+        }
+    }
+
+    /**
+     * 모든 샤드에 같은 질의를 병렬로 실행하고, 샤드별 결과 행을 하나의 목록으로 모아 반환합니다.
+     * 집계처럼 샤드마다 결과가 작은 질의에 사용하며, 행의 순서는 샤드 순서대로입니다.
+     *
+     * @param sql       실행할 SELECT 문
+     * @param rowMapper 결과 행 매퍼
+     * @param <R>       결과 행 타입
+     * @return 모든 샤드의 결과 행
+     * @throws SQLException 어느 한 샤드에서라도 질의 실행에 실패한 경우
+     */
+    protected <R> List<R> scatter(String sql, RowMapper<R> rowMapper) throws SQLException {
+        LatencyBudget caller = LatencyBudget.current();
+        List<CompletableFuture<List<R>>> running = new ArrayList<>();
+        for (int i = 0; i < shardCount(); i++) {
+            Connection conn;
+            try {
+                conn = getReadConnection(i);
+            } catch (SQLException e) {
+                running.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            running.add(CompletableFuture.supplyAsync(() -> {
+                List<R> rows = new ArrayList<>();
+                LatencyBudget budget = LatencyBudget.inherit(caller);
+                try (Connection c = conn;
+                     PreparedStatement pstmt = c.prepareStatement(sql);
+                     ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) rows.add(rowMapper.map(rs));
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    budget.close();
+                }
+                return rows;
+            }, SCATTER));
+        }
+
+        List<R> result = new ArrayList<>();
+        SQLException failure = null;
+        for (CompletableFuture<List<R>> future : running) {
+            try {
+                result.addAll(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = (e.getCause() instanceof SQLException)
+                            ? (SQLException) e.getCause() : new SQLException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) throw failure;
+        return result;
+    }
+
+    /**
+     * 데이터를 추가합니다.
+     *
+     * @param personVO 추가할 데이터
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void input(PersonVO personVO) {
+        T vo = (T) personVO;
+
+        LatencyBudget budget = LatencyBudget.start(WRITE_BUDGET_MILLIS);
+        try (Connection conn = writeConnection(keyOf(vo))) {
+            if (insertRow(conn, vo)) {
+                DBUtil.markWritten();
+                afterInsert(vo);
+            }
+        } catch (SQLTransientException e) {
+            writeFailed(keyOf(vo), e);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            budget.close();
+        }
+    }
+
+    /**
+     * 여러 건의 데이터를 하나의 배치로 추가합니다.
+     * 샤드별로 묶어 한 트랜잭션으로 전송하고 샤드마다 한 번만 커밋합니다.
+     *
+     * @param list 추가할 데이터 목록
+     * @return 커밋된 건수 (실패한 샤드가 있으면 목록 크기보다 작음)
+     */
+    public int inputAll(Collection<? extends T> list) {
+        return batchWrite(list, insertSql(), false);
+    }
+
+    /**
+     * 데이터를 추가하거나, 이미 있으면 수정합니다.
+     * 한 번의 문장으로 처리하며, 추가인지 수정인지는 문장이 반환한 영향받은 행 수로 구분합니다.
+     * 변경 이벤트 구독자가 있으면 변경 전 값을 같은 트랜잭션에서 잠가 읽으므로 문장이 하나 더 실행됩니다.
+     *
+     * @param vo 추가 또는 수정할 데이터
+     */
+    public void upsert(T vo) {
+        boolean notify = events.hasSubscribers();
+
+        LatencyBudget budget = LatencyBudget.start(WRITE_BUDGET_MILLIS);
+        try (Connection conn = writeConnection(keyOf(vo))) {
+            T before = null;
+            if (notify) {
+                conn.setAutoCommit(false);
+                before = lockRow(conn, keyOf(vo));
+            }
+
+            int affected;
+            try (PreparedStatement pstmt = conn.prepareStatement(upsertSql())) {
+                bindInsert(pstmt, vo);
+                affected = pstmt.executeUpdate();
+            }
+            if (notify) conn.commit();
+            DBUtil.markWritten();
+
+            derive(vo);
+            // 기존 행이 수정되었다면 데이터베이스의 버전을 알 수 없으므로 다음 조회 때 다시 읽습니다.
+            if (vo instanceof Versioned) cache.remove(keyOf(vo));
+            else cache.put(keyOf(vo), vo);
+            // ON DUPLICATE KEY UPDATE는 추가하면 1, 기존 행을 바꾸면 2, 바뀐 값이 없으면 0을 반환합니다.
+            if (affected == 1) publish(ChangeEvent.Type.INSERTED, keyOf(vo), null, vo);
+            else if (affected > 1) publish(ChangeEvent.Type.UPDATED, keyOf(vo), before, vo);
+        } catch (SQLTransientException e) {
+            writeFailed(keyOf(vo), e);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            budget.close();
+        }
+    }
+
+    /**
+     * 여러 건의 데이터를 추가하거나, 이미 있으면 수정합니다.
+     * 샤드별로 하나의 배치로 전송하고 샤드마다 한 번만 커밋합니다.
+     *
+     * @param list 추가 또는 수정할 데이터 목록
+     * @return 커밋된 건수 (실패한 샤드가 있으면 목록 크기보다 작음)
+     */
+    public int merge(Collection<? extends T> list) {
+        return batchWrite(list, upsertSql(), true);
+    }
+
+    /**
+     * 데이터 목록을 샤드별로 묶어 배치 실행하고, 커밋에 성공한 샤드의 데이터만 캐시에 반영합니다.
+     * 드라이버의 배치 재작성({@code rewriteBatchedStatements})으로 배치는 다중 행 문장 하나로 전송됩니다.
+     * 한 샤드가 실패해도 나머지 샤드는 기록하며, 실패한 샤드의 건수는 반환값에서 빠집니다.
+     *
+     * @param list   기록할 데이터 목록
+     * @param sql    {@link #bindInsert(PreparedStatement, PersonVO)} 순서의 파라미터를 받는 문장
+     * @param upsert 기존 행을 수정할 수 있는 문장인지 여부 (구독자가 있으면 샤드 트랜잭션에서 변경 전 값을 잠가 읽음)
+     * @return 커밋된 건수
+     */
+    private int batchWrite(Collection<? extends T> list, String sql, boolean upsert) {
+        if (list.isEmpty()) return 0;
+
+        boolean notify = events.hasSubscribers();
+        Map<Integer, List<T>> byShard = new HashMap<>();
+        for (T vo : list) byShard.computeIfAbsent(shardOf(keyOf(vo)), k -> new ArrayList<>()).add(vo);
+
+        int written = 0;
+        for (Map.Entry<Integer, List<T>> entry : byShard.entrySet()) {
+            try (Connection conn = getConnection(entry.getKey());
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                conn.setAutoCommit(false);
+                Map<String, T> befores = (notify && upsert) ? lockRows(conn, entry.getValue()) : Map.of();
+                for (T vo : entry.getValue()) {
+                    bindInsert(pstmt, vo);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+                DBUtil.markWritten();
+
+                for (T vo : entry.getValue()) {
+                    derive(vo);
+                    // 기존 행을 수정했을 수 있는 버전 관리 VO는 버전을 알 수 없으므로 캐시에서 내립니다.
+                    if (upsert && vo instanceof Versioned) cache.remove(keyOf(vo));
+                    else cache.put(keyOf(vo), vo);
+
+                    peers.invalidate(getClass().getSimpleName(), keyOf(vo));
+                    if (notify) {
+                        T before = befores.get(keyOf(vo));
+                        events.publish(before != null
+                                ? new ChangeEvent<>(ChangeEvent.Type.UPDATED, keyOf(vo), before, vo)
+                                : new ChangeEvent<>(ChangeEvent.Type.INSERTED, keyOf(vo), null, vo));
+                    }
+                }
+                written += entry.getValue().size();
+            } catch (SQLException e) {
+                // 커밋 응답을 받지 못했을 수도 있으므로 캐시에서 내려 다음 조회 때 다시 읽습니다.
+                for (T vo : entry.getValue()) cache.remove(keyOf(vo));
+                System.out.println("저장하지 못했습니다 (샤드 " + entry.getKey() + ", "
+                        + entry.getValue().size() + "건): " + e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 데이터를 수정합니다.
+     *
+     * @param personVO 수정할 데이터
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void update(PersonVO personVO) {
+        T vo = (T) personVO;
+        boolean notify = events.hasSubscribers();
+
+        LatencyBudget budget = LatencyBudget.start(WRITE_BUDGET_MILLIS);
+        try (Connection conn = writeConnection(keyOf(vo))) {
+            T before = null;
+            if (notify) {
+                conn.setAutoCommit(false);
+                before = lockRow(conn, keyOf(vo));
+            }
+            // 수정하지 못하면 커밋하지 않은 채 반납되어 연결 풀이 롤백합니다.
+            if (updateRow(conn, vo)) {
+                if (notify) conn.commit();
+                DBUtil.markWritten();
+                afterUpdate(before, vo);
+            }
+        } catch (OptimisticLockException e) {
+            // 오래된 값이 다시 쓰이지 않도록 캐시에서 내리고, 덮어쓰지 않은 채 충돌을 알립니다.
+            cache.remove(e.getKey());
+            System.out.println(e.getMessage());
+            System.out.println("다시 조회한 뒤 수정해 주세요.");
+        } catch (SQLTransientException e) {
+            writeFailed(keyOf(vo), e);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            budget.close();
+        }
+    }
+
+    /**
+     * 데이터를 삭제합니다.
+     *
+     * @param deleteNum 삭제할 데이터의 식별 번호
+     */
+    @Override
+    public void delete(String deleteNum) {
+        boolean notify = events.hasSubscribers();
+
+        LatencyBudget budget = LatencyBudget.start(WRITE_BUDGET_MILLIS);
+        try (Connection conn = writeConnection(deleteNum)) {
+            T before = null;
+            if (notify) {
+                conn.setAutoCommit(false);
+                before = lockRow(conn, deleteNum);
+            }
+            if (deleteRow(conn, deleteNum)) {
+                if (notify) conn.commit();
+                DBUtil.markWritten();
+                afterDelete(deleteNum, before);
+            }
+        } catch (SQLTransientException e) {
+            writeFailed(deleteNum, e);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            budget.close();
+        }
+    }
+
+    /**
+     * 키가 속한 샤드의 주 서버 연결을 빌려옵니다.
+     *
+     * @throws SQLException 연결을 얻지 못한 경우 (대기 시간 초과와 접속 실패 모두 {@link SQLTransientException})
+     */
+    Connection writeConnection(String key) throws SQLException {
+        return getConnection(shardOf(key));
+    }
+
+    /**
+     * 예산 초과나 연결 실패로 끝난 쓰기를 알립니다. 취소된 문장이 반영되었는지 알 수 없으므로 캐시에서 내려 다음 조회 때 다시 읽습니다.
+     */
+    void writeFailed(String key, SQLException e) {
+        cache.remove(key);
+        System.out.println("저장하지 못했습니다: " + e.getMessage());
+    }
+
+    /**
+     * 여러 입력/수정/삭제를 하나의 트랜잭션으로 묶는 작업 단위를 시작합니다.
+     *
+     * @return 새 작업 단위
+     */
+    public UnitOfWork<T> begin() {
+        return new UnitOfWork<>(this);
+    }
+
+    /**
+     * 주어진 연결의 트랜잭션에서 행을 잠그고({@code FOR UPDATE}) 읽습니다.
+     * 변경 이벤트의 변경 전 값을 쓰기와 같은 트랜잭션에서 얻는 데 사용하며, 캐시에는 넣지 않습니다.
+     * 행이 없어도 그 키의 간격이 잠기므로, 커밋할 때까지 다른 트랜잭션이 같은 키를 추가하지 못합니다.
+     *
+     * @return 현재 값, 없으면 {@code null}
+     */
+    T lockRow(Connection conn, String key) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                selectSql() + " WHERE " + keyColumn() + " = ? FOR UPDATE")) {
+            pstmt.setString(1, key);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) return null;
+                T vo = mapper().map(rs);
+                derive(vo);
+                return vo;
+            }
+        }
+    }
+
+    /**
+     * 주어진 연결의 트랜잭션에서 여러 행을 잠그고 읽습니다. 자리표시자 수는 {@link #prefetch(Collection)}와 같이 고정합니다.
+     *
+     * @return 식별 번호별 현재 값 (없는 키는 포함하지 않음)
+     */
+    private Map<String, T> lockRows(Connection conn, List<? extends T> list) throws SQLException {
+        Map<String, T> found = new HashMap<>();
+        RowMapper<T> mapper = mapper();
+        try (PreparedStatement pstmt = conn.prepareStatement(inSql() + " FOR UPDATE")) {
+            for (int from = 0; from < list.size(); from += PREFETCH_SIZE) {
+                int to = Math.min(list.size(), from + PREFETCH_SIZE);
+                for (int i = 0; i < PREFETCH_SIZE; i++) pstmt.setString(i + 1, keyOf(list.get(Math.min(from + i, to - 1))));
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        T vo = mapper.map(rs);
+                        derive(vo);
+                        found.put(keyOf(vo), vo);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return 자리표시자 {@value #PREFETCH_SIZE}개의 {@code IN} 조건으로 행을 읽는 SELECT 문
+     */
+    private String inSql() {
+        StringBuilder sql = new StringBuilder(selectSql()).append(" WHERE ").append(keyColumn()).append(" IN (?");
+        for (int i = 1; i < PREFETCH_SIZE; i++) sql.append(", ?");
+        return sql.append(')').toString();
+    }
+
+    /**
+     * 주어진 연결에서 추가 문장을 실행합니다. 캐시와 변경 이벤트에는 반영하지 않습니다.
+     *
+     * @return 추가된 행이 있으면 {@code true}
+     */
+    boolean insertRow(Connection conn, T vo) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(insertSql())) {
+            bindInsert(pstmt, vo);
+            return pstmt.executeUpdate() != 0;
+        }
+    }
+
+    /**
+     * 주어진 연결에서 수정 문장을 실행합니다. 캐시와 변경 이벤트에는 반영하지 않습니다.
+     * {@link Versioned} VO는 버전이 일치할 때만 수정되고, 성공하면 VO의 버전을 1 올립니다.
+     *
+     * @return 수정된 행이 있으면 {@code true}, 해당 데이터가 없으면 {@code false}
+     * @throws OptimisticLockException 데이터는 있지만 버전이 달라 수정하지 않은 경우
+     */
+    boolean updateRow(Connection conn, T vo) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(updateSql())) {
+            bindUpdate(pstmt, vo);
+            if (pstmt.executeUpdate() != 0) {
+                if (vo instanceof Versioned) ((Versioned) vo).setVersion(((Versioned) vo).getVersion() + 1);
+                return true;
+            }
+        }
+        if (!(vo instanceof Versioned)) return false;
+
+        // 수정된 행이 없으면 데이터가 없는 것인지 버전이 다른 것인지 같은 연결에서 확인합니다.
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSql() + " WHERE " + keyColumn() + " = ?")) {
+            pstmt.setString(1, keyOf(vo));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) throw new OptimisticLockException(keyOf(vo), ((Versioned) vo).getVersion());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 주어진 연결에서 삭제 문장을 실행합니다. 캐시와 변경 이벤트에는 반영하지 않습니다.
+     *
+     * @return 삭제된 행이 있으면 {@code true}
+     */
+    boolean deleteRow(Connection conn, String key) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(deleteSql())) {
+            pstmt.setString(1, key);
+            return pstmt.executeUpdate() != 0;
+        }
+    }
+
+    /**
+     * 커밋된 추가를 캐시와 변경 이벤트에 반영합니다.
+     */
+    void afterInsert(T vo) {
+        derive(vo);
+        cache.put(keyOf(vo), vo);
+        publish(ChangeEvent.Type.INSERTED, keyOf(vo), null, vo);
+    }
+
+    /**
+     * 커밋된 수정을 캐시와 변경 이벤트에 반영합니다.
+     */
+    void afterUpdate(T before, T vo) {
+        derive(vo);
+        cache.put(keyOf(vo), vo);
+        publish(ChangeEvent.Type.UPDATED, keyOf(vo), before, vo);
+    }
+
+    /**
+     * 커밋된 삭제를 캐시와 변경 이벤트에 반영합니다.
+     */
+    void afterDelete(String key, T before) {
+        cache.remove(key);
+        publish(ChangeEvent.Type.DELETED, key, before, null);
+    }
+
+    /**
+     * 커밋 여부를 알 수 없는 행을 캐시에서 내려 다음 조회 때 다시 읽게 합니다.
+     */
+    void evict(String key) {
+        cache.remove(key);
+    }
+
+    /**
+     * 변경 이벤트 구독자가 있는지 확인합니다.
+     */
+    boolean hasSubscribers() {
+        return events.hasSubscribers();
+    }
+
+    /**
+     * 변경 이벤트 구독자를 등록합니다.
+     * 구독자가 있는 동안에는 수정/삭제/병합 시 변경 전 값을 얻기 위해 쓰기와 같은 트랜잭션에서 행을 잠가 읽으므로,
+     * 쓰기마다 조회 문장이 하나 더 실행됩니다.
+     *
+     * @param listener 변경 이벤트를 받을 구독자
+     */
+    public void subscribe(ChangeListener<T> listener) {
+        events.subscribe(listener::onChange);
+    }
+
+    /**
+     * 지금까지 발생한 변경 이벤트가 모든 구독자에게 전달될 때까지 기다립니다.
+     */
+    public void flushEvents() {
+        events.flush();
+    }
+
+    /**
+     * 변경 이벤트를 발행하고, 다른 인스턴스에 보낼 키 무효화를 예약합니다. 구독자가 없으면 이벤트는 만들지 않습니다.
+     *
+     * @param type   변경 종류
+     * @param key    식별 번호
+     * @param before 변경 전 값
+     * @param after  변경 후 값
+     */
+    protected void publish(ChangeEvent.Type type, String key, T before, T after) {
+        peers.invalidate(getClass().getSimpleName(), key);
+        if (events.hasSubscribers()) events.publish(new ChangeEvent<>(type, key, before, after));
+    }
+
+    /**
+     * 여러 키의 현재 값을 한꺼번에 찾습니다. 캐시에 없는 키는 샤드별 {@code IN} 조회로 읽어 캐시에 적재합니다.
+     * 문장 캐시가 재사용되도록 자리표시자 수를 {@value #PREFETCH_SIZE}개로 고정하고 남는 자리는 마지막 키로 채웁니다.
+     * 캐시 크기보다 많은 키를 요청해도 결과는 반환값에 모두 담깁니다.
+     *
+     * @param keys 찾을 식별 번호 목록
+     * @return 식별 번호별 현재 값 (없는 키는 포함하지 않음)
+     * @throws SQLException 어느 한 샤드에서라도 조회에 실패한 경우
+     */
+    protected Map<String, T> prefetch(Collection<String> keys) throws SQLException {
+        return read(keys, true);
+    }
+
+    /**
+     * 여러 키의 현재 값을 캐시를 거치지 않고 데이터베이스에서 읽습니다. 읽은 값은 캐시에 넣지 않습니다.
+     * 캐시된 객체에 없는 컬럼(정렬 키 등)을 채울 때 사용합니다.
+     *
+     * @param keys 읽을 식별 번호 목록
+     * @return 식별 번호별 데이터베이스의 값 (없는 키는 포함하지 않음)
+     * @throws SQLException 어느 한 샤드에서라도 조회에 실패한 경우
+     */
+    protected Map<String, T> reload(Collection<String> keys) throws SQLException {
+        return read(keys, false);
+    }
+
+    private Map<String, T> read(Collection<String> keys, boolean cached) throws SQLException {
+        Map<String, T> found = new HashMap<>();
+        Map<Integer, List<String>> byShard = new HashMap<>();
+        for (String key : keys) {
+            T hit = cached ? cache.peek(key) : null;
+            if (hit != null) found.put(key, hit);
+            else byShard.computeIfAbsent(shardOf(key), k -> new ArrayList<>()).add(key);
+        }
+        if (byShard.isEmpty()) return found;
+
+        String sql = inSql();
+        RowMapper<T> mapper = mapper();
+        for (Map.Entry<Integer, List<String>> entry : byShard.entrySet()) {
+            List<String> shardKeys = entry.getValue();
+            boolean primary = false;
+            for (String key : shardKeys) primary |= readFromPrimary(key);
+
+            try (Connection conn = primary ? getConnection(entry.getKey()) : getReadConnection(entry.getKey());
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (int from = 0; from < shardKeys.size(); from += PREFETCH_SIZE) {
+                    int to = Math.min(shardKeys.size(), from + PREFETCH_SIZE);
+                    for (int i = 0; i < PREFETCH_SIZE; i++) pstmt.setString(i + 1, shardKeys.get(Math.min(from + i, to - 1)));
+
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            T vo = mapper.map(rs);
+                            derive(vo);
+                            T raced = cached ? cache.putIfAbsent(keyOf(vo), vo) : null;
+                            found.put(keyOf(vo), (raced != null) ? raced : vo);
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 전체 데이터를 특정 조건에 따라 정렬하여 출력합니다.
+     *
+     * @param sortNum 정렬 조건을 나타내는 번호
+     */
+    @Override
+    public void totalSearch(int sortNum) {
+        LatencyBudget budget = LatencyBudget.start(SCAN_BUDGET_MILLIS);
+        try {
+            scan(sortNum, vo -> System.out.println(format(vo)));
+        } catch (SQLTransientException e) {
+            fallbacks.incrementAndGet();
+            List<T> cached = sort(sortNum);
+            for (T vo : cached) System.out.println(format(vo));
+            System.out.println("조회 지연(" + e.getMessage() + "): 캐시에 있는 " + cached.size() + "건만 표시했습니다.");
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            budget.close();
+        }
+    }
+
+    /**
+     * 식별 번호로 데이터를 찾습니다.
+     * <p>
+     * 캐시에 있으면 바로 반환하고, 없으면 키가 속한 샤드에 기본 키 조건({@code WHERE key = ?})으로
+     * 한 행만 조회하여 캐시에 적재한 뒤 반환합니다. 한 건을 찾기 위해 전체 테이블을 읽지 않습니다.
+     * 조회가 {@code budget.readMillis}를 넘기거나 연결을 얻지 못하면 캐시에 남아 있는 만료된 값으로 대신 응답합니다.
+     *
+     * @param key 식별 번호
+     * @return 찾은 객체, 없으면 {@code null}
+     */
+    @Override
+    public T find(String key) {
+        T cached = cache.get(key);
+        if (cached != null) return cached;
+
+        long epoch = invalidations.get();
+        LatencyBudget budget = LatencyBudget.start(READ_BUDGET_MILLIS);
+        try (Connection conn = readConnection(key)) {
+            return load(conn, key, epoch);
+        } catch (SQLTransientException e) {
+            fallbacks.incrementAndGet();
+            T stale = cache.peekStale(key);
+            System.out.println("조회 지연(" + e.getMessage() + "): "
+                    + (stale != null ? "캐시에 남아 있는 값으로 응답합니다." : "캐시에도 없습니다."));
+            return stale;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            budget.close();
+        }
+    }
+
+    /**
+     * 한 행을 조회하여 캐시에 적재합니다.
+     *
+     * @param epoch 조회 시작 전의 무효화 횟수
+     */
+    private T load(Connection conn, String key, long epoch) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(selectSql() + " WHERE " + keyColumn() + " = ?")) {
+            pstmt.setString(1, key);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) return null;
+
+                T vo = mapper().map(rs);
+                derive(vo);
+                // 조회하는 사이 다른 인스턴스의 무효화가 도착했으면 읽은 값이 오래되었을 수 있으므로 캐시하지 않습니다.
+                if (invalidations.get() != epoch) return vo;
+                // 조회하는 사이 다른 스레드가 적재/수정한 값이 있으면 그 값을 우선합니다.
+                T raced = cache.putIfAbsent(key, vo);
+                return (raced != null) ? raced : vo;
+            }
+        }
+    }
+
+    /**
+     * 특정 데이터를 식별 번호로 검색하여 출력합니다.
+     *
+     * @param searchNum 검색할 식별 번호
+     */
+    @Override
+    public void search(String searchNum) {
+        T vo = find(searchNum);
+        if (vo != null) System.out.println(format(vo));
+        else System.out.println(notFoundMessage());
+    }
+
+    /**
+     * 캐시에 올라와 있는 데이터를 정렬한 목록을 반환합니다.
+     * 캐시는 크기가 제한되어 전체 데이터를 담지 않으므로, 전체 데이터를 정렬된 순서로 보려면
+     * {@link #scan(int, Consumer)}를 사용합니다. 캐시의 교체 순서에는 영향을 주지 않습니다.
+     *
+     * @param sortNum 정렬 조건을 나타내는 번호
+     * @return 정렬된 목록, 정렬 조건이 없으면 캐시 순서 그대로의 목록
+     */
+    @Override
+    public List<T> sort(int sortNum) {
+        List<T> sorted = cache.values();
+        Comparator<T> comparator = comparator(sortNum);
+        if (comparator != null) {
+            prepareSort(sorted, sortNum);
+            sorted.sort(comparator);
+        }
+        return sorted;
+    }
+
+    /**
+     * 캐시의 데이터를 메모리에서 정렬하기 전에 호출됩니다. 정렬 기준에 필요한 값이 비어 있는 객체를 채울 때 사용합니다.
+     * 기본 구현은 아무것도 하지 않습니다.
+     *
+     * @param list    정렬할 목록
+     * @param sortNum 정렬 조건 번호
+     */
+    protected void prepareSort(List<T> list, int sortNum) {
+    }
+
+    /**
+     * @return 캐시의 적중률 등 누적 통계
+     */
+    public CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return 지연 시간 예산을 넘기거나 연결을 얻지 못해 캐시로 대신 응답한 조회 수
+     */
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+}
@@ -0,0 +1,317 @@
+package model;
+
+import util.DBUtil;
+import vo.PersonVO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@code AuditLog} 클래스는 DAO를 통한 모든 입력/수정/삭제를 누가, 언제, 무엇을 어떻게 바꾸었는지 파일로 남기는 감사 로그입니다.
+ * <p>
+ * DAO의 변경 이벤트({@link ChangeEvent})를 구독하여, 이벤트 전달 스레드는 이벤트를 락 없는 큐({@link ConcurrentLinkedQueue})에
+ * 넣기만 하고, 직렬화와 압축, 파일 쓰기는 전용 기록 스레드가 담당합니다.
+ * 다만 구독하는 동안 DAO는 변경 전 값을 얻기 위해 쓰기마다 대상 행을 잠가 읽으므로, 쓰기 경로에 조회 문장 하나와 이벤트 발행이 더해집니다.
+ * 그래서 기본값은 꺼져 있습니다({@code audit.enabled}).
+ * <p>
+ * 기록은 한 줄에 변경 하나의 JSON 객체(시각, 수행자, 대상, 변경 종류, 식별 번호, 변경 전/후 값)이며,
+ * {@code audit.dir} 아래 {@code audit-날짜-번호.jsonl.gz} 파일에 gzip으로 압축되어 쌓입니다.
+ * 날짜가 바뀌거나 압축 전 크기(UTF-8 바이트)가 {@code audit.maxMegabytes}를 넘으면 새 파일로 넘어갑니다.
+ * 큐가 비어 있으면 최대 {@value #FLUSH_MILLIS}ms마다 압축 스트림을 동기화 flush하므로 비정상 종료 시에도 그 이전의 기록은 읽을 수 있고,
+ * 정상 종료 시에는 남은 이벤트를 모두 기록한 뒤 파일을 닫습니다.
+ * 쓰기에 실패하면 새 파일을 열어 마지막 flush 이후의 줄과 실패한 변경을 다시 씁니다.
+ * 이때 실패한 파일과 새 파일에 같은 줄이 겹칠 수는 있어도 빠지지는 않습니다.
+ * 감사 기록은 버리지 않으므로 큐에는 크기 제한이 없습니다.
+ */
+public class AuditLog {
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /** 큐가 비었을 때 기록 스레드가 쉬는 시간 */
+    private static final long IDLE_MILLIS = 20;
+
+    /** 압축 스트림을 flush하는 최소 간격 (짧을수록 압축 블록이 작아짐) */
+    private static final long FLUSH_MILLIS = 200;
+
+    /** flush하지 않고 쌓아 둘 수 있는 최대 줄 수 (큐가 계속 차 있어도 이만큼마다 flush) */
+    private static final int MAX_UNFLUSHED = 4096;
+
+    /** 싱글톤(Singleton)으로 구현된 감사 로그 인스턴스 */
+    private static AuditLog log;
+
+    private final Path dir;
+    private final long maxBytes;
+    private final String actor;
+
+    /** 기록 대기 중인 변경 */
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+
+    /** 구독 중인 DAO (종료 시 전달되지 않은 이벤트를 비우기 위해 보관) */
+    private final List<AbstractDAO<?>> attached = new CopyOnWriteArrayList<>();
+
+    private final Thread appender;
+    private volatile boolean closing;
+
+    private final AtomicLong written = new AtomicLong();
+
+    private Writer out;
+    private LocalDate day;
+    private int fileIndex;
+    private long fileBytes;
+
+    /** 마지막 flush 이후 현재 파일에 쓴 줄 (쓰기에 실패하면 새 파일에 다시 씀) */
+    private final List<String> unflushed = new ArrayList<>();
+
+    /**
+     * 큐에 담기는 변경 한 건과 그 값을 문자열로 바꿀 DAO
+     */
+    private static class Entry {
+        final AbstractDAO<?> dao;
+        final ChangeEvent<?> event;
+
+        Entry(AbstractDAO<?> dao, ChangeEvent<?> event) {
+            this.dao = dao;
+            this.event = event;
+        }
+    }
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     */
+    private AuditLog(String dir, long maxMegabytes, String actor) {
+        this.dir = Paths.get(dir);
+        this.maxBytes = maxMegabytes * 1024 * 1024;
+        this.actor = actor;
+
+        appender = new Thread(this::appendLoop, "audit-log");
+        appender.setDaemon(true);
+        appender.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "audit-log-close"));
+    }
+
+    /**
+     * 감사 로그 인스턴스를 반환하는 싱글톤(Singleton) 메서드
+     *
+     * @return {@code AuditLog} 인스턴스
+     */
+    public static synchronized AuditLog getInstance() {
+        if (log == null) {
+            String actor = DBUtil.getProperty("audit.actor", "");
+            log = new AuditLog(
+                    DBUtil.getProperty("audit.dir", "audit"),
+                    Long.parseLong(DBUtil.getProperty("audit.maxMegabytes", "16")),
+                    actor.isEmpty() ? System.getProperty("user.name") : actor);
+        }
+        return log;
+    }
+
+    /**
+     * {@code audit.enabled} 설정이 켜져 있으면 학생, 정규직, 시간제 DAO의 변경을 기록하기 시작합니다.
+     */
+    public static void start() {
+        if (!Boolean.parseBoolean(DBUtil.getProperty("audit.enabled", "false"))) return;
+
+        AuditLog audit = getInstance();
+        audit.attach(StudentDAO.getInstance());
+        audit.attach(FulltimeDAO.getInstance());
+        audit.attach(ParttimeDAO.getInstance());
+    }
+
+    /**
+     * DAO의 변경 이벤트를 구독하여 기록 대상에 추가합니다.
+     * 구독자가 생기면 DAO는 수정/삭제 전에 변경 전 값을 조회하므로, 변경 전 값이 함께 기록됩니다.
+     *
+     * @param dao 기록할 DAO
+     * @param <T> VO 타입
+     */
+    public <T extends PersonVO> void attach(AbstractDAO<T> dao) {
+        attached.add(dao);
+        dao.subscribe(event -> queue.offer(new Entry(dao, event)));
+    }
+
+    /**
+     * @return 지금까지 파일에 기록한 변경 수
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * 큐에서 변경을 꺼내 파일에 쓰는 백그라운드 루프입니다.
+     * 큐가 비면 잠시 쉬었다가 다시 확인하므로 발행하는 쪽은 기록 스레드를 깨우지 않으며,
+     * flush는 큐가 비었을 때 {@value #FLUSH_MILLIS}ms에 한 번만 하여 몰려드는 변경은 큰 압축 블록으로 내보냅니다.
+     */
+    private void appendLoop() {
+        StringBuilder line = new StringBuilder(256);
+        long lastFlush = System.nanoTime();
+        Entry retry = null;
+        while (true) {
+            Entry entry = (retry != null) ? retry : queue.poll();
+            retry = null;
+            try {
+                if (entry == null) {
+                    boolean closed = closing;
+                    if (!unflushed.isEmpty() && (closed || System.nanoTime() - lastFlush >= FLUSH_MILLIS * 1_000_000L)) {
+                        flush();
+                        lastFlush = System.nanoTime();
+                    }
+                    if (closed && queue.isEmpty()) {
+                        if (out != null) out.close();
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_MILLIS * 1_000_000L);
+                    continue;
+                }
+
+                line.setLength(0);
+                format(line, entry);
+                String text = line.toString();
+                int bytes = utf8Length(text);
+                roll(bytes);
+                out.write(text);
+                fileBytes += bytes;
+                unflushed.add(text);
+                written.incrementAndGet();
+                entry = null;
+
+                if (unflushed.size() >= MAX_UNFLUSHED) {
+                    flush();
+                    lastFlush = System.nanoTime();
+                }
+            } catch (IOException e) {
+                System.out.println("감사 로그 기록 실패: " + e.getMessage());
+                // 스트림 상태를 알 수 없으므로 닫고, 다음 기록 때 새 파일을 열어 flush되지 않은 줄과 이 변경을 다시 씁니다.
+                retry = entry;
+                abandon();
+                LockSupport.parkNanos(1_000_000_000L);
+            }
+        }
+    }
+
+    /**
+     * 압축 스트림을 동기화 flush합니다. 이전 파일에 쓰기를 실패했다면 새 파일을 열어 남은 줄을 다시 쓴 뒤 flush합니다.
+     */
+    private void flush() throws IOException {
+        if (out == null) roll(0);
+        out.flush();
+        unflushed.clear();
+    }
+
+    /**
+     * 쓰기에 실패한 파일을 닫습니다. 닫다가 나는 오류는 무시합니다.
+     */
+    private void abandon() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // 이미 실패한 파일이며, flush되지 않은 줄은 새 파일에 다시 씁니다.
+        }
+        out = null;
+    }
+
+    /**
+     * 날짜가 바뀌었거나 파일이 최대 크기를 넘었거나 이전 파일에 쓰기를 실패했으면 새 파일을 엽니다.
+     * 실패한 파일에서 flush되지 않았던 줄은 새 파일에 먼저 다시 씁니다.
+     */
+    private void roll(int nextBytes) throws IOException {
+        LocalDate today = LocalDate.now();
+        if (out != null && today.equals(day) && fileBytes + nextBytes <= maxBytes) return;
+
+        if (out != null) {
+            out.close();
+            out = null;
+            unflushed.clear();
+        }
+        if (!today.equals(day)) {
+            day = today;
+            fileIndex = 0;
+        }
+
+        Files.createDirectories(dir);
+        Path file;
+        do {
+            file = dir.resolve("audit-" + DAY.format(day) + "-" + (fileIndex++) + ".jsonl.gz");
+        } while (Files.exists(file));
+
+        OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024, true);
+        out = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+        fileBytes = 0;
+
+        for (String text : unflushed) {
+            out.write(text);
+            fileBytes += utf8Length(text);
+        }
+    }
+
+    /**
+     * 문자열을 UTF-8로 인코딩했을 때의 바이트 수를 인코딩하지 않고 셉니다.
+     */
+    private static int utf8Length(String text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) bytes += 1;
+            else if (c < 0x800) bytes += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else bytes += 3;
+        }
+        return bytes;
+    }
+
+    /**
+     * 변경 한 건을 JSON 객체 한 줄로 이어 붙입니다. 변경 전/후 값은 DAO의 출력 형식(탭 구분)을 그대로 씁니다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void format(StringBuilder line, Entry entry) {
+        ChangeEvent<?> event = entry.event;
+        AbstractDAO dao = entry.dao;
+
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.getTimestamp()))
+                .append("\",\"actor\":");
+        StudentExporter.appendJsonString(line, actor);
+        line.append(",\"entity\":\"").append(dao.getClass().getSimpleName())
+                .append("\",\"op\":\"").append(event.getType())
+                .append("\",\"key\":");
+        StudentExporter.appendJsonString(line, event.getKey());
+        line.append(",\"before\":");
+        if (event.getBefore() == null) line.append("null");
+        else StudentExporter.appendJsonString(line, dao.format((PersonVO) event.getBefore()));
+        line.append(",\"after\":");
+        if (event.getAfter() == null) line.append("null");
+        else StudentExporter.appendJsonString(line, dao.format((PersonVO) event.getAfter()));
+        line.append("}\n");
+    }
+
+    /**
+     * 아직 전달되지 않은 변경 이벤트까지 모두 기록한 뒤 파일을 닫습니다. 프로그램 종료 시 호출됩니다.
+     */
+    private void close() {
+        for (AbstractDAO<?> dao : attached) dao.flushEvents();
+        closing = true;
+        LockSupport.unpark(appender);
+        try {
+            appender.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
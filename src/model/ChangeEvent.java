@@ -0,0 +1,58 @@
+package model;
+
+/**
+ * {@code ChangeEvent} 클래스는 DAO를 통해 일어난 데이터 변경 한 건을 나타냅니다.
+ * 변경 전/후 값을 함께 담아, 구독자가 전체 데이터를 다시 읽지 않고 파생 데이터를 갱신할 수 있게 합니다.
+ *
+ * @param <T> 변경된 VO 타입
+ */
+public class ChangeEvent<T> {
+
+    /**
+     * 변경 종류
+     */
+    public enum Type { INSERTED, UPDATED, DELETED }
+
+    private final Type type;
+    private final String key;
+    private final T before;
+    private final T after;
+    private final long timestamp;
+
+    /**
+     * 변경 이벤트를 생성합니다.
+     *
+     * @param type   변경 종류
+     * @param key    변경된 데이터의 식별 번호
+     * @param before 변경 전 값 (추가인 경우 {@code null})
+     * @param after  변경 후 값 (삭제인 경우 {@code null})
+     */
+    public ChangeEvent(Type type, String key, T before, T after) {
+        this.type = type;
+        this.key = key;
+        this.before = before;
+        this.after = after;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public T getBefore() {
+        return before;
+    }
+
+    public T getAfter() {
+        return after;
+    }
+
+    /** @return 변경 시각 (epoch 밀리초) */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
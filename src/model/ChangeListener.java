@@ -0,0 +1,18 @@
+package model;
+
+/**
+ * {@code ChangeListener} 인터페이스는 DAO의 변경 이벤트를 구독하는 방법을 정의합니다.
+ * <p>
+ * 이벤트는 DAO마다 하나인 전달 스레드에서 발생 순서대로 호출되므로, 구현체는 빠르게 반환해야 합니다.
+ *
+ * @param <T> 변경된 VO 타입
+ */
+@FunctionalInterface
+public interface ChangeListener<T> {
+    /**
+     * 변경 이벤트를 처리합니다.
+     *
+     * @param event 변경 이벤트
+     */
+    void onChange(ChangeEvent<T> event);
+}
@@ -0,0 +1,129 @@
+package model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * {@code ChangeRingBuffer} 클래스는 여러 스레드가 발행한 이벤트를 하나의 전달 스레드가 순서대로
+ * 구독자에게 넘겨주는 고정 크기 링 버퍼입니다.
+ * <p>
+ * 발행자는 원자적 증가로 순번(sequence)을 받아 미리 할당된 슬롯에 이벤트를 쓰고, 슬롯의 순번을 기록하여 공개합니다.
+ * 락을 잡지 않으므로 쓰기 경로에 추가되는 비용은 몇 번의 원자 연산 정도입니다.
+ * 구독자가 없으면 발행은 아무 일도 하지 않습니다. 버퍼가 가득 차면 발행자는 전달 스레드가 따라올 때까지 기다립니다.
+ *
+ * @param <E> 이벤트 타입
+ */
+public class ChangeRingBuffer<E> {
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final String name;
+
+    /** 다음에 발행될 순번 */
+    private final AtomicLong claimed = new AtomicLong();
+
+    /** 다음에 전달할 순번 (이 값 미만은 모두 전달 완료) */
+    private volatile long consumed;
+
+    /** 전달 스레드가 새 이벤트를 기다리며 멈춰 있는지 여부 */
+    private volatile boolean waiting;
+
+    private final List<Consumer<? super E>> subscribers = new CopyOnWriteArrayList<>();
+    private Thread consumer;
+
+    /**
+     * 링 버퍼를 생성합니다.
+     *
+     * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param name     전달 스레드 이름
+     */
+    public ChangeRingBuffer(int capacity, String name) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Object[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) published.set(i, -1);
+        this.mask = size - 1;
+        this.name = name;
+    }
+
+    /**
+     * 구독자를 등록합니다. 첫 구독자가 등록될 때 전달 스레드를 시작합니다.
+     *
+     * @param subscriber 이벤트를 받을 구독자
+     */
+    public synchronized void subscribe(Consumer<? super E> subscriber) {
+        subscribers.add(subscriber);
+        if (consumer == null) {
+            consumer = new Thread(this::consume, name);
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+    }
+
+    /**
+     * 구독자가 있는지 확인합니다. 변경 전 값 조회처럼 구독자가 있을 때만 필요한 작업을 건너뛰는 데 사용합니다.
+     *
+     * @return 구독자가 한 명 이상이면 {@code true}
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * 이벤트를 발행합니다.
+     *
+     * @param event 발행할 이벤트
+     */
+    public void publish(E event) {
+        if (subscribers.isEmpty()) return;
+
+        long seq = claimed.getAndIncrement();
+        while (seq - consumed >= slots.length) LockSupport.parkNanos(1_000);
+
+        int index = (int) (seq & mask);
+        slots[index] = event;
+        published.set(index, seq);
+
+        if (waiting) LockSupport.unpark(consumer);
+    }
+
+    /**
+     * 지금까지 발행된 이벤트가 모두 구독자에게 전달될 때까지 기다립니다.
+     */
+    public void flush() {
+        long target = claimed.get();
+        while (consumed < target) LockSupport.parkNanos(10_000);
+    }
+
+    /**
+     * 순번 순서대로 이벤트를 꺼내 구독자에게 전달하는 루프입니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void consume() {
+        long seq = 0;
+        while (true) {
+            int index = (int) (seq & mask);
+            if (published.get(index) != seq) {
+                waiting = true;
+                if (published.get(index) != seq) LockSupport.parkNanos(1_000_000);
+                waiting = false;
+                continue;
+            }
+
+            E event = (E) slots[index];
+            slots[index] = null;
+            for (Consumer<? super E> subscriber : subscribers) {
+                try {
+                    subscriber.accept(event);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+            consumed = ++seq;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package model;
+
+import util.DBUtil;
+import vo.CohortVO;
+import vo.StudentVO;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@code CohortAggregator} 클래스는 학생을 학번의 일부(입학년도, 학과 등)나 등급으로 묶어 집단별 인원, 과목 평균, 등급 분포를 구합니다.
+ * <p>
+ * 집계 방법은 데이터 크기에 따라 고릅니다.
+ * <ul>
+ *     <li>학생 수(샤드별 {@code information_schema} 추정치의 합)가 {@code cohort.pushdownRows} 이상이면
+ *         각 샤드에 {@code GROUP BY} 질의를 보내 집단 × 등급별 합계만 받아 합칩니다. 전송량이 학생 수가 아니라 집단 수에 비례합니다.</li>
+ *     <li>그보다 적거나, 키가 SQL로 표현되지 않는 함수({@link Key#of(String, Function)})이면 전체 학생을 읽어
+ *         병렬 스트림의 {@code groupingBy} 수집기로 스레드별 부분 집계를 만든 뒤 합칩니다.</li>
+ * </ul>
+ * 등급은 현재 등급 정책({@link GradingPolicy})의 가중치와 기준 점수로 정합니다. {@code GROUP BY} 집계는 가중 평균을
+ * 데이터베이스의 배정도 실수로 계산하므로, 기준 점수에 정확히 걸린 평균은 드물게 메모리 집계와 다른 등급에 셀 수 있습니다.
+ */
+public class CohortAggregator {
+    /** 이 학생 수 이상이면 집계를 데이터베이스에서 실행 */
+    private static final long PUSHDOWN_ROWS = Long.parseLong(DBUtil.getProperty("cohort.pushdownRows", "50000"));
+
+    private CohortAggregator() { }
+
+    /**
+     * 학생을 집단으로 나누는 기준입니다.
+     * 학번 구간과 등급은 SQL 식으로도 표현되어 데이터베이스에서 집계할 수 있고, 임의의 함수는 메모리에서만 집계합니다.
+     */
+    public static final class Key {
+        private final String name;
+        private final Function<? super StudentVO, String> extractor;
+
+        /** {@code GROUP BY}에 쓸 SQL 식 (등급이면 {@code null}) */
+        private final String sql;
+
+        /** 등급으로 묶는 키인지 여부 */
+        private final boolean grade;
+
+        private Key(String name, Function<? super StudentVO, String> extractor, String sql, boolean grade) {
+            this.name = name;
+            this.extractor = extractor;
+            this.sql = sql;
+            this.grade = grade;
+        }
+
+        /**
+         * 학번의 {@code [from, to)} 위치 문자로 묶습니다. 학번이 짧으면 있는 부분까지만 씁니다.
+         *
+         * @param name 키 이름 (예: 입학년도)
+         * @param from 시작 위치 (0부터, 포함)
+         * @param to   끝 위치 (미포함)
+         * @return 학번 구간 키
+         */
+        public static Key snoRange(String name, int from, int to) {
+            if (from < 0 || to <= from) throw new IllegalArgumentException("학번 구간이 올바르지 않습니다: " + from + "-" + to);
+            return new Key(name, vo -> {
+                String sno = vo.getSno();
+                return sno.substring(Math.min(from, sno.length()), Math.min(to, sno.length()));
+            }, "SUBSTRING(sno, " + (from + 1) + ", " + (to - from) + ")", false);
+        }
+
+        /**
+         * 학번 앞 {@code length}자리로 묶습니다.
+         *
+         * @param length 자리 수
+         * @return 학번 앞부분 키
+         */
+        public static Key snoPrefix(int length) {
+            return snoRange("학번 앞 " + length + "자리", 0, length);
+        }
+
+        /**
+         * @return 현재 등급 정책의 등급으로 묶는 키
+         */
+        public static Key grade() {
+            return new Key("등급", StudentVO::getGrade, null, true);
+        }
+
+        /**
+         * 임의의 함수로 묶습니다. 이 키는 항상 메모리에서 집계합니다.
+         *
+         * @param name      키 이름
+         * @param extractor 학생의 집단 키를 구하는 함수 ({@code null}이면 빈 문자열로 묶음)
+         * @return 함수 키
+         */
+        public static Key of(String name, Function<? super StudentVO, String> extractor) {
+            return new Key(name, extractor, null, false);
+        }
+
+        /**
+         * {@code cohort.keys} 설정({@code 이름:시작-끝} 목록, 쉼표 구분)의 학번 구간 키와 등급 키를 반환합니다.
+         *
+         * @return 설정된 키 목록 (마지막은 등급)
+         */
+        public static List<Key> fromProperties() {
+            List<Key> keys = new ArrayList<>();
+            for (String spec : DBUtil.getProperty("cohort.keys", "").split(",")) {
+                spec = spec.trim();
+                if (spec.isEmpty()) continue;
+                int colon = spec.lastIndexOf(':');
+                int dash = spec.indexOf('-', colon + 1);
+                if (colon < 0 || dash < 0) throw new IllegalArgumentException("cohort.keys 형식이 올바르지 않습니다: " + spec);
+                keys.add(snoRange(spec.substring(0, colon).trim(),
+                        Integer.parseInt(spec.substring(colon + 1, dash).trim()),
+                        Integer.parseInt(spec.substring(dash + 1).trim())));
+            }
+            keys.add(grade());
+            return keys;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return 데이터베이스에서 집계할 수 있는 키이면 {@code true}
+         */
+        boolean pushable() {
+            return grade || sql != null;
+        }
+    }
+
+    /**
+     * 한 집단의 부분 합계. 스레드나 샤드별로 따로 쌓은 뒤 {@link #merge(Accumulator)}로 합칩니다.
+     */
+    private static final class Accumulator {
+        long count, korean, english, math, science;
+        final long[] grades;
+
+        Accumulator(int gradeCount) {
+            grades = new long[gradeCount];
+        }
+
+        void add(StudentVO vo, int gradeIndex) {
+            count++;
+            korean += vo.getKorean();
+            english += vo.getEnglish();
+            math += vo.getMath();
+            science += vo.getScience();
+            grades[gradeIndex]++;
+        }
+
+        Accumulator merge(Accumulator other) {
+            count += other.count;
+            korean += other.korean;
+            english += other.english;
+            math += other.math;
+            science += other.science;
+            for (int g = 0; g < grades.length; g++) grades[g] += other.grades[g];
+            return this;
+        }
+    }
+
+    /**
+     * 학생을 키에 따라 집단으로 묶어 집계합니다. 등급 키는 정책의 등급 순서로, 나머지는 키 순서로 정렬합니다.
+     *
+     * @param dao 학생 DAO
+     * @param key 집단 키
+     * @return 집단별 집계 결과
+     * @throws SQLException 조회에 실패한 경우
+     */
+    static List<CohortVO> aggregate(StudentDAO dao, Key key) throws SQLException {
+        dao.flushEvents();
+        GradingPolicy policy = dao.getGradingPolicy();
+        Map<String, Accumulator> groups = (key.pushable() && estimateRows(dao) >= PUSHDOWN_ROWS)
+                ? pushDown(dao, key, policy) : inMemory(dao, key, policy);
+
+        List<String> order = new ArrayList<>(groups.keySet());
+        if (key.grade) {
+            List<String> grades = List.of(policy.grades());
+            order.sort((g1, g2) -> Integer.compare(grades.indexOf(g1), grades.indexOf(g2)));
+        } else {
+            order.sort(null);
+        }
+
+        float[] w = policy.weights();
+        float sum = w[0] + w[1] + w[2] + w[3];
+        List<CohortVO> result = new ArrayList<>(order.size());
+        for (String name : order) {
+            Accumulator acc = groups.get(name);
+            CohortVO cohort = new CohortVO(name);
+            cohort.setCount(acc.count);
+            cohort.setKorean(acc.korean);
+            cohort.setEnglish(acc.english);
+            cohort.setMath(acc.math);
+            cohort.setScience(acc.science);
+            // 가중 평균은 과목 점수의 일차식이므로 평균의 평균은 과목 평균의 가중 평균과 같습니다.
+            cohort.setAverage(((double) w[0] * acc.korean + (double) w[1] * acc.english
+                    + (double) w[2] * acc.math + (double) w[3] * acc.science) / sum / acc.count);
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (int g = 0; g < acc.grades.length; g++) counts.put(policy.grades()[g], acc.grades[g]);
+            cohort.setGradeCounts(counts);
+            result.add(cohort);
+        }
+        return result;
+    }
+
+    /**
+     * 전체 학생을 읽어 병렬 수집기로 집계합니다. 등급은 DAO가 계산한 값을 그대로 씁니다.
+     */
+    private static Map<String, Accumulator> inMemory(StudentDAO dao, Key key, GradingPolicy policy) throws SQLException {
+        List<StudentVO> students = new ArrayList<>();
+        dao.scan(0, students::add);
+
+        String[] names = policy.grades();
+        Map<String, Integer> gradeIndex = new HashMap<>();
+        for (int g = 0; g < names.length; g++) gradeIndex.put(names[g], g);
+
+        Collector<StudentVO, Accumulator, Accumulator> summing = Collector.of(
+                () -> new Accumulator(names.length),
+                (acc, vo) -> acc.add(vo, gradeIndex.getOrDefault(vo.getGrade(), names.length - 1)),
+                Accumulator::merge);
+        return students.parallelStream()
+                .collect(Collectors.groupingBy(vo -> Objects.toString(key.extractor.apply(vo), ""), summing));
+    }
+
+    /**
+     * 각 샤드에서 집단 × 등급별로 {@code GROUP BY}한 합계를 받아 합칩니다.
+     * 점수는 {@link StudentDAO}가 읽을 때와 같이 0~100으로 보정해서 더합니다.
+     */
+    private static Map<String, Accumulator> pushDown(StudentDAO dao, Key key, GradingPolicy policy) throws SQLException {
+        String[] subjects = new String[4];
+        String[] columns = {"korean", "english", "math", "science"};
+        for (int s = 0; s < columns.length; s++) subjects[s] = "LEAST(100, GREATEST(0, " + columns[s] + "))";
+
+        float[] w = policy.weights();
+        float sum = w[0] + w[1] + w[2] + w[3];
+        String average = "(" + (w[0] / sum) + " * " + subjects[0] + " + " + (w[1] / sum) + " * " + subjects[1]
+                + " + " + (w[2] / sum) + " * " + subjects[2] + " + " + (w[3] / sum) + " * " + subjects[3] + ")";
+
+        // 등급 인덱스 = 평균보다 높은 기준 점수의 개수 (GradeKernel과 같은 방식)
+        StringBuilder gradeIndex = new StringBuilder("(0");
+        for (float cutoff : policy.cutoffs()) gradeIndex.append(" + (").append(average).append(" < ").append(cutoff).append(")");
+        gradeIndex.append(')');
+
+        String select = (key.sql == null) ? "" : key.sql + " AS cohort_key, ";
+        String sql = "SELECT " + select + gradeIndex + " AS grade_index, COUNT(*), SUM(" + subjects[0] + "), SUM("
+                + subjects[1] + "), SUM(" + subjects[2] + "), SUM(" + subjects[3] + ") FROM student"
+                + " GROUP BY " + ((key.sql == null) ? "" : "cohort_key, ") + "grade_index";
+
+        String[] names = policy.grades();
+        int offset = (key.sql == null) ? 0 : 1;
+        List<Object[]> rows = dao.scatter(sql, rs -> new Object[]{
+                (offset == 0) ? null : rs.getString(1), rs.getInt(offset + 1), rs.getLong(offset + 2),
+                rs.getLong(offset + 3), rs.getLong(offset + 4), rs.getLong(offset + 5), rs.getLong(offset + 6)});
+
+        Map<String, Accumulator> groups = new HashMap<>();
+        for (Object[] row : rows) {
+            int grade = Math.min((Integer) row[1], names.length - 1);
+            String name = key.grade ? names[grade] : Objects.toString(row[0], "");
+            Accumulator acc = groups.computeIfAbsent(name, k -> new Accumulator(names.length));
+            acc.count += (Long) row[2];
+            acc.korean += (Long) row[3];
+            acc.english += (Long) row[4];
+            acc.math += (Long) row[5];
+            acc.science += (Long) row[6];
+            acc.grades[grade] += (Long) row[2];
+        }
+        return groups;
+    }
+
+    /**
+     * @return 샤드별 통계의 행 수 추정치 합 (조회에 실패하면 -1)
+     */
+    private static long estimateRows(StudentDAO dao) {
+        try {
+            long rows = 0;
+            for (long shardRows : dao.scatter("SELECT TABLE_ROWS FROM information_schema.TABLES"
+                    + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'student'", rs -> rs.getLong(1))) {
+                rows += shardRows;
+            }
+            return rows;
+        } catch (SQLException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+/**
+ * {@code CurvedGrading} 클래스는 석차 비율로 등급을 정하는 상대평가 정책입니다.
+ * <p>
+ * {@link #calibrate(float[], int)}가 호출될 때마다 평균 분포를 0.01점 단위 히스토그램으로 세어,
+ * 상위 누적 비율이 각 등급의 비율에 이르는 평균을 기준 점수로 정합니다. 정렬 없이 O(n)이며,
+ * 기준 점수와 같은 평균을 가진 학생은 모두 높은 등급을 받습니다.
+ * 보정 전에는 점수가 고르게 분포한다고 가정한 기준을 사용합니다.
+ */
+public class CurvedGrading implements GradingPolicy {
+    private static final int BUCKETS = 10_001;
+
+    private final float[] weights;
+    private final String[] grades;
+    private final double[] shares;
+    private volatile float[] cutoffs;
+
+    /**
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     * @param grades  높은 등급부터 나열한 등급 이름
+     * @param shares  마지막을 제외한 각 등급의 비율 (예: 0.1, 0.2, 0.3, 0.3이면 나머지 10%가 마지막 등급)
+     */
+    public CurvedGrading(float[] weights, String[] grades, double[] shares) {
+        if (weights.length != 4) throw new IllegalArgumentException("가중치는 네 과목 모두 지정해야 합니다.");
+        if (shares.length != grades.length - 1) throw new IllegalArgumentException("비율은 등급 수보다 하나 적어야 합니다.");
+        this.weights = weights.clone();
+        this.grades = grades.clone();
+        this.shares = shares.clone();
+
+        float[] uniform = new float[shares.length];
+        double cumulative = 0;
+        for (int i = 0; i < shares.length; i++) {
+            cumulative += shares[i];
+            uniform[i] = (float) (100 * (1 - cumulative));
+        }
+        this.cutoffs = uniform;
+    }
+
+    /**
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     * @return 상위 10%/20%/30%/30%/10%에 A~F를 주는 상대평가 정책
+     */
+    public static CurvedGrading standard(float[] weights) {
+        return new CurvedGrading(weights, new String[]{"A", "B", "C", "D", "F"}, new double[]{0.1, 0.2, 0.3, 0.3});
+    }
+
+    @Override
+    public float[] weights() {
+        return weights;
+    }
+
+    @Override
+    public String[] grades() {
+        return grades;
+    }
+
+    @Override
+    public float[] cutoffs() {
+        return cutoffs;
+    }
+
+    @Override
+    public void calibrate(float[] averages, int count) {
+        if (count == 0) return;
+
+        int[] histogram = new int[BUCKETS];
+        for (int i = 0; i < count; i++) {
+            int bucket = (int) (averages[i] * 100);
+            histogram[Math.max(0, Math.min(BUCKETS - 1, bucket))]++;
+        }
+
+        float[] calibrated = new float[shares.length];
+        double cumulative = 0;
+        long seen = 0;
+        int bucket = BUCKETS - 1;
+        for (int g = 0; g < shares.length; g++) {
+            cumulative += shares[g];
+            long target = Math.round(cumulative * count);
+            while (bucket > 0 && seen + histogram[bucket] <= target) seen += histogram[bucket--];
+            // 상위 target명을 포함하는 가장 낮은 구간의 하한이 기준 점수가 됩니다.
+            calibrated[g] = (seen >= target) ? (bucket + 1) / 100f : bucket / 100f;
+        }
+        this.cutoffs = calibrated;
+    }
+}
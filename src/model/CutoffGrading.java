@@ -0,0 +1,66 @@
+package model;
+
+/**
+ * {@code CutoffGrading} 클래스는 고정된 최소 평균으로 등급을 정하는 절대평가 정책입니다.
+ */
+public class CutoffGrading implements GradingPolicy {
+    /** 네 과목 동일 가중치 */
+    public static final float[] EQUAL_WEIGHTS = {1, 1, 1, 1};
+
+    private final float[] weights;
+    private final String[] grades;
+    private final float[] cutoffs;
+
+    /**
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     * @param grades  높은 등급부터 나열한 등급 이름
+     * @param cutoffs 각 등급의 최소 평균 (내림차순, 길이는 등급 수 - 1)
+     */
+    public CutoffGrading(float[] weights, String[] grades, float[] cutoffs) {
+        if (weights.length != 4) throw new IllegalArgumentException("가중치는 네 과목 모두 지정해야 합니다.");
+        if (cutoffs.length != grades.length - 1) throw new IllegalArgumentException("기준 점수는 등급 수보다 하나 적어야 합니다.");
+        this.weights = weights.clone();
+        this.grades = grades.clone();
+        this.cutoffs = cutoffs.clone();
+    }
+
+    /**
+     * @return 90/80/70/60점 기준 A~F 등급 (기존 기준)
+     */
+    public static CutoffGrading standard() {
+        return standard(EQUAL_WEIGHTS);
+    }
+
+    /**
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     * @return 가중 평균에 90/80/70/60점 기준 A~F 등급을 적용하는 정책
+     */
+    public static CutoffGrading standard(float[] weights) {
+        return new CutoffGrading(weights, new String[]{"A", "B", "C", "D", "F"}, new float[]{90, 80, 70, 60});
+    }
+
+    /**
+     * @param weights 국어, 영어, 수학, 과학 가중치
+     * @return 각 10점 구간을 +, 0, -로 나눈 A+ ~ F 등급 정책 (예: 97 이상 A+, 93 이상 A, 90 이상 A-)
+     */
+    public static CutoffGrading plusMinus(float[] weights) {
+        return new CutoffGrading(weights,
+                new String[]{"A+", "A", "A-", "B+", "B", "B-", "C+", "C", "C-", "D+", "D", "D-", "F"},
+                new float[]{97, 93, 90, 87, 83, 80, 77, 73, 70, 67, 63, 60});
+    }
+
+    @Override
+    public float[] weights() {
+        return weights;
+    }
+
+    @Override
+    public String[] grades() {
+        return grades;
+    }
+
+    @Override
+    public float[] cutoffs() {
+        return cutoffs;
+    }
+}
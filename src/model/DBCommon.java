@@ -2,6 +2,8 @@ package model;
 
 import vo.PersonVO;
 
+import java.util.List;
+
 /**
  * {@code DBCommon} 인터페이스는 데이터베이스와 관련된 공통 작업을 정의합니다.
  * 정보 입력, 삭제, 수정, 검색, 정렬 등의 기능을 포함합니다.
@@ -46,6 +48,15 @@ public interface DBCommon {
      * 데이터를 정렬하는 메서드입니다.
      *
      * @param sortNum 정렬 기준 번호
+     * @return 정렬된 데이터 목록
+     */
+    List<? extends PersonVO> sort(int sortNum);
+
+    /**
+     * 식별 번호로 데이터를 찾아 반환하는 메서드입니다.
+     *
+     * @param key 찾을 식별 번호
+     * @return 찾은 데이터, 없으면 {@code null}
      */
-    void sort(int sortNum);
+    PersonVO find(String key);
 }
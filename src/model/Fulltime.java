@@ -0,0 +1,15 @@
+package model;
+
+/**
+ * {@code Fulltime} 인터페이스는 정규직 직원 관리 기능을 정의하는 인터페이스입니다.
+ * 공통 데이터 관리 기능에 더해 월급 인상 기능을 제공합니다.
+ */
+public interface Fulltime extends DBCommon {
+    /**
+     * 정규직 직원의 월급을 주어진 비율만큼 인상합니다.
+     *
+     * @param eno     월급을 인상할 직원의 사번
+     * @param percent 인상률(%)
+     */
+    void salaryIncrease(String eno, int percent);
+}
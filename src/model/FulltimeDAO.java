@@ -0,0 +1,234 @@
+package model;
+
+import util.DBUtil;
+import util.LatencyBudget;
+import util.NameCollation;
+import vo.FulltimeVO;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code FulltimeDAO} 클래스는 정규직 직원 데이터를 관리하기 위한 데이터 접근 객체(DAO)입니다.
+ * <p>
+ * {@code fulltime(eno, name, salary, performance)} 테이블을 사용하며,
+ * 공통 기능은 {@link AbstractDAO}에서 제공하고 월급 인상 로직을 추가로 포함합니다.
+ */
+public class FulltimeDAO extends AbstractDAO<FulltimeVO> implements Fulltime {
+    /**
+     * 싱글톤(Singleton)으로 구현된 DAO 인스턴스
+     */
+    private static FulltimeDAO dao;
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     */
+    private FulltimeDAO() {
+    }
+
+    /**
+     * DAO 인스턴스를 반환하는 싱글톤(Singleton) 메서드
+     *
+     * @return {@code FulltimeDAO} 인스턴스
+     */
+    public static synchronized FulltimeDAO getInstance() {
+        if (dao == null) dao = new FulltimeDAO();
+        return dao;
+    }
+
+    /**
+     * 정규직 테이블의 컬럼을 인덱스 순서대로 읽는 매퍼
+     */
+    private static final RowMapper<FulltimeVO> MAPPER = rs -> {
+        FulltimeVO vo = new FulltimeVO(rs.getString(1), rs.getString(2), rs.getInt(3), rs.getInt(4));
+        vo.setNameKey(rs.getBytes(5));
+        return vo;
+    };
+
+    @Override
+    protected String selectSql() {
+        return "SELECT eno, name, salary, performance, " + NameCollation.KEY_SQL + " FROM fulltime";
+    }
+
+    @Override
+    protected String keyColumn() {
+        return "eno";
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO fulltime (eno, name, salary, performance) VALUES (?, ?, ?, ?)";
+    }
+
+    @Override
+    protected String upsertSql() {
+        return "INSERT INTO fulltime (eno, name, salary, performance) VALUES (?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE name = VALUES(name), salary = VALUES(salary), performance = VALUES(performance)";
+    }
+
+    @Override
+    protected String updateSql() {
+        return "UPDATE fulltime SET name=?, salary=?, performance=? WHERE eno=?";
+    }
+
+    @Override
+    protected String deleteSql() {
+        return "DELETE FROM fulltime WHERE eno = ?";
+    }
+
+    @Override
+    protected String orderBy(int sortNum) {
+        switch (sortNum) {
+            // 이름이 같거나 콜레이션상 같은 이름은 사번으로 순서를 정해 메모리 정렬과 맞춥니다.
+            case 1: return " ORDER BY name ASC, eno ASC";
+            case 2: return " ORDER BY eno ASC";
+            case 3: return " ORDER BY performance DESC";
+            default: return "";
+        }
+    }
+
+    @Override
+    protected Comparator<FulltimeVO> comparator(int sortNum) {
+        switch (sortNum) {
+            case 1: return (f1, f2) -> {
+                // 데이터베이스가 계산한 정렬 키를 바이트로 비교하고, 같은 이름은 사번으로 순서를 정해 DB 정렬과 맞춥니다.
+                int c = NameCollation.compare(f1.getNameKey(), f2.getNameKey());
+                return (c != 0) ? c : f1.getEno().compareTo(f2.getEno());
+            };
+            case 2: return (f1, f2) -> f1.getEno().compareTo(f2.getEno());
+            case 3: return (f1, f2) -> f2.getPerformance() - f1.getPerformance();
+            default: return null;
+        }
+    }
+
+    /**
+     * 이름순으로 정렬하기 전에, 정렬 키를 모르는 직원(입력/수정 후 캐시된 직원 등)의 키를 데이터베이스에서 읽어 채웁니다.
+     * 데이터베이스의 이름이 캐시의 이름과 같을 때만 쓰며, 읽지 못한 직원은 이름순 목록의 맨 뒤에 놓입니다.
+     */
+    @Override
+    protected void prepareSort(List<FulltimeVO> list, int sortNum) {
+        if (sortNum != 1) return;
+
+        Map<String, FulltimeVO> missing = new HashMap<>();
+        for (FulltimeVO vo : list) {
+            if (vo.getNameKey() == null) missing.put(vo.getEno(), vo);
+        }
+        if (missing.isEmpty()) return;
+
+        LatencyBudget budget = LatencyBudget.start(READ_BUDGET_MILLIS);
+        try {
+            for (FulltimeVO stored : reload(missing.keySet()).values()) {
+                FulltimeVO vo = missing.get(stored.getEno());
+                if (stored.getName().equals(vo.getName())) vo.setNameKey(stored.getNameKey());
+            }
+        } catch (SQLException e) {
+            System.out.println("이름 정렬 키를 읽지 못했습니다(" + e.getMessage() + "): 해당 직원은 목록의 맨 뒤에 표시합니다.");
+        } finally {
+            budget.close();
+        }
+    }
+
+    @Override
+    protected RowMapper<FulltimeVO> mapper() {
+        return MAPPER;
+    }
+
+    @Override
+    protected void bindInsert(PreparedStatement pstmt, FulltimeVO vo) throws SQLException {
+        pstmt.setString(1, vo.getEno());
+        pstmt.setString(2, vo.getName());
+        pstmt.setInt(3, vo.getSalary());
+        pstmt.setInt(4, vo.getPerformance());
+    }
+
+    @Override
+    protected void bindUpdate(PreparedStatement pstmt, FulltimeVO vo) throws SQLException {
+        pstmt.setString(1, vo.getName());
+        pstmt.setInt(2, vo.getSalary());
+        pstmt.setInt(3, vo.getPerformance());
+        pstmt.setString(4, vo.getEno());
+    }
+
+    @Override
+    protected String keyOf(FulltimeVO vo) {
+        return vo.getEno();
+    }
+
+    @Override
+    protected void derive(FulltimeVO vo) {
+        // 정규직 직원은 저장된 값 외에 파생 값이 없습니다.
+    }
+
+    @Override
+    protected String format(FulltimeVO f) {
+        return String.format("%s\t%s\t%d\t%d", f.getEno(), f.getName(), f.getSalary(), f.getPerformance());
+    }
+
+    @Override
+    protected String notFoundMessage() {
+        return "입력된 직원이 없습니다.";
+    }
+
+    /**
+     * 전체 정규직 직원 데이터를 특정 조건에 따라 정렬하여 출력합니다.
+     *
+     * @param sortNum 정렬 조건을 나타내는 번호
+     */
+    @Override
+    public void totalSearch(int sortNum) {
+        System.out.println("사번\t이름\t월급\t실적");
+        System.out.println("--------------------------------------------------");
+        super.totalSearch(sortNum);
+    }
+
+    /**
+     * 정규직 직원의 월급을 인상합니다.
+     * <p>
+     * 한 트랜잭션 안에서 현재 행을 잠그고 읽은 뒤({@link #lockRow(Connection, String)}) 인상된 월급을 Java에서 한 번만 계산해 저장하므로,
+     * 데이터베이스와 캐시, 변경 이벤트가 같은 값을 갖습니다. 해당 직원이 없으면 알리고 아무것도 바꾸지 않습니다.
+     *
+     * @param eno     월급을 인상할 직원의 사번
+     * @param percent 인상률(%)
+     */
+    @Override
+    public void salaryIncrease(String eno, int percent) {
+        LatencyBudget budget = LatencyBudget.start(WRITE_BUDGET_MILLIS);
+        try (Connection conn = writeConnection(eno)) {
+            conn.setAutoCommit(false);
+
+            FulltimeVO before = lockRow(conn, eno);
+            if (before == null) {
+                // 커밋하지 않은 채 반납되어 연결 풀이 롤백합니다.
+                System.out.println("해당 사번의 직원이 없습니다: " + eno);
+                return;
+            }
+
+            FulltimeVO after = new FulltimeVO(eno, before.getName(),
+                    before.getSalary() + before.getSalary() * percent / 100, before.getPerformance());
+            after.setNameKey(before.getNameKey());
+            try (PreparedStatement pstmt = conn.prepareStatement("UPDATE fulltime SET salary = ? WHERE eno = ?")) {
+                pstmt.setInt(1, after.getSalary());
+                pstmt.setString(2, eno);
+                pstmt.executeUpdate();
+            }
+            conn.commit();
+            DBUtil.markWritten();
+
+            cache.put(eno, after);
+            publish(ChangeEvent.Type.UPDATED, eno, before, after);
+            System.out.println("월급 인상 완료: " + before.getSalary() + " → " + after.getSalary());
+        } catch (SQLTransientException e) {
+            writeFailed(eno, e);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            budget.close();
+        }
+    }
+}
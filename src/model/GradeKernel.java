@@ -0,0 +1,150 @@
+package model;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * {@code GradeKernel} 클래스는 기본형 배열에 담긴 점수로 총점, 평균, 등급을 한꺼번에 다시 계산합니다.
+ * <p>
+ * 학생을 객체가 아닌 과목별 {@code int[]}로 보관하고({@link Scores}), 분기 없는 단순 반복문을 일정 크기 구간으로 나누어
+ * 병렬 스트림에서 실행합니다. 반복문이 배열을 순서대로 읽고 쓰기만 하므로 JIT 컴파일러가 SIMD 명령으로 자동 벡터화할 수 있습니다.
+ * 등급은 "평균보다 높은 기준 점수의 개수"를 더하는 방식으로 정해 등급 수만큼의 분기를 없앴습니다.
+ */
+public class GradeKernel {
+    /** 병렬 처리 단위 (학생 수) */
+    private static final int CHUNK = 1 << 16;
+
+    private GradeKernel() { }
+
+    /**
+     * 학생 점수와 계산 결과를 과목별 배열로 담는 테이블입니다.
+     * 같은 인덱스가 같은 학생을 나타냅니다.
+     */
+    public static class Scores {
+        int count;
+        String[] sno;
+        int[] korean, english, math, science;
+        int[] total;
+        float[] average;
+        byte[] grade;
+        int[] gradeCounts;
+
+        /**
+         * @param capacity 처음 확보할 학생 수
+         */
+        public Scores(int capacity) {
+            capacity = Math.max(16, capacity);
+            sno = new String[capacity];
+            korean = new int[capacity];
+            english = new int[capacity];
+            math = new int[capacity];
+            science = new int[capacity];
+        }
+
+        /**
+         * 학생 한 명의 점수를 추가합니다.
+         */
+        public void add(String studentNo, int k, int e, int m, int s) {
+            if (count == sno.length) {
+                int capacity = count * 2;
+                sno = Arrays.copyOf(sno, capacity);
+                korean = Arrays.copyOf(korean, capacity);
+                english = Arrays.copyOf(english, capacity);
+                math = Arrays.copyOf(math, capacity);
+                science = Arrays.copyOf(science, capacity);
+            }
+            sno[count] = studentNo;
+            korean[count] = k;
+            english[count] = e;
+            math[count] = m;
+            science[count] = s;
+            count++;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public String snoAt(int i) {
+            return sno[i];
+        }
+
+        public int totalAt(int i) {
+            return total[i];
+        }
+
+        public float averageAt(int i) {
+            return average[i];
+        }
+
+        /**
+         * @return 마지막 재계산의 등급 인덱스별 학생 수
+         */
+        public int[] gradeCounts() {
+            return gradeCounts;
+        }
+
+        /**
+         * @return {@link GradingPolicy#grades()}에서의 등급 인덱스
+         */
+        public int gradeAt(int i) {
+            return grade[i];
+        }
+    }
+
+    /**
+     * 모든 학생의 총점, 가중 평균, 등급을 다시 계산합니다.
+     * 평균을 모두 구한 뒤 {@link GradingPolicy#calibrate(float[], int)}를 호출하므로 상대평가 기준도 함께 갱신됩니다.
+     *
+     * @param scores 점수 테이블 (결과 배열이 채워짐)
+     * @param policy 등급 정책
+     * @return 등급 인덱스별 학생 수
+     */
+    public static int[] recompute(Scores scores, GradingPolicy policy) {
+        int n = scores.count;
+        if (scores.total == null || scores.total.length < n) {
+            scores.total = new int[n];
+            scores.average = new float[n];
+            scores.grade = new byte[n];
+        }
+
+        float[] w = policy.weights();
+        float sum = w[0] + w[1] + w[2] + w[3];
+        float wk = w[0] / sum, we = w[1] / sum, wm = w[2] / sum, ws = w[3] / sum;
+
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * CHUNK, to = Math.min(n, from + CHUNK);
+            int[] k = scores.korean, e = scores.english, m = scores.math, s = scores.science;
+            int[] total = scores.total;
+            float[] average = scores.average;
+            for (int i = from; i < to; i++) {
+                total[i] = k[i] + e[i] + m[i] + s[i];
+                average[i] = wk * k[i] + we * e[i] + wm * m[i] + ws * s[i];
+            }
+        });
+
+        policy.calibrate(scores.average, n);
+        float[] cutoffs = policy.cutoffs();
+
+        int[][] partial = new int[chunks][policy.grades().length];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * CHUNK, to = Math.min(n, from + CHUNK);
+            float[] average = scores.average;
+            byte[] grade = scores.grade;
+            for (int i = from; i < to; i++) {
+                int index = 0;
+                for (float cutoff : cutoffs) index += (average[i] < cutoff) ? 1 : 0;
+                grade[i] = (byte) index;
+            }
+            for (int i = from; i < to; i++) partial[c][grade[i]]++;
+        });
+
+        int[] counts = new int[policy.grades().length];
+        for (int[] p : partial) {
+            for (int g = 0; g < counts.length; g++) counts[g] += p[g];
+        }
+        scores.gradeCounts = counts;
+        return counts;
+    }
+}
@@ -0,0 +1,61 @@
+package model;
+
+/**
+ * {@code GradingPolicy} 인터페이스는 학생의 평균과 등급을 정하는 기준을 정의합니다.
+ * <p>
+ * 평균은 과목별 가중치의 가중 평균이고, 등급은 높은 등급부터 차례로 최소 평균(cutoff)과 비교하여 정합니다.
+ * 상대평가처럼 전체 분포에 따라 기준이 달라지는 정책은 {@link #calibrate(float[], int)}에서 기준을 다시 계산합니다.
+ *
+ * @see CutoffGrading
+ * @see CurvedGrading
+ * @see GradeKernel
+ */
+public interface GradingPolicy {
+    /**
+     * @return 국어, 영어, 수학, 과학 순서의 과목 가중치
+     */
+    float[] weights();
+
+    /**
+     * @return 높은 등급부터 나열한 등급 이름
+     */
+    String[] grades();
+
+    /**
+     * @return {@code grades()[i]}를 받기 위한 최소 평균 (내림차순, 길이는 등급 수 - 1이며 마지막 등급은 나머지 전부)
+     */
+    float[] cutoffs();
+
+    /**
+     * 전체 학생의 평균 분포로 등급 기준을 다시 계산합니다. 절대평가 정책은 아무 일도 하지 않습니다.
+     *
+     * @param averages 학생별 평균
+     * @param count    유효한 학생 수
+     */
+    default void calibrate(float[] averages, int count) { }
+
+    /**
+     * 네 과목 점수의 가중 평균을 계산합니다.
+     *
+     * @return 가중 평균
+     */
+    default float average(int korean, int english, int math, int science) {
+        // GradeKernel과 같은 순서로 계산해야 대량 재계산과 단건 계산의 결과가 같습니다.
+        float[] w = weights();
+        float sum = w[0] + w[1] + w[2] + w[3];
+        return w[0] / sum * korean + w[1] / sum * english + w[2] / sum * math + w[3] / sum * science;
+    }
+
+    /**
+     * 평균에 해당하는 등급을 반환합니다.
+     *
+     * @param average 평균
+     * @return 등급 이름
+     */
+    default String grade(float average) {
+        float[] cutoffs = cutoffs();
+        int index = 0;
+        while (index < cutoffs.length && average < cutoffs[index]) index++;
+        return grades()[index];
+    }
+}
@@ -0,0 +1,399 @@
+package model;
+
+import vo.StudentVO;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code LoadGenerator} 클래스는 여러 사용자가 동시에 학생 관리 작업을 수행하는 상황을 흉내 내어
+ * 시스템이 감당할 수 있는 처리량을 측정합니다.
+ * <p>
+ * 작업자 스레드마다 설정된 비율(mix)에 따라 입력/수정/삭제/검색/전체 조회를 골라 {@link StudentDAO}에 직접 실행하고,
+ * 보고 주기마다 작업별 처리량, 지연 시간 백분위수(p50/p95/p99/최대), 오류율과 수정 충돌 수를 출력합니다.
+ * 실행 중 만든 학생은 {@code prefix}로 시작하는 학번을 사용합니다. 수정과 삭제는 이번 실행에서 입력에 성공한 학생에게만 하며,
+ * 종료 시에도 그 학생만 삭제하므로 같은 접두어의 기존 학생은 건드리지 않습니다.
+ * <p>
+ * 운영 데이터베이스에 실수로 부하를 주지 않도록 {@code -Durl=...} 시스템 속성으로 대상 데이터베이스를 직접 지정해야만 실행합니다
+ * ({@link util.DBUtil#getProperty(String, String)} 참고, 샤드를 쓰면 {@code -Dshard.N.url=...}도 함께 지정합니다).
+ * DAO의 SQL이 MySQL 전용({@code WEIGHT_STRING}, {@code ON DUPLICATE KEY UPDATE}, 스트리밍 조회)이므로 대상은 MySQL이어야 합니다.
+ * 동시 사용자 수가 연결 풀 크기({@code pool.maxSize})보다 크면 나머지는 연결을 기다리므로 함께 조정합니다.
+ * <pre>
+ * java -Durl=jdbc:mysql://localhost/loadtest view.MainMenu --load threads=32 seconds=60 mix=input:10,update:30,delete:5,search:50,totalSearch:5
+ * </pre>
+ */
+public class LoadGenerator {
+
+    /**
+     * 부하 작업 종류
+     */
+    public enum Op { INPUT, UPDATE, DELETE, SEARCH, TOTAL_SEARCH }
+
+    private final int threads;
+    private final int seconds;
+    private final int reportSeconds;
+    private final String prefix;
+    private final int[] weights = new int[Op.values().length];
+    private final int totalWeight;
+
+    private final StudentDAO dao = StudentDAO.getInstance();
+
+    /** 다음에 입력할 학번 번호 */
+    private final AtomicLong nextKey = new AtomicLong();
+
+    /** 이번 실행에서 입력에 성공하여 아직 삭제하지 않은 학번 번호 */
+    private final Set<Long> created = ConcurrentHashMap.newKeySet();
+
+    private final Stats[] stats = new Stats[Op.values().length];
+
+    /**
+     * 부하 생성기를 생성합니다.
+     *
+     * @param threads       동시 사용자(작업자 스레드) 수
+     * @param seconds       실행 시간(초)
+     * @param reportSeconds 중간 보고 주기(초)
+     * @param prefix        부하 테스트용 학번 접두어
+     * @param mix           작업별 비중
+     */
+    public LoadGenerator(int threads, int seconds, int reportSeconds, String prefix, Map<Op, Integer> mix) {
+        this.threads = threads;
+        this.seconds = seconds;
+        this.reportSeconds = reportSeconds;
+        this.prefix = prefix;
+
+        int sum = 0;
+        for (Op op : Op.values()) {
+            weights[op.ordinal()] = mix.getOrDefault(op, 0);
+            sum += weights[op.ordinal()];
+            stats[op.ordinal()] = new Stats();
+        }
+        if (sum <= 0) throw new IllegalArgumentException("작업 비중의 합이 0입니다.");
+        this.totalWeight = sum;
+    }
+
+    /**
+     * {@code key=value} 형식의 커맨드라인 인수로 부하 생성기를 생성합니다.
+     * 지원하는 키: {@code threads}, {@code seconds}, {@code report}, {@code prefix},
+     * {@code mix} (예: {@code input:10,update:30,delete:5,search:50,totalSearch:5})
+     *
+     * @param args 커맨드라인 인수 (알 수 없는 인수는 무시)
+     * @return 부하 생성기
+     */
+    public static LoadGenerator fromArgs(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        Map<Op, Integer> mix = new LinkedHashMap<>();
+        for (String entry : options.getOrDefault("mix", "input:10,update:30,delete:5,search:50,totalSearch:5").split(",")) {
+            String[] pair = entry.trim().split(":");
+            mix.put(Op.valueOf(pair[0].replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase()), Integer.parseInt(pair[1]));
+        }
+
+        return new LoadGenerator(
+                Integer.parseInt(options.getOrDefault("threads", "16")),
+                Integer.parseInt(options.getOrDefault("seconds", "30")),
+                Integer.parseInt(options.getOrDefault("report", "5")),
+                options.getOrDefault("prefix", "9"),
+                mix);
+    }
+
+    /**
+     * 부하를 실행하고 결과를 출력합니다. {@code -Durl}로 대상 데이터베이스를 지정하지 않았으면 실행하지 않습니다.
+     */
+    public void run() {
+        if (System.getProperty("url") == null) {
+            System.out.println("부하 테스트는 -Durl=... 로 대상 데이터베이스를 직접 지정해야 실행됩니다.");
+            return;
+        }
+        seed(Math.max(100, threads * 10));
+
+        // Java 17에서는 가상 스레드를 쓸 수 없으므로 사용자마다 플랫폼 스레드 하나를 사용합니다.
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        for (int i = 0; i < threads; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) execute(pick());
+            });
+        }
+        workers.shutdown();
+
+        System.out.printf("부하 테스트 시작: 사용자 %d명, %d초\n", threads, seconds);
+        long[][] previous = snapshot();
+        long started = System.nanoTime();
+        long last = started;
+        try {
+            while (!workers.awaitTermination(reportSeconds, TimeUnit.SECONDS)) {
+                long now = System.nanoTime();
+                long[][] current = snapshot();
+                report(String.format("%4d초", TimeUnit.NANOSECONDS.toSeconds(now - started)), previous, current, now - last);
+                previous = current;
+                last = now;
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        report("전체", null, snapshot(), System.nanoTime() - started);
+        cleanup();
+    }
+
+    /**
+     * 비중에 따라 작업 하나를 고릅니다.
+     */
+    private Op pick() {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Op op : Op.values()) {
+            r -= weights[op.ordinal()];
+            if (r < 0) return op;
+        }
+        return Op.SEARCH;
+    }
+
+    /**
+     * 작업 하나를 실행하고 지연 시간과 결과를 기록합니다.
+     */
+    private void execute(Op op) {
+        Stats stat = stats[op.ordinal()];
+        long start = System.nanoTime();
+        try {
+            switch (op) {
+                case INPUT:
+                    input(nextKey.getAndIncrement());
+                    break;
+                case UPDATE:
+                    long updated = randomKey();
+                    if (created.contains(updated)) update(key(updated));
+                    break;
+                case DELETE:
+                    long deleted = randomKey();
+                    if (created.remove(deleted)) delete(deleted);
+                    break;
+                case SEARCH:
+                    dao.find(key(randomKey()));
+                    break;
+                case TOTAL_SEARCH:
+                    LongAdder rows = new LongAdder();
+                    dao.scan(ThreadLocalRandom.current().nextInt(1, 4), vo -> rows.increment());
+                    break;
+            }
+        } catch (OptimisticLockException e) {
+            stat.conflicts.increment();
+        } catch (SQLException | RuntimeException e) {
+            stat.errors.increment();
+        }
+        stat.record((System.nanoTime() - start) / 1_000);
+    }
+
+    /**
+     * 학생 하나를 입력하고, 커밋에 성공하면 이번 실행에서 만든 학생으로 기록합니다.
+     * 같은 학번의 기존 학생이 있으면 입력이 실패하므로 기록되지 않습니다.
+     */
+    private void input(long n) throws SQLException {
+        String sno = key(n);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StudentVO vo = new StudentVO(sno, "부하" + sno,
+                random.nextInt(101), random.nextInt(101), random.nextInt(101), random.nextInt(101));
+        try (UnitOfWork<StudentVO> work = dao.begin()) {
+            work.input(vo);
+            work.commit();
+        }
+        created.add(n);
+    }
+
+    /**
+     * 이번 실행에서 만든 학생 하나를 삭제합니다. 실패하면 종료 시 다시 삭제하도록 되돌려 둡니다.
+     */
+    private void delete(long n) throws SQLException {
+        try (UnitOfWork<StudentVO> work = dao.begin()) {
+            work.delete(key(n));
+            work.commit();
+        } catch (SQLException | RuntimeException e) {
+            created.add(n);
+            throw e;
+        }
+    }
+
+    private void update(String sno) throws SQLException {
+        StudentVO current = dao.find(sno);
+        if (current == null) return;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StudentVO vo = new StudentVO(sno, current.getName(),
+                random.nextInt(101), random.nextInt(101), random.nextInt(101), random.nextInt(101));
+        vo.setVersion(current.getVersion());
+        try (UnitOfWork<StudentVO> work = dao.begin()) {
+            work.update(vo);
+            work.commit();
+        }
+    }
+
+    private String key(long n) {
+        return prefix + String.format("%06d", n);
+    }
+
+    /**
+     * @return 지금까지 배정한 학번 번호 중 하나 (이번 실행에서 만들지 않았거나 이미 삭제된 번호일 수 있음)
+     */
+    private long randomKey() {
+        long bound = Math.max(1, nextKey.get());
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    /**
+     * 수정/검색 대상이 될 학생을 미리 입력합니다. 어떤 학번이 입력되었는지 알 수 있도록 한 명씩 커밋합니다.
+     */
+    private void seed(int count) {
+        int failed = 0;
+        for (int i = 0; i < count; i++) {
+            try {
+                input(nextKey.getAndIncrement());
+            } catch (SQLException e) {
+                failed++;
+            }
+        }
+        if (failed > 0) System.out.println("부하 테스트 초기 데이터 " + failed + "건 입력 실패 (같은 학번의 기존 학생 등)");
+    }
+
+    /**
+     * 부하 테스트 중 만든 학생만 삭제합니다.
+     */
+    private void cleanup() {
+        List<Long> keys = new ArrayList<>(created);
+        int removed = 0;
+        for (int from = 0; from < keys.size(); from += 500) {
+            List<Long> chunk = keys.subList(from, Math.min(keys.size(), from + 500));
+            try (UnitOfWork<StudentVO> work = dao.begin()) {
+                for (long n : chunk) work.delete(key(n));
+                work.commit();
+                created.removeAll(chunk);
+                removed += chunk.size();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        System.out.println("부하 테스트 데이터 " + removed + "건 정리 완료"
+                + (created.isEmpty() ? "" : " (" + created.size() + "건 정리 실패)"));
+    }
+
+    /**
+     * 모든 작업의 누적 통계를 복사합니다.
+     */
+    private long[][] snapshot() {
+        long[][] snap = new long[stats.length][];
+        for (int i = 0; i < stats.length; i++) snap[i] = stats[i].snapshot();
+        return snap;
+    }
+
+    /**
+     * 두 스냅숏 사이(또는 처음부터)의 작업별 처리량, 지연 시간 백분위수, 오류율을 출력합니다.
+     */
+    private void report(String label, long[][] from, long[][] to, long elapsedNanos) {
+        double elapsed = elapsedNanos / 1e9;
+        long allOps = 0, allErrors = 0;
+
+        System.out.println("[" + label + "]\t작업\t처리량(/s)\tp50(ms)\tp95(ms)\tp99(ms)\t최대(ms)\t오류\t충돌");
+        for (Op op : Op.values()) {
+            long[] diff = Stats.diff(from == null ? null : from[op.ordinal()], to[op.ordinal()]);
+            long count = Stats.count(diff);
+            if (count == 0) continue;
+
+            long errors = diff[Stats.ERRORS];
+            allOps += count;
+            allErrors += errors;
+            System.out.printf("\t%s\t%.1f\t%.2f\t%.2f\t%.2f\t%.2f\t%d\t%d\n", op, count / elapsed,
+                    Stats.percentile(diff, 0.50) / 1e3, Stats.percentile(diff, 0.95) / 1e3,
+                    Stats.percentile(diff, 0.99) / 1e3, Stats.percentile(diff, 1.0) / 1e3,
+                    errors, diff[Stats.CONFLICTS]);
+        }
+        System.out.printf("\t합계 %.1f/s, 오류율 %.2f%%\n", allOps / elapsed,
+                allOps == 0 ? 0.0 : 100.0 * allErrors / allOps);
+    }
+
+    /**
+     * 작업 하나의 지연 시간 분포(마이크로초)와 오류/충돌 수를 락 없이 누적합니다.
+     * <p>
+     * 지연 시간은 2의 거듭제곱 구간을 다시 32개로 나눈 버킷에 세므로 상대 오차는 약 3% 이내이고,
+     * 누적값만 기록하여 보고 구간의 분포는 두 스냅숏의 차이로 구합니다.
+     */
+    private static class Stats {
+        private static final int SUB_BITS = 5;
+        private static final int LINEAR = 2 << SUB_BITS;
+        private static final int BUCKETS = LINEAR + (64 - SUB_BITS - 1) * (1 << SUB_BITS);
+
+        /** 스냅숏 배열에서 오류 수와 충돌 수가 저장되는 위치 */
+        static final int ERRORS = BUCKETS;
+        static final int CONFLICTS = BUCKETS + 1;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        final LongAdder errors = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+
+        void record(long micros) {
+            buckets.incrementAndGet(index(Math.max(0, micros)));
+        }
+
+        long[] snapshot() {
+            long[] snap = new long[BUCKETS + 2];
+            for (int i = 0; i < BUCKETS; i++) snap[i] = buckets.get(i);
+            snap[ERRORS] = errors.sum();
+            snap[CONFLICTS] = conflicts.sum();
+            return snap;
+        }
+
+        static long[] diff(long[] from, long[] to) {
+            if (from == null) return to;
+            long[] diff = new long[to.length];
+            for (int i = 0; i < to.length; i++) diff[i] = to[i] - from[i];
+            return diff;
+        }
+
+        static long count(long[] snap) {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) count += snap[i];
+            return count;
+        }
+
+        /**
+         * @return 백분위수에 해당하는 버킷의 상한(마이크로초)
+         */
+        static long percentile(long[] snap, double quantile) {
+            long target = Math.max(1, (long) Math.ceil(count(snap) * quantile));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snap[i];
+                if (seen >= target) return upperBound(i);
+            }
+            return upperBound(BUCKETS - 1);
+        }
+
+        private static int index(long value) {
+            if (value < LINEAR) return (int) value;
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & ((1 << SUB_BITS) - 1);
+            return LINEAR + (exponent - SUB_BITS - 1) * (1 << SUB_BITS) + sub;
+        }
+
+        private static long upperBound(int index) {
+            if (index < LINEAR) return index;
+            int exponent = (index - LINEAR) / (1 << SUB_BITS) + SUB_BITS + 1;
+            int sub = (index - LINEAR) % (1 << SUB_BITS);
+            return (((long) (1 << SUB_BITS) + sub + 1) << (exponent - SUB_BITS)) - 1;
+        }
+    }
+}
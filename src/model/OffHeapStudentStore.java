@@ -0,0 +1,321 @@
+package model;
+
+import util.Cache;
+import util.CacheStats;
+import vo.StudentVO;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code OffHeapStudentStore} 클래스는 학생 데이터를 힙 밖(direct {@link ByteBuffer})의 고정 크기 슬롯에 보관하는 캐시입니다.
+ * <p>
+ * 학생 한 명은 {@value #SLOT}바이트 슬롯 하나에 인코딩되고, 학번에서 슬롯 번호로의 인덱스는 {@code int[]} 하나로 된
+ * 선형 탐사 해시 테이블이므로, 캐시에 몇 명이 있든 GC가 추적할 객체 수는 일정합니다.
+ * {@link StudentVO}는 조회할 때마다 슬롯에서 새로 디코딩하여 반환합니다.
+ * <p>
+ * 슬롯이 모두 차면 CLOCK(second-chance) 방식으로 최근에 조회되지 않은 슬롯을 교체합니다.
+ * 학번이 {@value #SNO_BYTES}바이트, 이름이 {@value #NAME_BYTES}바이트(UTF-8)를 넘는 학생은 캐시하지 않습니다.
+ * 만료된 슬롯은 다시 저장되거나 교체될 때까지 남아 {@link #peekStale(String)}의 대체 값으로 쓰입니다.
+ */
+public class OffHeapStudentStore implements Cache<String, StudentVO> {
+    /** 슬롯 구성: 상태, 참조 비트, 학번/이름 길이, 버전, 저장 시각, 해시, 네 과목 점수, 학번, 이름 */
+    private static final int STATE = 0, REF = 1, SNO_LEN = 2, NAME_LEN = 3, VERSION = 4, WRITTEN = 8, HASH = 16,
+            SCORES = 20, SNO = 36, NAME = 60;
+    static final int SNO_BYTES = NAME - SNO;
+    static final int NAME_BYTES = 48;
+    static final int SLOT = NAME + NAME_BYTES;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final long ttlNanos;
+    private final Consumer<StudentVO> decorator;
+
+    /** 학번 해시 → 슬롯 번호 + 1 (0은 빈 칸) */
+    private final int[] index;
+    private final int mask;
+
+    /** 비어 있는 슬롯 번호 스택 */
+    private final int[] free;
+    private int freeCount;
+
+    /** CLOCK 교체 위치 */
+    private int hand;
+
+    private int size;
+    private long hits, misses, evictions, expirations;
+
+    /**
+     * 저장소를 생성합니다.
+     *
+     * @param capacity   최대 학생 수
+     * @param ttlSeconds 저장 후 만료 시간(초), 0이면 만료 없음
+     * @param decorator  디코딩한 학생에 파생 값(총점, 평균, 등급)을 채우는 함수
+     */
+    public OffHeapStudentStore(int capacity, long ttlSeconds, Consumer<StudentVO> decorator) {
+        this.capacity = Math.max(1, Math.min(capacity, Integer.MAX_VALUE / SLOT));
+        this.buffer = ByteBuffer.allocateDirect(this.capacity * SLOT);
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.decorator = decorator;
+
+        int tableSize = Integer.highestOneBit(Math.max(2, this.capacity * 2 - 1)) << 1;
+        this.index = new int[tableSize];
+        this.mask = tableSize - 1;
+
+        this.free = new int[this.capacity];
+        for (int i = 0; i < this.capacity; i++) free[i] = this.capacity - 1 - i;
+        this.freeCount = this.capacity;
+    }
+
+    @Override
+    public synchronized StudentVO get(String key) {
+        int slot = live(key);
+        if (slot < 0) {
+            misses++;
+            return null;
+        }
+        hits++;
+        buffer.put(slot * SLOT + REF, (byte) 1);
+        return decode(slot);
+    }
+
+    @Override
+    public synchronized StudentVO peek(String key) {
+        int slot = live(key);
+        return (slot < 0) ? null : decode(slot);
+    }
+
+    @Override
+    public synchronized StudentVO peekStale(String key) {
+        int position = locate(key, utf8(key));
+        return (position < 0) ? null : decode(index[position] - 1);
+    }
+
+    @Override
+    public synchronized StudentVO put(String key, StudentVO value) {
+        int slot = slot(key);
+        StudentVO old = (slot < 0) ? null : decode(slot);
+        store(key, value, slot);
+        return old;
+    }
+
+    @Override
+    public synchronized StudentVO putIfAbsent(String key, StudentVO value) {
+        int slot = slot(key);
+        if (slot >= 0 && !expired(slot, System.nanoTime())) return decode(slot);
+
+        // 만료된 슬롯은 없는 것으로 보고 그 자리에 새 값을 씁니다.
+        store(key, value, slot);
+        return null;
+    }
+
+    @Override
+    public synchronized StudentVO remove(String key) {
+        int position = locate(key, utf8(key));
+        if (position < 0) return null;
+
+        int slot = index[position] - 1;
+        StudentVO old = decode(slot);
+        release(position, slot);
+        return old;
+    }
+
+    @Override
+    public synchronized List<StudentVO> values() {
+        List<StudentVO> values = new ArrayList<>(size);
+        long now = System.nanoTime();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (buffer.get(slot * SLOT + STATE) != 0 && !expired(slot, now)) values.add(decode(slot));
+        }
+        return values;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void clear() {
+        Arrays.fill(index, 0);
+        for (int i = 0; i < capacity; i++) {
+            buffer.put(i * SLOT + STATE, (byte) 0);
+            free[i] = capacity - 1 - i;
+        }
+        freeCount = capacity;
+        size = 0;
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, expirations, size, capacity);
+    }
+
+    /**
+     * 학번에 해당하는 만료되지 않은 슬롯을 찾습니다. 만료된 슬롯은 대체 값으로 쓸 수 있도록 남겨 둡니다.
+     *
+     * @return 슬롯 번호, 없으면 -1
+     */
+    private int live(String key) {
+        int slot = slot(key);
+        if (slot < 0 || !expired(slot, System.nanoTime())) return slot;
+
+        expirations++;
+        return -1;
+    }
+
+    /**
+     * @return 학번에 해당하는 슬롯 번호(만료 여부 무관), 없으면 -1
+     */
+    private int slot(String key) {
+        int position = locate(key, utf8(key));
+        return (position < 0) ? -1 : index[position] - 1;
+    }
+
+    private boolean expired(int slot, long now) {
+        return ttlNanos > 0 && now - buffer.getLong(slot * SLOT + WRITTEN) >= ttlNanos;
+    }
+
+    /**
+     * 학생을 슬롯에 기록합니다. 학번이나 이름이 슬롯에 들어가지 않으면 기존 항목만 지웁니다.
+     *
+     * @param slot 이미 이 학번이 있는 슬롯, 없으면 -1
+     */
+    private void store(String key, StudentVO vo, int slot) {
+        byte[] sno = utf8(key);
+        byte[] name = utf8(vo.getName() == null ? "" : vo.getName());
+        if (sno.length > SNO_BYTES || name.length > NAME_BYTES) {
+            if (slot >= 0) release(locate(key, sno), slot);
+            return;
+        }
+
+        int hash = hash(key);
+        if (slot < 0) {
+            slot = allocate();
+            insertIndex(hash, slot);
+            size++;
+        }
+
+        int base = slot * SLOT;
+        buffer.put(base + STATE, (byte) 1);
+        buffer.put(base + REF, (byte) 0);
+        buffer.put(base + SNO_LEN, (byte) sno.length);
+        buffer.put(base + NAME_LEN, (byte) name.length);
+        buffer.putInt(base + VERSION, vo.getVersion());
+        buffer.putLong(base + WRITTEN, System.nanoTime());
+        buffer.putInt(base + HASH, hash);
+        buffer.putInt(base + SCORES, vo.getKorean());
+        buffer.putInt(base + SCORES + 4, vo.getEnglish());
+        buffer.putInt(base + SCORES + 8, vo.getMath());
+        buffer.putInt(base + SCORES + 12, vo.getScience());
+        buffer.put(base + SNO, sno);
+        buffer.put(base + NAME, name);
+    }
+
+    private StudentVO decode(int slot) {
+        int base = slot * SLOT;
+        byte[] sno = new byte[buffer.get(base + SNO_LEN)];
+        byte[] name = new byte[buffer.get(base + NAME_LEN)];
+        buffer.get(base + SNO, sno);
+        buffer.get(base + NAME, name);
+
+        StudentVO vo = new StudentVO(new String(sno, StandardCharsets.UTF_8), new String(name, StandardCharsets.UTF_8),
+                buffer.getInt(base + SCORES), buffer.getInt(base + SCORES + 4),
+                buffer.getInt(base + SCORES + 8), buffer.getInt(base + SCORES + 12));
+        vo.setVersion(buffer.getInt(base + VERSION));
+        decorator.accept(vo);
+        return vo;
+    }
+
+    /**
+     * 빈 슬롯을 하나 얻습니다. 빈 슬롯이 없으면 CLOCK 방식으로 하나를 비웁니다.
+     */
+    private int allocate() {
+        if (freeCount > 0) return free[--freeCount];
+
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % capacity;
+
+            int base = slot * SLOT;
+            if (buffer.get(base + REF) != 0) {
+                buffer.put(base + REF, (byte) 0);
+                continue;
+            }
+
+            byte[] sno = new byte[buffer.get(base + SNO_LEN)];
+            buffer.get(base + SNO, sno);
+            release(locate(new String(sno, StandardCharsets.UTF_8), sno), slot);
+            evictions++;
+            return free[--freeCount];
+        }
+    }
+
+    /**
+     * 슬롯을 비우고 인덱스에서 제거합니다.
+     */
+    private void release(int position, int slot) {
+        buffer.put(slot * SLOT + STATE, (byte) 0);
+        free[freeCount++] = slot;
+        size--;
+        removeIndex(position);
+    }
+
+    /**
+     * 인덱스에서 학번의 위치를 찾습니다.
+     *
+     * @return 인덱스 위치, 없으면 -1
+     */
+    private int locate(String key, byte[] sno) {
+        for (int i = hash(key) & mask; index[i] != 0; i = (i + 1) & mask) {
+            int base = (index[i] - 1) * SLOT;
+            if (buffer.get(base + SNO_LEN) == sno.length && sameBytes(base + SNO, sno)) return i;
+        }
+        return -1;
+    }
+
+    private boolean sameBytes(int offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(offset + i) != bytes[i]) return false;
+        }
+        return true;
+    }
+
+    private void insertIndex(int hash, int slot) {
+        int i = hash & mask;
+        while (index[i] != 0) i = (i + 1) & mask;
+        index[i] = slot + 1;
+    }
+
+    /**
+     * 선형 탐사 테이블에서 항목을 지우고, 뒤따르는 항목을 앞으로 당겨 탐사 경로가 끊기지 않게 합니다.
+     */
+    private void removeIndex(int hole) {
+        index[hole] = 0;
+        for (int i = (hole + 1) & mask; index[i] != 0; i = (i + 1) & mask) {
+            int home = buffer.getInt((index[i] - 1) * SLOT + HASH) & mask;
+            // home이 (hole, i] 구간 밖에 있으면 hole로 옮겨도 탐사로 찾을 수 있습니다.
+            boolean movable = (hole <= i) ? (home <= hole || home > i) : (home <= hole && home > i);
+            if (movable) {
+                index[hole] = index[i];
+                index[i] = 0;
+                hole = i;
+            }
+        }
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x45D9F3B;
+        return h ^ (h >>> 16);
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
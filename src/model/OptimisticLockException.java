@@ -0,0 +1,32 @@
+package model;
+
+import java.sql.SQLException;
+
+/**
+ * {@code OptimisticLockException}은 수정하려는 데이터가 읽은 뒤 다른 사용자에 의해 먼저 수정되었을 때 발생합니다.
+ * 덮어쓰지 않고 이 예외로 충돌을 알리므로, 호출자는 데이터를 다시 조회한 뒤 수정해야 합니다.
+ */
+public class OptimisticLockException extends SQLException {
+    private static final long serialVersionUID = 1L;
+
+    private final String key;
+    private final int expectedVersion;
+
+    /**
+     * @param key             충돌한 데이터의 식별 번호
+     * @param expectedVersion 수정 요청이 기대한 버전
+     */
+    public OptimisticLockException(String key, int expectedVersion) {
+        super(key + " 데이터가 다른 사용자에 의해 먼저 수정되었습니다. (기대한 버전: " + expectedVersion + ")");
+        this.key = key;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getExpectedVersion() {
+        return expectedVersion;
+    }
+}
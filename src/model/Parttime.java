@@ -0,0 +1,18 @@
+package model;
+
+import vo.ParttimeVO;
+
+/**
+ * {@code Parttime} 인터페이스는 시간제 직원 관리 기능을 정의하는 인터페이스입니다.
+ * 공통 데이터 관리 기능에 더해 임금 계산 기능을 제공합니다.
+ */
+public interface Parttime extends DBCommon {
+    /**
+     * 시간제 직원의 임금을 계산합니다.
+     *
+     * 시급에 근무 시간을 곱하여 임금을 계산합니다.
+     *
+     * @param parttimeVO 임금을 계산할 직원 객체
+     */
+    void pay(ParttimeVO parttimeVO);
+}
@@ -0,0 +1,197 @@
+package model;
+
+import util.LatencyBudget;
+import util.NameCollation;
+import vo.ParttimeVO;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code ParttimeDAO} 클래스는 시간제 직원 데이터를 관리하기 위한 데이터 접근 객체(DAO)입니다.
+ * <p>
+ * {@code parttime(eno, name, hourly_wage, work_hours)} 테이블을 사용하며,
+ * 공통 기능은 {@link AbstractDAO}에서 제공하고 임금 계산 로직을 추가로 포함합니다.
+ */
+public class ParttimeDAO extends AbstractDAO<ParttimeVO> implements Parttime {
+    /**
+     * 싱글톤(Singleton)으로 구현된 DAO 인스턴스
+     */
+    private static ParttimeDAO dao;
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     */
+    private ParttimeDAO() {
+    }
+
+    /**
+     * DAO 인스턴스를 반환하는 싱글톤(Singleton) 메서드
+     *
+     * @return {@code ParttimeDAO} 인스턴스
+     */
+    public static synchronized ParttimeDAO getInstance() {
+        if (dao == null) dao = new ParttimeDAO();
+        return dao;
+    }
+
+    /**
+     * 시간제 테이블의 컬럼을 인덱스 순서대로 읽는 매퍼
+     */
+    private static final RowMapper<ParttimeVO> MAPPER = rs -> {
+        ParttimeVO vo = new ParttimeVO(rs.getString(1), rs.getString(2), rs.getInt(3), rs.getInt(4));
+        vo.setNameKey(rs.getBytes(5));
+        return vo;
+    };
+
+    @Override
+    protected String selectSql() {
+        return "SELECT eno, name, hourly_wage, work_hours, " + NameCollation.KEY_SQL + " FROM parttime";
+    }
+
+    @Override
+    protected String keyColumn() {
+        return "eno";
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO parttime (eno, name, hourly_wage, work_hours) VALUES (?, ?, ?, ?)";
+    }
+
+    @Override
+    protected String upsertSql() {
+        return "INSERT INTO parttime (eno, name, hourly_wage, work_hours) VALUES (?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE name = VALUES(name), hourly_wage = VALUES(hourly_wage), work_hours = VALUES(work_hours)";
+    }
+
+    @Override
+    protected String updateSql() {
+        return "UPDATE parttime SET name=?, hourly_wage=?, work_hours=? WHERE eno=?";
+    }
+
+    @Override
+    protected String deleteSql() {
+        return "DELETE FROM parttime WHERE eno = ?";
+    }
+
+    @Override
+    protected String orderBy(int sortNum) {
+        switch (sortNum) {
+            // 이름이 같거나 콜레이션상 같은 이름은 사번으로 순서를 정해 메모리 정렬과 맞춥니다.
+            case 1: return " ORDER BY name ASC, eno ASC";
+            case 2: return " ORDER BY eno ASC";
+            case 3: return " ORDER BY (hourly_wage * work_hours) DESC";
+            default: return "";
+        }
+    }
+
+    @Override
+    protected Comparator<ParttimeVO> comparator(int sortNum) {
+        switch (sortNum) {
+            case 1: return (p1, p2) -> {
+                // 데이터베이스가 계산한 정렬 키를 바이트로 비교하고, 같은 이름은 사번으로 순서를 정해 DB 정렬과 맞춥니다.
+                int c = NameCollation.compare(p1.getNameKey(), p2.getNameKey());
+                return (c != 0) ? c : p1.getEno().compareTo(p2.getEno());
+            };
+            case 2: return (p1, p2) -> p1.getEno().compareTo(p2.getEno());
+            case 3: return (p1, p2) -> p2.getPay() - p1.getPay();
+            default: return null;
+        }
+    }
+
+    /**
+     * 이름순으로 정렬하기 전에, 정렬 키를 모르는 직원(입력/수정 후 캐시된 직원 등)의 키를 데이터베이스에서 읽어 채웁니다.
+     * 데이터베이스의 이름이 캐시의 이름과 같을 때만 쓰며, 읽지 못한 직원은 이름순 목록의 맨 뒤에 놓입니다.
+     */
+    @Override
+    protected void prepareSort(List<ParttimeVO> list, int sortNum) {
+        if (sortNum != 1) return;
+
+        Map<String, ParttimeVO> missing = new HashMap<>();
+        for (ParttimeVO vo : list) {
+            if (vo.getNameKey() == null) missing.put(vo.getEno(), vo);
+        }
+        if (missing.isEmpty()) return;
+
+        LatencyBudget budget = LatencyBudget.start(READ_BUDGET_MILLIS);
+        try {
+            for (ParttimeVO stored : reload(missing.keySet()).values()) {
+                ParttimeVO vo = missing.get(stored.getEno());
+                if (stored.getName().equals(vo.getName())) vo.setNameKey(stored.getNameKey());
+            }
+        } catch (SQLException e) {
+            System.out.println("이름 정렬 키를 읽지 못했습니다(" + e.getMessage() + "): 해당 직원은 목록의 맨 뒤에 표시합니다.");
+        } finally {
+            budget.close();
+        }
+    }
+
+    @Override
+    protected RowMapper<ParttimeVO> mapper() {
+        return MAPPER;
+    }
+
+    @Override
+    protected void bindInsert(PreparedStatement pstmt, ParttimeVO vo) throws SQLException {
+        pstmt.setString(1, vo.getEno());
+        pstmt.setString(2, vo.getName());
+        pstmt.setInt(3, vo.getHourlyWage());
+        pstmt.setInt(4, vo.getWorkHours());
+    }
+
+    @Override
+    protected void bindUpdate(PreparedStatement pstmt, ParttimeVO vo) throws SQLException {
+        pstmt.setString(1, vo.getName());
+        pstmt.setInt(2, vo.getHourlyWage());
+        pstmt.setInt(3, vo.getWorkHours());
+        pstmt.setString(4, vo.getEno());
+    }
+
+    @Override
+    protected String keyOf(ParttimeVO vo) {
+        return vo.getEno();
+    }
+
+    @Override
+    protected void derive(ParttimeVO vo) {
+        this.pay(vo);
+    }
+
+    @Override
+    protected String format(ParttimeVO p) {
+        return String.format("%s\t%s\t%d\t%d\t%d",
+                p.getEno(), p.getName(), p.getHourlyWage(), p.getWorkHours(), p.getPay());
+    }
+
+    @Override
+    protected String notFoundMessage() {
+        return "입력된 알바가 없습니다.";
+    }
+
+    /**
+     * 전체 시간제 직원 데이터를 특정 조건에 따라 정렬하여 출력합니다.
+     *
+     * @param sortNum 정렬 조건을 나타내는 번호
+     */
+    @Override
+    public void totalSearch(int sortNum) {
+        System.out.println("사번\t이름\t시급\t근무시간\t임금");
+        System.out.println("--------------------------------------------------");
+        super.totalSearch(sortNum);
+    }
+
+    /**
+     * 시간제 직원의 임금을 계산합니다.
+     *
+     * @param parttimeVO 임금을 계산할 직원 객체
+     */
+    @Override
+    public void pay(ParttimeVO parttimeVO) {
+        parttimeVO.setPay(parttimeVO.getHourlyWage() * parttimeVO.getWorkHours());
+    }
+}
@@ -0,0 +1,390 @@
+package model;
+
+import util.DBUtil;
+import vo.PayslipVO;
+import vo.ShiftVO;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@code PayrollEngine} 클래스는 시간제 직원의 근무 기록으로부터 정산 기간의 급여를 일괄 계산하는 배치 엔진입니다.
+ * <p>
+ * 처리 과정은 다음과 같습니다:
+ * - {@code shift} 테이블의 근무 기록을 사번 순으로 스트리밍하여 직원별 근무표로 묶습니다.
+ * - 일정 수의 근무표가 모일 때마다 Fork/Join 작업으로 제출하여, 조회와 계산을 병렬로 진행합니다.
+ * - 계산 결과는 {@code payroll} 테이블에 배치 INSERT로 기록하고 한 번만 커밋합니다.
+ *   근무 기록을 끝까지 읽지 못하면 아무것도 기록하지 않으므로, 일부 직원만 정산된 결과가 남지 않습니다.
+ * <p>
+ * 급여 항목은 {@link StudentDAO}가 총점/평균/등급을 파생 값으로 계산하듯 근무 기록에서 파생됩니다:
+ * - 기본급: 시급 * 근무 시간
+ * - 가산 수당: 야간(22시~06시), 주말, 공휴일 근무 시간에 대한 가산율 적용 (주말/공휴일은 높은 쪽 하나만 적용)
+ *   공휴일은 {@code holiday} 테이블에 날짜로 등록하며, 근무가 걸친 날 중 공휴일인 날의 시간에만 적용합니다.
+ * <p>
+ * 근무 기록과 공휴일은 {@link #addShift(ShiftVO)}, {@link #addHoliday(LocalDate, String)}로 등록합니다.
+ * - 주휴 수당: 주 15시간 이상 근무한 주마다 (주 근무 시간 / 40) * 8시간분 (40시간 상한)
+ */
+public class PayrollEngine {
+    /**
+     * 싱글톤(Singleton)으로 구현된 엔진 인스턴스
+     */
+    private static PayrollEngine engine;
+
+    /** 하나의 Fork/Join 작업으로 제출할 근무표 수 */
+    private static final int CHUNK_SIZE = 256;
+
+    /** 더 이상 분할하지 않고 직접 계산할 근무표 수 */
+    private static final int SPLIT_THRESHOLD = 32;
+
+    /** 한 번에 전송할 INSERT 배치 크기 */
+    private static final int BATCH_SIZE = 500;
+
+    /** 주휴 수당 기준: 주 15시간(분) */
+    private static final long WEEKLY_MIN_MINUTES = 15 * 60;
+
+    /** 주휴 수당 기준: 주 40시간(분) */
+    private static final long WEEKLY_FULL_MINUTES = 40 * 60;
+
+    private static final LocalTime NIGHT_END = LocalTime.of(6, 0);
+    private static final LocalTime NIGHT_START = LocalTime.of(22, 0);
+
+    /** 야간/주말/공휴일 가산율(%) */
+    private final int nightRate;
+    private final int weekendRate;
+    private final int holidayRate;
+
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     */
+    private PayrollEngine() {
+        nightRate = Integer.parseInt(DBUtil.getProperty("payroll.nightRate", "50"));
+        weekendRate = Integer.parseInt(DBUtil.getProperty("payroll.weekendRate", "50"));
+        holidayRate = Integer.parseInt(DBUtil.getProperty("payroll.holidayRate", "50"));
+    }
+
+    /**
+     * 엔진 인스턴스를 반환하는 싱글톤(Singleton) 메서드
+     *
+     * @return {@code PayrollEngine} 인스턴스
+     */
+    public static synchronized PayrollEngine getInstance() {
+        if (engine == null) engine = new PayrollEngine();
+        return engine;
+    }
+
+    /**
+     * 근무 기록 한 건을 {@code shift} 테이블에 등록합니다.
+     *
+     * @param shift 근무 기록 (퇴근 시각은 출근 시각 이후여야 함)
+     * @throws IllegalArgumentException 퇴근 시각이 출근 시각 이후가 아닌 경우
+     * @throws SQLException             같은 직원의 같은 출근 시각이 이미 있거나 기록에 실패한 경우
+     */
+    public void addShift(ShiftVO shift) throws SQLException {
+        if (!shift.getEnd().isAfter(shift.getStart())) {
+            throw new IllegalArgumentException("퇴근 시각은 출근 시각 이후여야 합니다.");
+        }
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO shift (eno, start_time, end_time) VALUES (?, ?, ?)")) {
+            pstmt.setString(1, shift.getEno());
+            pstmt.setTimestamp(2, Timestamp.valueOf(shift.getStart()));
+            pstmt.setTimestamp(3, Timestamp.valueOf(shift.getEnd()));
+            pstmt.executeUpdate();
+            DBUtil.markWritten();
+        }
+    }
+
+    /**
+     * 공휴일을 등록합니다. 이미 등록된 날짜면 이름만 바꿉니다.
+     *
+     * @param day  날짜
+     * @param name 공휴일 이름
+     * @throws SQLException 기록에 실패한 경우
+     */
+    public void addHoliday(LocalDate day, String name) throws SQLException {
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO holiday (day, name) VALUES (?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name)")) {
+            pstmt.setObject(1, day);
+            pstmt.setString(2, name);
+            pstmt.executeUpdate();
+            DBUtil.markWritten();
+        }
+    }
+
+    /**
+     * 기간 안의 공휴일을 읽습니다.
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (미포함)
+     */
+    private Set<LocalDate> holidays(LocalDate from, LocalDate to) throws SQLException {
+        Set<LocalDate> days = new HashSet<>();
+        try (Connection conn = DBUtil.getReadConnection(0);
+             PreparedStatement pstmt = conn.prepareStatement("SELECT day FROM holiday WHERE day >= ? AND day < ?")) {
+            pstmt.setObject(1, from);
+            pstmt.setObject(2, to);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) days.add(rs.getDate(1).toLocalDate());
+            }
+        }
+        return days;
+    }
+
+    /**
+     * 한 직원의 정산 기간 내 근무 기록 묶음
+     */
+    private static class Timesheet {
+        final String eno;
+        final int hourlyWage;
+        final List<ShiftVO> shifts = new ArrayList<>();
+
+        Timesheet(String eno, int hourlyWage) {
+            this.eno = eno;
+            this.hourlyWage = hourlyWage;
+        }
+    }
+
+    /**
+     * 정산 기간의 급여를 계산하여 {@code payroll} 테이블에 기록합니다.
+     *
+     * @param from 정산 시작일 (포함)
+     * @param to   정산 종료일 (미포함)
+     * @return 계산된 급여 목록
+     * @throws SQLException 근무 기록을 끝까지 읽지 못했거나 기록에 실패한 경우 (기록된 급여 없음)
+     */
+    public List<PayslipVO> run(LocalDate from, LocalDate to) throws SQLException {
+        // 종료일 전날 시작한 근무는 종료일로 넘어갈 수 있으므로 종료일까지 읽습니다.
+        Set<LocalDate> holidays = holidays(from, to.plusDays(1));
+
+        List<ForkJoinTask<List<PayslipVO>>> tasks = new ArrayList<>();
+        String sql = "SELECT s.eno, p.hourly_wage, s.start_time, s.end_time"
+                + " FROM shift s JOIN parttime p ON p.eno = s.eno"
+                + " WHERE s.start_time >= ? AND s.start_time < ?"
+                + " ORDER BY s.eno, s.start_time";
+
+        try (Connection conn = DBUtil.getReadConnection(0);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            // MySQL 드라이버가 결과 전체를 메모리에 올리지 않고 행 단위로 스트리밍하도록 합니다.
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            pstmt.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+            pstmt.setTimestamp(2, Timestamp.valueOf(to.atStartOfDay()));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                List<Timesheet> chunk = new ArrayList<>(CHUNK_SIZE);
+                Timesheet current = null;
+
+                while (rs.next()) {
+                    String eno = rs.getString(1);
+                    if (current == null || !current.eno.equals(eno)) {
+                        if (chunk.size() == CHUNK_SIZE) {
+                            tasks.add(pool.submit(new PayTask(chunk, 0, chunk.size(), from, to, holidays)));
+                            chunk = new ArrayList<>(CHUNK_SIZE);
+                        }
+                        current = new Timesheet(eno, rs.getInt(2));
+                        chunk.add(current);
+                    }
+                    current.shifts.add(new ShiftVO(eno,
+                            rs.getTimestamp(3).toLocalDateTime(),
+                            rs.getTimestamp(4).toLocalDateTime()));
+                }
+                if (!chunk.isEmpty()) tasks.add(pool.submit(new PayTask(chunk, 0, chunk.size(), from, to, holidays)));
+            }
+        } catch (SQLException e) {
+            // 읽은 만큼만 정산하면 나머지 직원이 빠진 결과가 남으므로, 제출한 계산을 취소하고 아무것도 기록하지 않습니다.
+            for (ForkJoinTask<List<PayslipVO>> task : tasks) task.cancel(false);
+            throw e;
+        }
+
+        List<PayslipVO> payslips = new ArrayList<>();
+        for (ForkJoinTask<List<PayslipVO>> task : tasks) payslips.addAll(task.join());
+
+        save(payslips);
+        return payslips;
+    }
+
+    /**
+     * 근무표 범위를 나누어 병렬로 급여를 계산하는 Fork/Join 작업
+     */
+    private class PayTask extends RecursiveTask<List<PayslipVO>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Timesheet> sheets;
+        private final int lo;
+        private final int hi;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final Set<LocalDate> holidays;
+
+        PayTask(List<Timesheet> sheets, int lo, int hi, LocalDate from, LocalDate to, Set<LocalDate> holidays) {
+            this.sheets = sheets;
+            this.lo = lo;
+            this.hi = hi;
+            this.from = from;
+            this.to = to;
+            this.holidays = holidays;
+        }
+
+        @Override
+        protected List<PayslipVO> compute() {
+            if (hi - lo <= SPLIT_THRESHOLD) {
+                List<PayslipVO> result = new ArrayList<>(hi - lo);
+                for (int i = lo; i < hi; i++) result.add(pay(sheets.get(i), from, to, holidays));
+                return result;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            PayTask left = new PayTask(sheets, lo, mid, from, to, holidays);
+            left.fork();
+            List<PayslipVO> right = new PayTask(sheets, mid, hi, from, to, holidays).compute();
+            List<PayslipVO> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+
+    /**
+     * 한 직원의 근무표로부터 급여를 계산합니다.
+     *
+     * @param sheet    직원의 근무표
+     * @param from     정산 시작일
+     * @param to       정산 종료일
+     * @param holidays 기간 안의 공휴일
+     * @return 계산된 급여
+     */
+    private PayslipVO pay(Timesheet sheet, LocalDate from, LocalDate to, Set<LocalDate> holidays) {
+        long workMinutes = 0;
+        // 가산 수당은 "분 * 가산율(%)" 단위로 모은 뒤 마지막에 한 번만 나누어 반올림 오차를 줄입니다.
+        long premiumMinutePercent = 0;
+        Map<LocalDate, Long> weekMinutes = new HashMap<>();
+
+        for (ShiftVO shift : sheet.shifts) {
+            LocalDateTime start = shift.getStart();
+            LocalDateTime end = shift.getEnd();
+            if (!end.isAfter(start)) continue;
+
+            long minutes = Duration.between(start, end).toMinutes();
+            workMinutes += minutes;
+            premiumMinutePercent += nightMinutes(start, end) * nightRate;
+            premiumMinutePercent += restDayMinutePercent(start, end, holidays);
+
+            LocalDate monday = start.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weekMinutes.merge(monday, minutes, Long::sum);
+        }
+
+        long wage = sheet.hourlyWage;
+        long weeklyAllowance = 0;
+        for (long minutes : weekMinutes.values()) {
+            if (minutes >= WEEKLY_MIN_MINUTES) {
+                // (주 근무 시간 / 40) * 8시간 * 시급 = 시급 * 분 / 300
+                weeklyAllowance += wage * Math.min(minutes, WEEKLY_FULL_MINUTES) / 300;
+            }
+        }
+
+        PayslipVO payslip = new PayslipVO(sheet.eno, from, to);
+        payslip.setWorkMinutes(workMinutes);
+        payslip.setBasePay(wage * workMinutes / 60);
+        payslip.setPremiumPay(wage * premiumMinutePercent / 6000);
+        payslip.setWeeklyAllowance(weeklyAllowance);
+        payslip.setTotalPay(payslip.getBasePay() + payslip.getPremiumPay() + weeklyAllowance);
+        return payslip;
+    }
+
+    /**
+     * 근무 시간 중 야간(22시~다음날 06시)에 해당하는 시간(분)을 계산합니다.
+     */
+    private static long nightMinutes(LocalDateTime start, LocalDateTime end) {
+        long minutes = 0;
+        for (LocalDate day = start.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            minutes += overlap(start, end, day.atStartOfDay(), day.atTime(NIGHT_END));
+            minutes += overlap(start, end, day.atTime(NIGHT_START), day.plusDays(1).atStartOfDay());
+        }
+        return minutes;
+    }
+
+    /**
+     * 근무 시간 중 주말/공휴일에 해당하는 시간(분)에 가산율(%)을 곱한 값을 계산합니다.
+     * 공휴일 가산은 근무가 걸친 날 중 공휴일로 등록된 날의 시간에만 적용하고, 주말과 공휴일이 겹치면 높은 가산율 하나만 적용합니다.
+     */
+    private long restDayMinutePercent(LocalDateTime start, LocalDateTime end, Set<LocalDate> holidays) {
+        long result = 0;
+        for (LocalDate day = start.toLocalDate(); day.atStartOfDay().isBefore(end); day = day.plusDays(1)) {
+            DayOfWeek dow = day.getDayOfWeek();
+            int rate = (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY) ? weekendRate : 0;
+            if (holidays.contains(day)) rate = Math.max(rate, holidayRate);
+            if (rate == 0) continue;
+
+            result += overlap(start, end, day.atStartOfDay(), day.plusDays(1).atStartOfDay()) * rate;
+        }
+        return result;
+    }
+
+    /**
+     * 두 시간 구간이 겹치는 시간(분)을 계산합니다.
+     */
+    private static long overlap(LocalDateTime s1, LocalDateTime e1, LocalDateTime s2, LocalDateTime e2) {
+        LocalDateTime s = s1.isAfter(s2) ? s1 : s2;
+        LocalDateTime e = e1.isBefore(e2) ? e1 : e2;
+        return e.isAfter(s) ? Duration.between(s, e).toMinutes() : 0;
+    }
+
+    /**
+     * 계산된 급여를 {@code payroll} 테이블에 배치로 기록합니다.
+     * 같은 기간을 다시 정산하면 기존 결과를 덮어씁니다.
+     *
+     * @param payslips 기록할 급여 목록
+     * @throws SQLException 기록에 실패한 경우 (커밋하지 않았으므로 기록된 급여 없음)
+     */
+    private void save(List<PayslipVO> payslips) throws SQLException {
+        if (payslips.isEmpty()) return;
+
+        String sql = "INSERT INTO payroll (eno, period_start, period_end, work_minutes, base_pay, premium_pay, weekly_allowance, total_pay)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE work_minutes = VALUES(work_minutes), base_pay = VALUES(base_pay),"
+                + " premium_pay = VALUES(premium_pay), weekly_allowance = VALUES(weekly_allowance), total_pay = VALUES(total_pay)";
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+
+            int count = 0;
+            for (PayslipVO p : payslips) {
+                pstmt.setString(1, p.getEno());
+                pstmt.setObject(2, p.getPeriodStart());
+                pstmt.setObject(3, p.getPeriodEnd());
+                pstmt.setLong(4, p.getWorkMinutes());
+                pstmt.setLong(5, p.getBasePay());
+                pstmt.setLong(6, p.getPremiumPay());
+                pstmt.setLong(7, p.getWeeklyAllowance());
+                pstmt.setLong(8, p.getTotalPay());
+                pstmt.addBatch();
+
+                if (++count % BATCH_SIZE == 0) pstmt.executeBatch();
+            }
+            pstmt.executeBatch();
+            conn.commit();
+            DBUtil.markWritten();
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package model;
+
+import vo.StudentVO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * {@code ReportCardGenerator} 클래스는 학기 말 학생별 성적표(점수, 총점, 평균, 등급, 석차, 학급 통계)를 한꺼번에 만듭니다.
+ * <p>
+ * 처리 단계:
+ * - 읽기: {@link StudentDAO}의 스트리밍 조회로 성적순({@code ORDER BY total DESC})으로 전체 학생을 읽습니다.
+ *   DAO 캐시는 크기가 제한되어 전체 학생을 담지 않으므로 캐시 대신 스트리밍 조회를 쓰고, 성적순으로 읽으므로 석차는 정렬 없이 정해집니다.
+ * - 렌더링: 템플릿은 한 번만 리터럴과 자리표시자({@code {{name}}}) 조각으로 나누어 두고, 학생들을 코어 수의 4배 구간으로 나누어
+ *   병렬로 채웁니다. 작업 스레드마다 {@link StringBuilder}와 UTF-8 인코더, 출력 {@link ByteBuffer}를 하나씩 두고 재사용합니다.
+ * - 쓰기: 디렉터리 출력은 학생마다 파일 하나를 쓰되 동시에 쓰는 파일 수를 {@code report.ioConcurrency}로 제한하고,
+ *   {@code .zip} 출력은 크기가 제한된 큐를 거쳐 호출한 스레드 하나가 압축 파일에 추가합니다.
+ */
+public class ReportCardGenerator {
+
+    /** 기본 성적표 템플릿 */
+    private static final String DEFAULT_TEMPLATE = String.join("\n",
+            "==============================",
+            "         학 생 성 적 표",
+            "==============================",
+            "학번: {{sno}}    이름: {{name}}",
+            "------------------------------",
+            "과목\t점수\t학급 평균",
+            "국어\t{{korean}}\t{{classKorean}}",
+            "영어\t{{english}}\t{{classEnglish}}",
+            "수학\t{{math}}\t{{classMath}}",
+            "과학\t{{science}}\t{{classScience}}",
+            "------------------------------",
+            "총점: {{total}}    평균: {{average}}    등급: {{grade}}",
+            "석차: {{rank}} / {{classSize}}",
+            "학급 총점 평균: {{classTotal}} (최고 {{classMax}}, 최저 {{classMin}})",
+            "==============================",
+            "");
+
+    /** 작업 스레드마다 재사용하는 렌더링 버퍼 */
+    private static final ThreadLocal<RenderBuffer> BUFFERS = ThreadLocal.withInitial(RenderBuffer::new);
+
+    /** 파일 이름 이스케이프에 쓰는 16진수 숫자 */
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * 객체 생성을 제한합니다.
+     */
+    private ReportCardGenerator() {
+    }
+
+    /**
+     * 성적표 생성 결과
+     */
+    public static class Report {
+        private final int documents;
+        private final long bytes;
+        private final double seconds;
+
+        Report(int documents, long bytes, double seconds) {
+            this.documents = documents;
+            this.bytes = bytes;
+            this.seconds = seconds;
+        }
+
+        public int getDocuments() {
+            return documents;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+
+        /** @return 초당 생성한 성적표 수 */
+        public double getDocumentsPerSecond() {
+            return seconds > 0 ? documents / seconds : documents;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("성적표 %d건 생성 (%.1fKB, %.2f초, 초당 %.0f건)",
+                    documents, bytes / 1024.0, seconds, getDocumentsPerSecond());
+        }
+    }
+
+    /**
+     * 전체 학생의 성적표를 만듭니다.
+     *
+     * @param output        출력 위치 ({@code .zip}으로 끝나면 압축 파일 하나, 아니면 학생별 파일을 담을 디렉터리)
+     * @param template      템플릿 파일 ({@code null}이면 기본 템플릿)
+     * @param ioConcurrency 동시에 쓰는 최대 파일 수 (디렉터리 출력에만 적용)
+     * @return 생성 결과
+     * @throws IOException  템플릿을 읽거나 파일을 쓰지 못한 경우
+     * @throws SQLException 학생 조회에 실패한 경우
+     */
+    public static Report generate(Path output, Path template, int ioConcurrency) throws IOException, SQLException {
+        long start = System.nanoTime();
+
+        List<StudentVO> students = new ArrayList<>();
+        StudentDAO.getInstance().scan(3, students::add);
+
+        Template compiled = Template.compile(template == null
+                ? DEFAULT_TEMPLATE : new String(Files.readAllBytes(template), StandardCharsets.UTF_8));
+        ClassStats stats = new ClassStats(students);
+
+        long bytes = output.getFileName().toString().toLowerCase().endsWith(".zip")
+                ? writeArchive(output, students, compiled, stats)
+                : writeFiles(output, students, compiled, stats, Math.max(1, ioConcurrency));
+
+        return new Report(students.size(), bytes, (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * 학생마다 파일 하나({@code 학번.txt}, {@link #fileName} 참고)를 씁니다. 렌더링은 병렬로 하고, 동시에 열린 파일 수는 세마포어로 제한합니다.
+     */
+    private static long writeFiles(Path dir, List<StudentVO> students, Template template, ClassStats stats,
+                                   int ioConcurrency) throws IOException {
+        Files.createDirectories(dir);
+        Semaphore io = new Semaphore(ioConcurrency);
+        long[] bytes = new long[chunks(students.size())];
+
+        try {
+            IntStream.range(0, bytes.length).parallel().forEach(c -> {
+                RenderBuffer buffer = BUFFERS.get();
+                for (int i = chunkStart(c, students.size()); i < chunkStart(c + 1, students.size()); i++) {
+                    StudentVO s = students.get(i);
+                    ByteBuffer encoded = buffer.render(template, s, stats.rank[i], stats);
+                    bytes[c] += encoded.remaining();
+
+                    io.acquireUninterruptibly();
+                    try (FileChannel channel = FileChannel.open(dir.resolve(fileName(s)), StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                        while (encoded.hasRemaining()) channel.write(encoded);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        io.release();
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return Arrays.stream(bytes).sum();
+    }
+
+    /**
+     * 모든 성적표를 압축 파일 하나에 담습니다. 렌더링한 결과는 크기가 제한된 큐로 넘기고,
+     * 압축 파일 쓰기는 호출한 스레드가 혼자 맡습니다.
+     */
+    private static long writeArchive(Path file, List<StudentVO> students, Template template, ClassStats stats)
+            throws IOException {
+        BlockingQueue<Object[]> queue = new ArrayBlockingQueue<>(256);
+        Object[] done = new Object[0];
+        RuntimeException[] failure = new RuntimeException[1];
+
+        Thread renderer = new Thread(() -> {
+            try {
+                IntStream.range(0, chunks(students.size())).parallel().forEach(c -> {
+                    RenderBuffer buffer = BUFFERS.get();
+                    for (int i = chunkStart(c, students.size()); i < chunkStart(c + 1, students.size()); i++) {
+                        StudentVO s = students.get(i);
+                        ByteBuffer encoded = buffer.render(template, s, stats.rank[i], stats);
+                        byte[] copy = new byte[encoded.remaining()];
+                        encoded.get(copy);
+                        putUninterruptibly(queue, new Object[]{fileName(s), copy});
+                    }
+                });
+            } catch (RuntimeException e) {
+                failure[0] = e;
+            } finally {
+                putUninterruptibly(queue, done);
+            }
+        }, "report-render");
+        renderer.start();
+
+        long bytes = 0;
+        try (OutputStream out = Files.newOutputStream(file);
+             ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            while (true) {
+                Object[] item = queue.take();
+                if (item == done) break;
+
+                byte[] data = (byte[]) item[1];
+                zip.putNextEntry(new ZipEntry((String) item[0]));
+                zip.write(data);
+                zip.closeEntry();
+                bytes += data.length;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (IOException e) {
+            renderer.interrupt();
+            // 렌더링 스레드가 큐에서 막히지 않도록 남은 항목을 버립니다.
+            while (renderer.isAlive()) queue.clear();
+            throw e;
+        }
+        if (failure[0] != null) throw failure[0];
+        return bytes;
+    }
+
+    private static void putUninterruptibly(BlockingQueue<Object[]> queue, Object[] item) {
+        while (true) {
+            try {
+                queue.put(item);
+                return;
+            } catch (InterruptedException e) {
+                // 쓰기 쪽이 실패하면 큐를 비우므로 다시 시도합니다.
+            }
+        }
+    }
+
+    /**
+     * 학번으로 성적표 파일 이름을 만듭니다. 숫자, 소문자, 하이픈은 그대로 두고, 나머지 문자(밑줄과 대문자 포함)는
+     * UTF-8 바이트마다 {@code _XX}(16진수)로 바꿉니다. 밑줄은 항상 이스케이프의 시작이므로 학번이 다르면 파일 이름도 다르고,
+     * 대문자가 이스케이프되므로 대소문자를 구분하지 않는 파일 시스템에서도 겹치지 않습니다.
+     */
+    private static String fileName(StudentVO s) {
+        byte[] sno = s.getSno().getBytes(StandardCharsets.UTF_8);
+        StringBuilder name = new StringBuilder(sno.length + 4);
+        for (byte b : sno) {
+            if ((b >= '0' && b <= '9') || (b >= 'a' && b <= 'z') || b == '-') {
+                name.append((char) b);
+            } else {
+                name.append('_').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+        return name.append(".txt").toString();
+    }
+
+    /** @return 학생 목록을 나눌 구간 수 (코어 수의 4배, 학생 수보다 많지 않게) */
+    private static int chunks(int size) {
+        return Math.max(1, Math.min(size, Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    private static int chunkStart(int chunk, int size) {
+        return (int) ((long) chunk * size / chunks(size));
+    }
+
+    /**
+     * 학급 통계와 학생별 석차. 학생 목록이 총점 내림차순이므로 한 번의 순회로 계산하며, 총점이 같으면 같은 석차입니다.
+     */
+    private static class ClassStats {
+        final int size;
+        final int[] rank;
+        final double korean, english, math, science, total;
+        final int max, min;
+
+        ClassStats(List<StudentVO> students) {
+            size = students.size();
+            rank = new int[size];
+
+            long k = 0, e = 0, m = 0, s = 0, t = 0;
+            int high = Integer.MIN_VALUE, low = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                StudentVO vo = students.get(i);
+                rank[i] = (i > 0 && vo.getTotal() == students.get(i - 1).getTotal()) ? rank[i - 1] : i + 1;
+                k += vo.getKorean();
+                e += vo.getEnglish();
+                m += vo.getMath();
+                s += vo.getScience();
+                t += vo.getTotal();
+                high = Math.max(high, vo.getTotal());
+                low = Math.min(low, vo.getTotal());
+            }
+
+            int n = Math.max(1, size);
+            korean = (double) k / n;
+            english = (double) e / n;
+            math = (double) m / n;
+            science = (double) s / n;
+            total = (double) t / n;
+            max = (size == 0) ? 0 : high;
+            min = (size == 0) ? 0 : low;
+        }
+    }
+
+    /**
+     * 리터럴과 자리표시자 조각으로 미리 나눈 템플릿.
+     * {@code fields[i]}는 {@code literals[i]} 뒤에 오는 자리표시자이고, 마지막 리터럴 뒤에는 자리표시자가 없습니다.
+     */
+    private static class Template {
+        private static final Map<String, Integer> FIELDS = Map.ofEntries(
+                Map.entry("sno", 0), Map.entry("name", 1),
+                Map.entry("korean", 2), Map.entry("english", 3), Map.entry("math", 4), Map.entry("science", 5),
+                Map.entry("total", 6), Map.entry("average", 7), Map.entry("grade", 8), Map.entry("rank", 9),
+                Map.entry("classSize", 10), Map.entry("classKorean", 11), Map.entry("classEnglish", 12),
+                Map.entry("classMath", 13), Map.entry("classScience", 14), Map.entry("classTotal", 15),
+                Map.entry("classMax", 16), Map.entry("classMin", 17));
+
+        final String[] literals;
+        final int[] fields;
+
+        private Template(String[] literals, int[] fields) {
+            this.literals = literals;
+            this.fields = fields;
+        }
+
+        static Template compile(String text) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> fields = new ArrayList<>();
+            int pos = 0;
+            while (true) {
+                int open = text.indexOf("{{", pos);
+                int close = (open < 0) ? -1 : text.indexOf("}}", open + 2);
+                if (close < 0) {
+                    literals.add(text.substring(pos));
+                    break;
+                }
+
+                String name = text.substring(open + 2, close).trim();
+                Integer field = FIELDS.get(name);
+                if (field == null) throw new IllegalArgumentException("알 수 없는 템플릿 항목입니다: " + name);
+
+                literals.add(text.substring(pos, open));
+                fields.add(field);
+                pos = close + 2;
+            }
+            return new Template(literals.toArray(new String[0]), fields.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * 작업 스레드 하나가 재사용하는 문자/바이트 버퍼와 인코더
+     */
+    private static class RenderBuffer {
+        private final StringBuilder text = new StringBuilder(1024);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private ByteBuffer bytes = ByteBuffer.allocate(4096);
+
+        /**
+         * 성적표 하나를 렌더링하여 UTF-8로 인코딩합니다. 반환한 버퍼는 다음 호출 전까지만 유효합니다.
+         */
+        ByteBuffer render(Template template, StudentVO s, int rank, ClassStats stats) {
+            text.setLength(0);
+            for (int i = 0; i < template.fields.length; i++) {
+                text.append(template.literals[i]);
+                appendField(template.fields[i], s, rank, stats);
+            }
+            text.append(template.literals[template.literals.length - 1]);
+
+            while (true) {
+                bytes.clear();
+                encoder.reset();
+                CharBuffer chars = CharBuffer.wrap(text);
+                CoderResult result = encoder.encode(chars, bytes, true);
+                if (!result.isOverflow()) result = encoder.flush(bytes);
+                if (!result.isOverflow()) break;
+                bytes = ByteBuffer.allocate(bytes.capacity() * 2);
+            }
+            bytes.flip();
+            return bytes;
+        }
+
+        private void appendField(int field, StudentVO s, int rank, ClassStats stats) {
+            switch (field) {
+                case 0: text.append(s.getSno()); break;
+                case 1: text.append(s.getName()); break;
+                case 2: text.append(s.getKorean()); break;
+                case 3: text.append(s.getEnglish()); break;
+                case 4: text.append(s.getMath()); break;
+                case 5: text.append(s.getScience()); break;
+                case 6: text.append(s.getTotal()); break;
+                case 7: appendDecimal(s.getAverage()); break;
+                case 8: text.append(s.getGrade()); break;
+                case 9: text.append(rank); break;
+                case 10: text.append(stats.size); break;
+                case 11: appendDecimal(stats.korean); break;
+                case 12: appendDecimal(stats.english); break;
+                case 13: appendDecimal(stats.math); break;
+                case 14: appendDecimal(stats.science); break;
+                case 15: appendDecimal(stats.total); break;
+                case 16: text.append(stats.max); break;
+                default: text.append(stats.min); break;
+            }
+        }
+
+        /** 소수 둘째 자리까지 반올림하여 이어 붙입니다 ({@code String.format} 없이). */
+        private void appendDecimal(double value) {
+            long hundredths = Math.round(value * 100);
+            if (hundredths < 0) {
+                text.append('-');
+                hundredths = -hundredths;
+            }
+            text.append(hundredths / 100).append('.');
+            long fraction = hundredths % 100;
+            if (fraction < 10) text.append('0');
+            text.append(fraction);
+        }
+    }
+}
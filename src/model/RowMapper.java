@@ -0,0 +1,24 @@
+package model;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@code RowMapper} 인터페이스는 {@link ResultSet}의 현재 행을 VO 객체로 변환하는 방법을 정의합니다.
+ * <p>
+ * 구현체는 컬럼 이름이나 리플렉션 대신 SELECT 절의 컬럼 순서(인덱스)로 값을 읽어,
+ * 행마다 컬럼 이름을 찾는 비용 없이 객체를 생성합니다.
+ *
+ * @param <T> 변환 결과 VO 타입
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    /**
+     * 현재 행을 객체로 변환합니다.
+     *
+     * @param rs 현재 행에 위치한 결과 집합
+     * @return 변환된 객체
+     * @throws SQLException 컬럼 값을 읽지 못한 경우
+     */
+    T map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,154 @@
+package model;
+
+import util.DBUtil;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@code SchemaManager} 클래스는 프로그램 시작 시 테이블, 컬럼, 인덱스가 있는지 확인하고 없는 것만 만듭니다.
+ * <p>
+ * 학생 테이블에는 네 과목 점수의 합을 저장하는 생성 컬럼({@code total}, STORED)과 이름/총점 인덱스를 두어,
+ * 이름순/성적순 명단이 전체 정렬(filesort) 없이 인덱스 순서대로 읽히게 합니다. InnoDB 보조 인덱스는 기본 키를 포함하므로
+ * {@code (name)} 인덱스는 {@code ORDER BY name, sno}를, {@code (total)} 인덱스는 {@code ORDER BY total DESC, sno DESC}를
+ * 그대로 만족합니다.
+ * <p>
+ * 각 단계는 {@link DatabaseMetaData}나 {@code information_schema}로 현재 상태를 확인한 뒤 필요한 DDL만 실행하므로,
+ * 이미 만들어진 데이터베이스에서 여러 번 실행해도 안전합니다. 학생 테이블과 성적 이력 테이블({@code score_history})은 모든 샤드에, 나머지 테이블은 기본 데이터베이스에 만듭니다.
+ * DDL은 연결 풀을 거치지 않는 직접 연결({@link DBUtil#getDirectConnection(int)})로 실행하므로, 생성 컬럼 추가처럼
+ * 테이블을 다시 만드는 변경도 {@code statement.timeoutSeconds}에 걸려 중간에 취소되지 않습니다.
+ * 생성 컬럼 추가와 콜레이션 변경은 테이블 전체를 다시 만들므로, 이 작업은 {@code schema.auto = true}로 명시했을 때만 하고
+ * 기본값({@code false})에서는 아무것도 하지 않습니다.
+ */
+public class SchemaManager {
+    private static final String NAME_COLLATION = DBUtil.getProperty("sort.nameCollation", "");
+
+    /** 콜레이션 이름의 앞부분(예: {@code utf8mb4_0900_ai_ci}의 {@code utf8mb4})인 문자 집합 */
+    private static final String NAME_CHARSET = NAME_COLLATION.isEmpty() ? ""
+            : NAME_COLLATION.substring(0, Math.max(0, NAME_COLLATION.indexOf('_')));
+
+    private SchemaManager() { }
+
+    /**
+     * 모든 샤드의 스키마를 현재 버전으로 맞춥니다. 실패하면 원인을 출력하고, 기존 테이블로 계속 실행합니다.
+     */
+    public static void migrate() {
+        if (!Boolean.parseBoolean(DBUtil.getProperty("schema.auto", "false"))) return;
+
+        for (int shard = 0; shard < DBUtil.getShardCount(); shard++) {
+            try (Connection conn = DBUtil.getDirectConnection(shard)) {
+                migrateStudent(conn);
+                migrateHistory(conn);
+                if (shard == 0) migrateEmployees(conn);
+            } catch (SQLException e) {
+                System.out.println("스키마 확인 실패 (샤드 " + shard + "): " + e.getMessage());
+            }
+        }
+    }
+
+    private static void migrateStudent(Connection conn) throws SQLException {
+        // 문자 집합을 함께 지정하여, 테이블 기본 문자 집합이 utf8mb4가 아니어도 컬럼이 콜레이션과 같은 문자 집합을 갖게 합니다.
+        String collate = NAME_COLLATION.isEmpty() ? ""
+                : (NAME_CHARSET.isEmpty() ? "" : " CHARACTER SET " + NAME_CHARSET) + " COLLATE " + NAME_COLLATION;
+
+        boolean created = ensureTable(conn, "student", "CREATE TABLE student ("
+                + "sno VARCHAR(20) NOT NULL PRIMARY KEY,"
+                + " name VARCHAR(50)" + collate + " NOT NULL,"
+                + " korean INT NOT NULL, english INT NOT NULL, math INT NOT NULL, science INT NOT NULL,"
+                + " version INT NOT NULL DEFAULT 0,"
+                + " total INT AS (korean + english + math + science) STORED,"
+                + " INDEX idx_student_name (name),"
+                + " INDEX idx_student_total (total))");
+
+        if (created) return;
+
+        // 이전 버전에서 만든 테이블에 빠진 컬럼과 인덱스를 추가합니다.
+        ensureColumn(conn, "student", "version", "ALTER TABLE student ADD COLUMN version INT NOT NULL DEFAULT 0");
+        ensureColumn(conn, "student", "total",
+                "ALTER TABLE student ADD COLUMN total INT AS (korean + english + math + science) STORED");
+        if (!NAME_COLLATION.isEmpty() && !NAME_COLLATION.equalsIgnoreCase(collationOf(conn, "student", "name"))) {
+            execute(conn, "ALTER TABLE student MODIFY name VARCHAR(50)" + collate + " NOT NULL");
+        }
+        ensureIndex(conn, "student", "idx_student_name", "CREATE INDEX idx_student_name ON student (name)");
+        ensureIndex(conn, "student", "idx_student_total", "CREATE INDEX idx_student_total ON student (total)");
+    }
+
+    private static void migrateHistory(Connection conn) throws SQLException {
+        // 학생 한 명의 학기별 점수를 ScoreHistory의 델타/varint 인코딩으로 한 행에 저장합니다.
+        ensureTable(conn, "score_history", "CREATE TABLE score_history ("
+                + "sno VARCHAR(20) NOT NULL PRIMARY KEY,"
+                + " terms INT NOT NULL,"
+                + " series BLOB NOT NULL)");
+    }
+
+    private static void migrateEmployees(Connection conn) throws SQLException {
+        ensureTable(conn, "fulltime", "CREATE TABLE fulltime ("
+                + "eno VARCHAR(20) NOT NULL PRIMARY KEY, name VARCHAR(50) NOT NULL,"
+                + " salary INT NOT NULL, performance INT NOT NULL,"
+                + " INDEX idx_fulltime_name (name), INDEX idx_fulltime_performance (performance))");
+        ensureTable(conn, "parttime", "CREATE TABLE parttime ("
+                + "eno VARCHAR(20) NOT NULL PRIMARY KEY, name VARCHAR(50) NOT NULL,"
+                + " hourly_wage INT NOT NULL, work_hours INT NOT NULL,"
+                + " INDEX idx_parttime_name (name))");
+        ensureTable(conn, "shift", "CREATE TABLE shift ("
+                + "eno VARCHAR(20) NOT NULL, start_time DATETIME NOT NULL, end_time DATETIME NOT NULL,"
+                + " PRIMARY KEY (eno, start_time), INDEX idx_shift_start (start_time))");
+        // 공휴일은 근무 기록이 아니라 날짜의 속성이므로, 날짜별로 한 번만 등록하고 모든 근무에 적용합니다.
+        ensureTable(conn, "holiday", "CREATE TABLE holiday ("
+                + "day DATE NOT NULL PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+        ensureTable(conn, "payroll", "CREATE TABLE payroll ("
+                + "eno VARCHAR(20) NOT NULL, period_start DATE NOT NULL, period_end DATE NOT NULL,"
+                + " work_minutes BIGINT NOT NULL, base_pay BIGINT NOT NULL, premium_pay BIGINT NOT NULL,"
+                + " weekly_allowance BIGINT NOT NULL, total_pay BIGINT NOT NULL,"
+                + " PRIMARY KEY (eno, period_start, period_end))");
+    }
+
+    /**
+     * @return 테이블을 새로 만들었으면 {@code true}
+     */
+    private static boolean ensureTable(Connection conn, String table, String ddl) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(conn.getCatalog(), null, table, new String[]{"TABLE"})) {
+            if (rs.next()) return false;
+        }
+        execute(conn, ddl);
+        return true;
+    }
+
+    private static void ensureColumn(Connection conn, String table, String column, String ddl) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getColumns(conn.getCatalog(), null, table, column)) {
+            if (rs.next()) return;
+        }
+        execute(conn, ddl);
+    }
+
+    private static void ensureIndex(Connection conn, String table, String index, String ddl) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getIndexInfo(conn.getCatalog(), null, table, false, true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) return;
+            }
+        }
+        execute(conn, ddl);
+    }
+
+    private static String collationOf(Connection conn, String table, String column) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT COLLATION_NAME FROM information_schema.COLUMNS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?")) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, column);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    private static void execute(Connection conn, String ddl) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(ddl);
+        }
+        System.out.println("스키마 변경: " + ddl);
+    }
+}
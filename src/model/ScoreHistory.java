@@ -0,0 +1,613 @@
+package model;
+
+import util.DBUtil;
+import vo.StudentVO;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@code ScoreHistory} 클래스는 학생별로 학기마다의 네 과목 점수 이력을 보관하고, 성적 추이와 향상 순위를 계산합니다.
+ * <p>
+ * 학생 한 명의 이력은 바이트 배열 하나로 인코딩됩니다. 학기마다 직전 항목과의 학기 차이(부호 없는 varint)와
+ * 과목별 점수 차이(zigzag varint)를 차례로 기록하므로, 점수 변화가 작은 한 학기는 보통 5~6바이트를 차지합니다.
+ * 이력은 메모리에 모두 올려 두고 {@code score_history} 테이블(학생과 같은 샤드)에 학생당 한 행으로 저장합니다.
+ * <p>
+ * {@link StudentDAO}의 변경 이벤트를 구독하여, 입력/수정된 점수를 현재 학기 항목으로 기록합니다.
+ * 현재 학기는 {@code history.term}으로 정하며, 비어 있으면 오늘 날짜로 정합니다 ({@link #termOf(LocalDate)}).
+ * 같은 학기에 다시 수정하면 그 학기의 항목을 바꿉니다. 바뀐 학생은 모아 두었다가 {@code history.flushMillis}마다
+ * 샤드별 배치 한 번으로 저장합니다. 저장된 이력이 하나도 없을 때(처음 켰을 때)만 백그라운드에서 모든 학생의 현재 점수로
+ * 첫 항목을 채우고, 이후 시작할 때는 학생 테이블을 다시 훑지 않습니다. 이력이 없는 학생은 다음 입력/수정 때 첫 항목이 생깁니다.
+ * <p>
+ * 시작할 때 저장된 이력을 모두 메모리로 읽으므로 기본값은 꺼져 있습니다({@code history.enabled}).
+ */
+public class ScoreHistory implements ChangeListener<StudentVO> {
+    private static final String UPSERT_SQL = "INSERT INTO score_history (sno, terms, series) VALUES (?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE terms = VALUES(terms), series = VALUES(series)";
+    private static final String DELETE_SQL = "DELETE FROM score_history WHERE sno = ?";
+
+    /** 싱글톤(Singleton)으로 구현된 이력 인스턴스 */
+    private static ScoreHistory history;
+
+    private final StudentDAO dao = StudentDAO.getInstance();
+    private final long flushMillis;
+
+    /** 학번 → 인코딩된 이력 (배열은 바꾸지 않고 새로 만들어 교체) */
+    private final Map<String, byte[]> series = new HashMap<>();
+
+    /** 저장 대기 중인 이력, 값이 {@code null}이면 삭제 */
+    private Map<String, byte[]> dirty = new HashMap<>();
+
+    /** 첫 항목을 채우는 동안 삭제된 학번 (채우기가 끝나면 {@code null}) */
+    private Set<String> deletedWhileSeeding = new HashSet<>();
+
+    /** 점수가 기록될 현재 학기 (예: 20251은 2025년 1학기) */
+    private volatile int term;
+
+    private final Thread flusher;
+    private volatile boolean closing;
+
+    /**
+     * 한 학기의 점수
+     */
+    public static class TermScores {
+        private final int term;
+        private final int korean, english, math, science;
+
+        TermScores(int term, int korean, int english, int math, int science) {
+            this.term = term;
+            this.korean = korean;
+            this.english = english;
+            this.math = math;
+            this.science = science;
+        }
+
+        public int getTerm() {
+            return term;
+        }
+
+        public int getKorean() {
+            return korean;
+        }
+
+        public int getEnglish() {
+            return english;
+        }
+
+        public int getMath() {
+            return math;
+        }
+
+        public int getScience() {
+            return science;
+        }
+
+        public int getTotal() {
+            return korean + english + math + science;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s\t%d\t%d\t%d\t%d\t%d", termName(term), korean, english, math, science, getTotal());
+        }
+    }
+
+    /**
+     * 한 학생의 기간 중 총점 변화
+     */
+    public static class Improvement {
+        private final String sno;
+        private final int fromTerm, toTerm;
+        private final int fromTotal, toTotal;
+
+        Improvement(String sno, int fromTerm, int toTerm, int fromTotal, int toTotal) {
+            this.sno = sno;
+            this.fromTerm = fromTerm;
+            this.toTerm = toTerm;
+            this.fromTotal = fromTotal;
+            this.toTotal = toTotal;
+        }
+
+        public String getSno() {
+            return sno;
+        }
+
+        public int getFromTerm() {
+            return fromTerm;
+        }
+
+        public int getToTerm() {
+            return toTerm;
+        }
+
+        public int getFromTotal() {
+            return fromTotal;
+        }
+
+        public int getToTotal() {
+            return toTotal;
+        }
+
+        public int getDelta() {
+            return toTotal - fromTotal;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s\t%s → %s\t%d → %d\t%+d", sno, termName(fromTerm), termName(toTerm),
+                    fromTotal, toTotal, getDelta());
+        }
+    }
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     */
+    private ScoreHistory(int term, long flushMillis) {
+        this.term = term;
+        this.flushMillis = flushMillis;
+
+        flusher = new Thread(this::flushLoop, "score-history");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "score-history-close"));
+    }
+
+    /**
+     * 이력 인스턴스를 반환하는 싱글톤(Singleton) 메서드.
+     * 처음 호출될 때 저장된 이력을 모두 읽은 뒤 변경 이벤트를 구독하고, 저장된 이력이 하나도 없으면 백그라운드에서 첫 항목을 채웁니다.
+     *
+     * @return {@code ScoreHistory} 인스턴스
+     */
+    public static synchronized ScoreHistory getInstance() {
+        if (history == null) {
+            String configured = DBUtil.getProperty("history.term", "").trim();
+            ScoreHistory created = new ScoreHistory(
+                    configured.isEmpty() ? termOf(LocalDate.now()) : Integer.parseInt(configured),
+                    Long.parseLong(DBUtil.getProperty("history.flushMillis", "500")));
+            boolean loaded = created.load();
+            created.dao.subscribe(created);
+
+            if (loaded && created.isEmpty()) {
+                Thread seeding = new Thread(created::seed, "score-history-seed");
+                seeding.setDaemon(true);
+                seeding.start();
+            } else {
+                created.seeded();
+            }
+            history = created;
+        }
+        return history;
+    }
+
+    /**
+     * {@code history.enabled} 설정이 켜져 있으면 성적 이력 기록을 시작합니다.
+     */
+    public static void start() {
+        if (Boolean.parseBoolean(DBUtil.getProperty("history.enabled", "false"))) getInstance();
+    }
+
+    /**
+     * 날짜가 속한 학기를 반환합니다. 3월~8월은 그해 1학기, 9월~이듬해 2월은 2학기입니다.
+     *
+     * @param date 날짜
+     * @return 학기 (연도 * 10 + 학기)
+     */
+    static int termOf(LocalDate date) {
+        int month = date.getMonthValue();
+        if (month < 3) return (date.getYear() - 1) * 10 + 2;
+        return date.getYear() * 10 + (month < 9 ? 1 : 2);
+    }
+
+    /**
+     * @return 점수가 기록될 현재 학기
+     */
+    public int getTerm() {
+        return term;
+    }
+
+    /**
+     * 이후의 입력/수정을 기록할 학기를 바꿉니다.
+     *
+     * @param term 학기 (연도 * 10 + 학기, 예: 20252)
+     */
+    public void setTerm(int term) {
+        if (term <= 0) throw new IllegalArgumentException("학기가 올바르지 않습니다: " + term);
+        this.term = term;
+    }
+
+    /**
+     * 변경 이벤트를 이력에 반영합니다.
+     *
+     * @param event 변경 이벤트
+     */
+    @Override
+    public void onChange(ChangeEvent<StudentVO> event) {
+        StudentVO after = event.getAfter();
+        if (after == null) {
+            synchronized (this) {
+                series.remove(event.getKey());
+                dirty.put(event.getKey(), null);
+                if (deletedWhileSeeding != null) deletedWhileSeeding.add(event.getKey());
+            }
+            return;
+        }
+        record(after, false);
+    }
+
+    /**
+     * 학생의 현재 점수를 현재 학기 항목으로 기록합니다.
+     *
+     * @param ifAbsent 이력이 이미 있거나 채우는 동안 삭제된 학생이면 기록하지 않을지 여부
+     */
+    private synchronized void record(StudentVO vo, boolean ifAbsent) {
+        byte[] old = series.get(vo.getSno());
+        if (ifAbsent && (old != null || deletedWhileSeeding != null && deletedWhileSeeding.contains(vo.getSno()))) return;
+
+        byte[] updated = put(old, term, new int[]{vo.getKorean(), vo.getEnglish(), vo.getMath(), vo.getScience()});
+        if (Arrays.equals(old, updated)) return;
+        series.put(vo.getSno(), updated);
+        dirty.put(vo.getSno(), updated);
+    }
+
+    /**
+     * 학생의 최근 학기 점수를 오래된 학기부터 반환합니다. 지금까지 발생한 변경을 모두 반영한 뒤 조회합니다.
+     *
+     * @param sno   학번
+     * @param terms 최근 몇 학기를 볼지 (0 이하이면 전체)
+     * @return 학기별 점수, 이력이 없으면 빈 목록
+     */
+    public List<TermScores> trend(String sno, int terms) {
+        dao.flushEvents();
+        byte[] data;
+        synchronized (this) {
+            data = series.get(sno);
+        }
+
+        List<TermScores> result = new ArrayList<>();
+        if (data == null) return result;
+
+        Decoded d = new Decoded();
+        d.decode(data);
+        for (int i = (terms > 0) ? Math.max(0, d.count - terms) : 0; i < d.count; i++) {
+            result.add(new TermScores(d.terms[i], d.scores[0][i], d.scores[1][i], d.scores[2][i], d.scores[3][i]));
+        }
+        return result;
+    }
+
+    /**
+     * 최근 {@code terms}개 학기 동안 총점이 가장 많이 오른 학생을 반환합니다.
+     * 기간은 학생별 항목 수가 아니라 학기 값으로 정하며, 이력에 나타난 학기 중 가장 최근 {@code terms}개입니다.
+     * 학생마다 기간 안의 첫 학기와 마지막 학기 총점을 비교하며, 기간 안에 기록된 학기가 둘 미만인 학생은 제외합니다.
+     * 크기가 {@code limit}인 최소 힙으로 상위 학생만 유지하므로 전체를 정렬하지 않습니다.
+     *
+     * @param terms 비교할 최근 학기 수 (2 이상)
+     * @param limit 반환할 최대 학생 수
+     * @return 총점 상승폭이 큰 순서 (같으면 학번 순)
+     */
+    public List<Improvement> mostImproved(int terms, int limit) {
+        if (terms < 2) throw new IllegalArgumentException("두 학기 이상을 비교해야 합니다: " + terms);
+        dao.flushEvents();
+
+        String[] keys;
+        byte[][] values;
+        synchronized (this) {
+            keys = series.keySet().toArray(new String[0]);
+            values = new byte[keys.length][];
+            for (int i = 0; i < keys.length; i++) values[i] = series.get(keys[i]);
+        }
+
+        PriorityQueue<Improvement> top = new PriorityQueue<>(Math.max(1, limit), (a, b) -> {
+            int c = Integer.compare(a.getDelta(), b.getDelta());
+            return (c != 0) ? c : b.getSno().compareTo(a.getSno());
+        });
+        Decoded d = new Decoded();
+
+        // 기간의 첫 학기: 이력에 나타난 학기 값 중 최근 terms번째
+        TreeSet<Integer> recent = new TreeSet<>();
+        for (int i = 0; i < keys.length && limit > 0; i++) {
+            d.decode(values[i]);
+            // 학기는 오름차순이므로 뒤에서부터 보고, 더 볼 필요가 없으면 멈춥니다.
+            for (int j = d.count - 1; j >= 0; j--) {
+                if (recent.size() == terms && d.terms[j] <= recent.first()) break;
+                if (recent.add(d.terms[j]) && recent.size() > terms) recent.pollFirst();
+            }
+        }
+        int firstTerm = recent.isEmpty() ? 0 : recent.first();
+
+        for (int i = 0; i < keys.length && limit > 0; i++) {
+            d.decode(values[i]);
+            int from = 0, to = d.count - 1;
+            while (from < d.count && d.terms[from] < firstTerm) from++;
+            if (to - from < 1) continue;
+
+            Improvement candidate = new Improvement(keys[i], d.terms[from], d.terms[to], d.total(from), d.total(to));
+            if (top.size() < limit) {
+                top.add(candidate);
+            } else if (top.comparator().compare(candidate, top.peek()) > 0) {
+                top.poll();
+                top.add(candidate);
+            }
+        }
+
+        List<Improvement> result = new ArrayList<>(top);
+        result.sort(top.comparator().reversed());
+        return result;
+    }
+
+    /**
+     * @return 메모리에 보관 중인 이력의 학생 수와 인코딩된 총 크기
+     */
+    @Override
+    public synchronized String toString() {
+        long bytes = 0;
+        for (byte[] data : series.values()) bytes += data.length;
+        return String.format("성적 이력 %d명, %,d바이트 (현재 학기 %s)", series.size(), bytes, termName(term));
+    }
+
+    static String termName(int term) {
+        return (term / 10) + "-" + (term % 10);
+    }
+
+    // ------------------------------------------------------------------
+    // 인코딩
+    // ------------------------------------------------------------------
+
+    /**
+     * 이력을 디코딩한 결과를 담는 재사용 버퍼
+     */
+    private static class Decoded {
+        int count;
+        int[] terms = new int[8];
+        int[][] scores = new int[4][8];
+
+        void decode(byte[] data) {
+            count = 0;
+            int pos = 0, term = 0;
+            int k = 0, e = 0, m = 0, s = 0;
+            while (pos < data.length) {
+                long v = readVarint(data, pos);
+                pos = (int) (v >>> 32);
+                term += (int) v;
+
+                v = readVarint(data, pos);
+                pos = (int) (v >>> 32);
+                k += zigzagDecode((int) v);
+                v = readVarint(data, pos);
+                pos = (int) (v >>> 32);
+                e += zigzagDecode((int) v);
+                v = readVarint(data, pos);
+                pos = (int) (v >>> 32);
+                m += zigzagDecode((int) v);
+                v = readVarint(data, pos);
+                pos = (int) (v >>> 32);
+                s += zigzagDecode((int) v);
+
+                if (count == terms.length) {
+                    terms = Arrays.copyOf(terms, count * 2);
+                    for (int j = 0; j < 4; j++) scores[j] = Arrays.copyOf(scores[j], count * 2);
+                }
+                terms[count] = term;
+                scores[0][count] = k;
+                scores[1][count] = e;
+                scores[2][count] = m;
+                scores[3][count] = s;
+                count++;
+            }
+        }
+
+        int total(int i) {
+            return scores[0][i] + scores[1][i] + scores[2][i] + scores[3][i];
+        }
+    }
+
+    /**
+     * 학기 항목을 추가하거나, 같은 학기 항목이 있으면 바꾼 새 이력을 만듭니다. 항목은 학기 순서로 유지합니다.
+     *
+     * @param data   기존 이력 ({@code null}이면 빈 이력)
+     * @param term   학기
+     * @param values 국어, 영어, 수학, 과학 점수
+     * @return 새 이력
+     */
+    static byte[] put(byte[] data, int term, int[] values) {
+        Decoded d = new Decoded();
+        if (data != null) d.decode(data);
+
+        int at = 0;
+        while (at < d.count && d.terms[at] < term) at++;
+        boolean replace = at < d.count && d.terms[at] == term;
+        int count = replace ? d.count : d.count + 1;
+
+        // 항목 하나는 최대 varint 다섯 개(각 5바이트)입니다.
+        byte[] out = new byte[count * 25];
+        int pos = 0, prevTerm = 0;
+        int[] prev = new int[4], row = new int[4];
+        for (int i = 0; i < count; i++) {
+            int t;
+            if (i == at) {
+                t = term;
+                System.arraycopy(values, 0, row, 0, 4);
+            } else {
+                int src = (i < at || replace) ? i : i - 1;
+                t = d.terms[src];
+                for (int j = 0; j < 4; j++) row[j] = d.scores[j][src];
+            }
+
+            pos = writeVarint(out, pos, t - prevTerm);
+            for (int j = 0; j < 4; j++) pos = writeVarint(out, pos, zigzagEncode(row[j] - prev[j]));
+            prevTerm = t;
+            int[] swap = prev;
+            prev = row;
+            row = swap;
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    private static int writeVarint(byte[] out, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    /**
+     * @return 상위 32비트는 다음 위치, 하위 32비트는 읽은 값
+     */
+    private static long readVarint(byte[] data, int pos) {
+        int value = 0, shift = 0;
+        byte b;
+        do {
+            b = data[pos++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return ((long) pos << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    private static int zigzagEncode(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    private static int zigzagDecode(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    // ------------------------------------------------------------------
+    // 저장
+    // ------------------------------------------------------------------
+
+    /**
+     * 저장된 이력을 모든 샤드에서 읽습니다.
+     *
+     * @return 모든 샤드에서 읽었으면 {@code true}
+     */
+    private boolean load() {
+        try {
+            for (Object[] row : dao.scatter("SELECT sno, series FROM score_history",
+                    rs -> new Object[]{rs.getString(1), rs.getBytes(2)})) {
+                if (row[1] != null) series.put((String) row[0], (byte[]) row[1]);
+            }
+        } catch (SQLException e) {
+            System.out.println("성적 이력 읽기 실패: " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    private synchronized boolean isEmpty() {
+        return series.isEmpty();
+    }
+
+    /**
+     * 첫 항목 채우기가 끝났음을 표시합니다. 이후 삭제된 학번은 따로 모으지 않습니다.
+     */
+    private synchronized void seeded() {
+        deletedWhileSeeding = null;
+    }
+
+    /**
+     * 저장된 이력이 없을 때 모든 학생의 현재 점수를 현재 학기 항목으로 채웁니다.
+     * 조회한 뒤 삭제 이벤트가 먼저 반영된 학생은 되살리지 않도록 건너뜁니다.
+     */
+    private void seed() {
+        try {
+            dao.scan(0, vo -> record(vo, true));
+        } catch (SQLException e) {
+            System.out.println("성적 이력 초기화 실패: " + e.getMessage());
+        } finally {
+            seeded();
+        }
+    }
+
+    /**
+     * 바뀐 이력을 {@code flushMillis}마다 모아 저장하는 백그라운드 루프입니다.
+     */
+    private void flushLoop() {
+        while (true) {
+            boolean closed = closing;
+            flush();
+            if (closed) return;
+            LockSupport.parkNanos(flushMillis * 1_000_000L);
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이력을 샤드별 배치 하나로 저장합니다. 실패한 샤드의 이력은 다음 저장 때 다시 시도합니다.
+     */
+    private void flush() {
+        Map<String, byte[]> batch;
+        synchronized (this) {
+            if (dirty.isEmpty()) return;
+            batch = dirty;
+            dirty = new HashMap<>();
+        }
+
+        Map<Integer, List<String>> byShard = new HashMap<>();
+        for (String sno : batch.keySet()) byShard.computeIfAbsent(dao.shardOf(sno), k -> new ArrayList<>()).add(sno);
+
+        for (Map.Entry<Integer, List<String>> entry : byShard.entrySet()) {
+            try (Connection conn = dao.getConnection(entry.getKey())) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement upsert = conn.prepareStatement(UPSERT_SQL);
+                     PreparedStatement delete = conn.prepareStatement(DELETE_SQL)) {
+                    boolean upserts = false, deletes = false;
+                    Decoded d = new Decoded();
+                    for (String sno : entry.getValue()) {
+                        byte[] data = batch.get(sno);
+                        if (data == null) {
+                            delete.setString(1, sno);
+                            delete.addBatch();
+                            deletes = true;
+                        } else {
+                            d.decode(data);
+                            upsert.setString(1, sno);
+                            upsert.setInt(2, d.count);
+                            upsert.setBytes(3, data);
+                            upsert.addBatch();
+                            upserts = true;
+                        }
+                    }
+                    if (upserts) upsert.executeBatch();
+                    if (deletes) delete.executeBatch();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                System.out.println("성적 이력 저장 실패 (샤드 " + entry.getKey() + "): " + e.getMessage());
+                synchronized (this) {
+                    // 그사이 다시 바뀐 학생은 최신 값이 이미 대기 중이므로 덮어쓰지 않습니다.
+                    for (String sno : entry.getValue()) {
+                        if (!dirty.containsKey(sno)) dirty.put(sno, batch.get(sno));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 아직 전달되지 않은 변경까지 반영하고 남은 이력을 저장합니다. 프로그램 종료 시 호출됩니다.
+     */
+    private void close() {
+        dao.flushEvents();
+        closing = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package model;
 
 import vo.StudentVO;
 
+import java.util.Collection;
+
 /**
  * {@code Student} 인터페이스는 학생 관리 기능을 정의하는 인터페이스입니다.
  * 총점 계산, 평균 계산, 학점 계산 등 학생 관련 기능을 제공합니다.
@@ -41,4 +43,23 @@ public interface Student extends DBCommon {
 
     // 학생 데이터를 입력하는 메소드
     void input(StudentVO studentVO);
+
+    /**
+     * 학생 데이터를 추가하거나, 같은 학번이 이미 있으면 수정합니다.
+     *
+     * 존재 여부를 미리 조회하지 않고 한 번의 문장({@code INSERT ... ON DUPLICATE KEY UPDATE})으로 처리합니다.
+     *
+     * @param studentVO 추가 또는 수정할 학생 객체
+     */
+    void upsert(StudentVO studentVO);
+
+    /**
+     * 여러 학생 데이터를 한 번에 추가하거나 수정합니다.
+     *
+     * 학생 목록을 하나의 배치 문장으로 전송하고 한 번만 커밋합니다.
+     *
+     * @param list 추가 또는 수정할 학생 목록
+     * @return 커밋된 건수 (저장에 실패한 샤드가 있으면 목록 크기보다 작음)
+     */
+    int merge(Collection<? extends StudentVO> list);
 }
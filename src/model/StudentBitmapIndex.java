@@ -0,0 +1,323 @@
+package model;
+
+import util.CompressedBitmap;
+import vo.StudentVO;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code StudentBitmapIndex} 클래스는 과목별 점수 구간과 등급에 대한 비트맵 인덱스로 여러 조건의 학생 검색을 처리합니다.
+ * <p>
+ * 학생마다 행 번호를 하나 정하고, 과목별 10점 단위 구간(0~9, 10~19, ..., 90~99, 100 이상)과 등급마다
+ * 해당하는 행 번호의 집합을 {@link CompressedBitmap}으로 유지합니다. {@code math>=90 & grade=A & science<60} 같은 조건은
+ * 구간 비트맵의 합집합으로 만든 뒤 교집합/합집합/차집합으로 계산하므로, 전체 학생을 훑지 않습니다.
+ * 구간 경계가 10점 단위가 아닌 조건(예: {@code math>=85})은 걸쳐 있는 구간 하나만 행별 점수로 다시 확인합니다.
+ * <p>
+ * {@link StudentStatsView}와 같이 처음 한 번 전체 학생을 읽어 인덱스를 만들고, 이후에는 {@link StudentDAO}의
+ * 변경 이벤트로 입력/수정/삭제를 반영합니다.
+ */
+public class StudentBitmapIndex implements ChangeListener<StudentVO> {
+    private static final String[] SUBJECTS = {"korean", "english", "math", "science"};
+    private static final String[] SUBJECT_NAMES = {"국어", "영어", "수학", "과학"};
+    private static final int BANDS = 11;
+
+    /** 학번 → 행 번호 */
+    private final Map<String, Integer> rows = new HashMap<>();
+    private String[] sno = new String[1024];
+    private String[] name = new String[1024];
+    private int[][] scores = new int[SUBJECTS.length][1024];
+    private int rowCount;
+
+    /** 삭제되어 다시 쓸 수 있는 행 번호 스택 */
+    private int[] free = new int[16];
+    private int freeCount;
+
+    private final CompressedBitmap live = new CompressedBitmap();
+    private final CompressedBitmap[][] bands = new CompressedBitmap[SUBJECTS.length][BANDS];
+    private final Map<String, CompressedBitmap> grades = new HashMap<>();
+
+    /**
+     * Singleton 패턴을 위한 StudentBitmapIndex 객체
+     */
+    private static StudentBitmapIndex index;
+
+    /**
+     * StudentBitmapIndex의 생성자.
+     * Singleton 패턴을 위해 private으로 선언되었습니다.
+     */
+    private StudentBitmapIndex() {
+        for (CompressedBitmap[] subject : bands) {
+            for (int b = 0; b < BANDS; b++) subject[b] = new CompressedBitmap();
+        }
+    }
+
+    /**
+     * Singleton 패턴으로 인스턴스를 반환합니다.
+     * 처음 호출될 때 변경 이벤트를 구독하고 전체 학생으로 인덱스를 만듭니다.
+     *
+     * @return {@code StudentBitmapIndex}의 Singleton 인스턴스
+     */
+    public static synchronized StudentBitmapIndex getInstance() {
+        if (index == null) {
+            StudentBitmapIndex created = new StudentBitmapIndex();
+            StudentDAO dao = StudentDAO.getInstance();
+            dao.subscribe(created);
+            try {
+                dao.scan(0, created::add);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            index = created;
+        }
+
+        return index;
+    }
+
+    /**
+     * 이미 만들어진 인덱스가 있으면 전체 학생을 다시 읽어 새로 만듭니다.
+     * 등급 정책이 바뀌어 등급 비트맵이 더 이상 맞지 않을 때 사용합니다.
+     */
+    public static void refreshIfAttached() {
+        StudentBitmapIndex current;
+        synchronized (StudentBitmapIndex.class) {
+            current = index;
+        }
+        if (current == null) return;
+
+        synchronized (current) {
+            for (String key : new ArrayList<>(current.rows.keySet())) current.remove(key);
+            try {
+                StudentDAO.getInstance().scan(0, current::add);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 변경 이벤트를 인덱스에 반영합니다.
+     *
+     * @param event 변경 이벤트
+     */
+    @Override
+    public synchronized void onChange(ChangeEvent<StudentVO> event) {
+        if (event.getBefore() != null) remove(event.getBefore().getSno());
+        if (event.getAfter() != null) add(event.getAfter());
+    }
+
+    private synchronized void add(StudentVO vo) {
+        if (rows.containsKey(vo.getSno())) remove(vo.getSno());
+
+        int row = (freeCount > 0) ? free[--freeCount] : rowCount++;
+        if (row == sno.length) {
+            int capacity = row * 2;
+            sno = Arrays.copyOf(sno, capacity);
+            name = Arrays.copyOf(name, capacity);
+            for (int s = 0; s < SUBJECTS.length; s++) scores[s] = Arrays.copyOf(scores[s], capacity);
+        }
+
+        rows.put(vo.getSno(), row);
+        sno[row] = vo.getSno();
+        name[row] = vo.getName();
+        int[] values = {vo.getKorean(), vo.getEnglish(), vo.getMath(), vo.getScience()};
+        for (int s = 0; s < SUBJECTS.length; s++) {
+            scores[s][row] = values[s];
+            bands[s][band(values[s])].add(row);
+        }
+        grades.computeIfAbsent(vo.getGrade(), g -> new CompressedBitmap()).add(row);
+        live.add(row);
+    }
+
+    private void remove(String key) {
+        Integer row = rows.remove(key);
+        if (row == null) return;
+
+        for (int s = 0; s < SUBJECTS.length; s++) bands[s][band(scores[s][row])].remove(row);
+        for (CompressedBitmap grade : grades.values()) grade.remove(row);
+        live.remove(row);
+        sno[row] = null;
+        name[row] = null;
+
+        if (freeCount == free.length) free = Arrays.copyOf(free, freeCount * 2);
+        free[freeCount++] = row;
+    }
+
+    /**
+     * 조건식에 맞는 학생을 학번 순으로 반환합니다. 지금까지 발생한 변경을 모두 반영한 뒤 검색합니다.
+     * <p>
+     * 조건은 {@code 과목 비교연산자 점수} 또는 {@code grade=등급} 형태이고, {@code &}(그리고), {@code |}(또는),
+     * 괄호로 묶을 수 있으며 {@code &}가 {@code |}보다 먼저 계산됩니다.
+     * 과목은 {@code korean/english/math/science}(또는 국어/영어/수학/과학), 비교연산자는
+     * {@code >= > <= < = !=}를 쓸 수 있습니다. 예: {@code math>=90 & grade=A & science<60}
+     *
+     * @param query 조건식
+     * @return 조건에 맞는 학생 목록 (총점, 평균, 등급 포함)
+     * @throws IllegalArgumentException 조건식이 잘못된 경우
+     */
+    public List<StudentVO> filter(String query) {
+        StudentDAO dao = StudentDAO.getInstance();
+        dao.flushEvents();
+
+        List<StudentVO> result = new ArrayList<>();
+        synchronized (this) {
+            CompressedBitmap matched = new Parser(query).parse();
+            matched.forEach(row -> result.add(new StudentVO(sno[row], name[row],
+                    scores[0][row], scores[1][row], scores[2][row], scores[3][row])));
+        }
+
+        for (StudentVO vo : result) dao.derive(vo);
+        result.sort((a, b) -> a.getSno().compareTo(b.getSno()));
+        return result;
+    }
+
+    /**
+     * @return 점수가 속한 구간 번호 (0점 미만은 0, 100점 이상은 10)
+     */
+    private static int band(int score) {
+        return Math.max(0, Math.min(BANDS - 1, score / 10));
+    }
+
+    /**
+     * 과목 점수가 {@code [low, high]}에 있는 행을 구합니다.
+     * 범위에 완전히 포함되는 구간은 비트맵을 그대로 합치고, 걸쳐 있는 구간만 행별 점수를 확인합니다.
+     */
+    private CompressedBitmap range(int subject, int low, int high) {
+        CompressedBitmap result = new CompressedBitmap();
+        if (low > high) return result;
+
+        int[] values = scores[subject];
+        for (int b = band(low); b <= band(high); b++) {
+            int bandLow = (b == 0) ? Integer.MIN_VALUE : b * 10;
+            int bandHigh = (b == BANDS - 1) ? Integer.MAX_VALUE : b * 10 + 9;
+            if (low <= bandLow && bandHigh <= high) {
+                result = CompressedBitmap.or(result, bands[subject][b]);
+                continue;
+            }
+
+            CompressedBitmap partial = new CompressedBitmap();
+            bands[subject][b].forEach(row -> {
+                if (values[row] >= low && values[row] <= high) partial.add(row);
+            });
+            result = CompressedBitmap.or(result, partial);
+        }
+        return result;
+    }
+
+    private CompressedBitmap predicate(String field, String op, String value) {
+        if (field.equalsIgnoreCase("grade") || field.equals("등급")) {
+            CompressedBitmap grade = grades.getOrDefault(value, new CompressedBitmap());
+            if (op.equals("=")) return CompressedBitmap.and(live, grade);
+            if (op.equals("!=")) return CompressedBitmap.andNot(live, grade);
+            throw new IllegalArgumentException("등급에는 = 또는 != 만 쓸 수 있습니다: " + op);
+        }
+
+        int subject = subject(field);
+        int score;
+        try {
+            score = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("점수가 올바르지 않습니다: " + value);
+        }
+
+        switch (op) {
+            case ">=": return range(subject, score, Integer.MAX_VALUE);
+            case ">": return range(subject, score + 1, Integer.MAX_VALUE);
+            case "<=": return range(subject, Integer.MIN_VALUE, score);
+            case "<": return range(subject, Integer.MIN_VALUE, score - 1);
+            case "=": return range(subject, score, score);
+            default: return CompressedBitmap.andNot(live, range(subject, score, score));
+        }
+    }
+
+    private static int subject(String field) {
+        String lower = field.toLowerCase(Locale.ROOT);
+        for (int s = 0; s < SUBJECTS.length; s++) {
+            if (SUBJECTS[s].equals(lower) || SUBJECT_NAMES[s].equals(field)) return s;
+        }
+        throw new IllegalArgumentException("알 수 없는 항목입니다: " + field);
+    }
+
+    /**
+     * 조건식을 읽으면서 바로 비트맵으로 계산하는 재귀 하향 파서입니다.
+     * <pre>
+     * expr   = term ('|' term)*
+     * term   = factor ('&amp;' factor)*
+     * factor = '(' expr ')' | field op value
+     * </pre>
+     */
+    private class Parser {
+        private final String text;
+        private int pos;
+
+        Parser(String text) {
+            this.text = (text == null) ? "" : text;
+        }
+
+        CompressedBitmap parse() {
+            CompressedBitmap result = expr();
+            skipSpaces();
+            if (pos < text.length()) throw error();
+            return result;
+        }
+
+        private CompressedBitmap expr() {
+            CompressedBitmap result = term();
+            while (accept('|')) result = CompressedBitmap.or(result, term());
+            return result;
+        }
+
+        private CompressedBitmap term() {
+            CompressedBitmap result = factor();
+            while (accept('&')) result = CompressedBitmap.and(result, factor());
+            return result;
+        }
+
+        private CompressedBitmap factor() {
+            if (accept('(')) {
+                CompressedBitmap result = expr();
+                if (!accept(')')) throw error();
+                return result;
+            }
+
+            String field = word();
+            skipSpaces();
+            int start = pos;
+            while (pos < text.length() && "<>=!".indexOf(text.charAt(pos)) >= 0) pos++;
+            String op = text.substring(start, pos);
+            if (!Arrays.asList(">=", ">", "<=", "<", "=", "!=").contains(op)) throw error();
+            String value = word();
+            return predicate(field, op, value);
+        }
+
+        private String word() {
+            skipSpaces();
+            int start = pos;
+            while (pos < text.length() && "<>=!&|() \t".indexOf(text.charAt(pos)) < 0) pos++;
+            if (start == pos) throw error();
+            return text.substring(start, pos);
+        }
+
+        private boolean accept(char c) {
+            skipSpaces();
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+        }
+
+        private IllegalArgumentException error() {
+            return new IllegalArgumentException("조건식이 올바르지 않습니다 (위치 " + (pos + 1) + "): " + text);
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package model;
 
+import util.BoundedCache;
+import util.Cache;
 import util.DBUtil;
+import util.LatencyBudget;
+import util.NameCollation;
+import vo.CohortVO;
 import vo.StudentVO;
 import vo.PersonVO;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * {@code StudentDAO} 클래스는 학생 데이터를 관리하기 위한 데이터 접근 객체(DAO)입니다.
  * 데이터베이스에 연결되어 학생 데이터를 추가, 삭제, 수정, 검색, 정렬하는 기능을 제공합니다.
  * <p>
  * 이 클래스는 다음과 같은 주요 기능을 포함합니다:
- * - 데이터베이스 연결 및 쿼리 실행
+ * - 데이터베이스 연결 및 쿼리 실행 ({@link AbstractDAO}에서 공통 처리)
+ * - 학번({@code sno}) 기준 샤딩 ({@code shard.*} 설정)
+ * - {@code cache.store=offheap} 설정 시 힙 밖 저장소({@link OffHeapStudentStore})를 캐시로 사용
  * - 학생 데이터 추가, 변경, 삭제 및 정렬
- * - 합계, 평균, 등급 계산
+ * - 합계, 평균, 등급 계산 ({@link GradingPolicy}로 가중치, +/- 등급, 상대평가 선택)
+ * - 입학년도, 학과 등 학번 구간이나 등급별 집계 ({@link #groupBy(CohortAggregator.Key)})
  */
-public class StudentDAO implements Student {
+public class StudentDAO extends AbstractDAO<StudentVO> implements Student {
     /**
      * 싱글톤(Singleton)으로 구현된 DAO 인스턴스
      */
@@ -33,243 +45,230 @@ public class StudentDAO implements Student {
      *
      * @return {@code StudentDAO} 인스턴스
      */
-    public static StudentDAO getInstance() {
+    public static synchronized StudentDAO getInstance() {
         if (dao == null) dao = new StudentDAO();
         return dao;
     }
 
     /**
-     * 학생 데이터 관리 리스트
+     * 학생 테이블의 컬럼을 인덱스 순서대로 읽는 매퍼.
+     * 점수는 0~100 범위로 보정합니다.
      */
-    private ArrayList<StudentVO> studentlist = new ArrayList<>();
-    private Connection conn;
-    private PreparedStatement pstmt;
-    private Statement stmt;
-    private ResultSet rs;
+    private static final RowMapper<StudentVO> MAPPER = rs -> {
+        StudentVO studentVO = new StudentVO();
+        studentVO.setSno(rs.getString(1));
+        studentVO.setName(rs.getString(2));
+        studentVO.setKorean(Math.max(0, Math.min(100, rs.getInt(3))));
+        studentVO.setEnglish(Math.max(0, Math.min(100, rs.getInt(4))));
+        studentVO.setMath(Math.max(0, Math.min(100, rs.getInt(5))));
+        studentVO.setScience(Math.max(0, Math.min(100, rs.getInt(6))));
+        studentVO.setVersion(rs.getInt(7));
+        studentVO.setNameKey(rs.getBytes(8));
+        return studentVO;
+    };
+
+    /** 이름 정렬 키를 한 번의 IN 조회로 읽어올 최대 학생 수 */
+    private static final int NAME_KEY_BATCH = 100;
 
     /**
-     * 데이터베이스 연결 종료 메서드
+     * 평균과 등급을 정하는 정책 (기본값은 90/80/70/60점 기준 A~F)
      */
-    private void disConnect() {
-        try { if (rs != null) rs.close(); } catch (SQLException e) {}
-        try { if (stmt != null) stmt.close(); } catch (SQLException e) {}
-        try { if (pstmt != null) pstmt.close(); } catch (SQLException e) {}
-        try { if (conn != null) conn.close(); } catch (SQLException e) {}
-    }
+    private volatile GradingPolicy policy = CutoffGrading.standard();
 
     /**
-     * 데이터베이스 연결 및 학생 데이터 읽어오기
+     * {@code cache.store} 설정이 {@code offheap}이면 학생을 힙 밖 슬롯에 보관하는 캐시를 사용합니다.
      */
-    private void connect() {
-        try {
-            conn = DBUtil.getConnection();
-            String sql = "SELECT * FROM student";
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                StudentVO studentVO = new StudentVO();
-                studentVO.setSno(rs.getString("sno"));
-                studentVO.setName(rs.getString("name"));
-                studentVO.setKorean(Math.max(0, Math.min(100, rs.getInt("korean"))));
-                studentVO.setEnglish(Math.max(0, Math.min(100, rs.getInt("english"))));
-                studentVO.setMath(Math.max(0, Math.min(100, rs.getInt("math"))));
-                studentVO.setScience(Math.max(0, Math.min(100, rs.getInt("science"))));
-
-                this.total(studentVO);
-                this.average(studentVO);
-                this.grade(studentVO);
-
-                studentlist.add(studentVO);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            disConnect();
-        }
+    @Override
+    protected Cache<String, StudentVO> createCache() {
+        if (!"offheap".equalsIgnoreCase(DBUtil.getProperty("cache.store", "heap"))) return BoundedCache.fromProperties();
+
+        return new OffHeapStudentStore(
+                Integer.parseInt(DBUtil.getProperty("cache.maxSize", "10000")),
+                Long.parseLong(DBUtil.getProperty("cache.ttlSeconds", "0")),
+                this::derive);
     }
 
-    /**
-     * 학생 데이터를 추가합니다.
-     *
-     * @param personVO 추가할 학생 데이터
-     */
     @Override
-    public void input(PersonVO personVO) {
-        StudentVO newStudent = (StudentVO) personVO;
+    protected int shardCount() {
+        return DBUtil.getShardCount();
+    }
 
-        if (studentlist.isEmpty()) this.connect();
+    @Override
+    protected int shardOf(String sno) {
+        return DBUtil.shardOf(sno);
+    }
 
-        try {
-            conn = DBUtil.getConnection();
-            String sql = "INSERT INTO STUDENT (SNO, NAME, KOREAN, ENGLISH, MATH, SCIENCE) VALUES (?, ?, ?, ?, ?, ?)";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, newStudent.getSno());
-            pstmt.setString(2, newStudent.getName());
-            pstmt.setInt(3, newStudent.getKorean());
-            pstmt.setInt(4, newStudent.getEnglish());
-            pstmt.setInt(5, newStudent.getMath());
-            pstmt.setInt(6, newStudent.getScience());
-
-            int result = pstmt.executeUpdate();
-            if (result != 0) {
-                this.total(newStudent);
-                this.average(newStudent);
-                this.grade(newStudent);
-                studentlist.add(newStudent);
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            disConnect();
+    @Override
+    protected String selectSql() {
+        return "SELECT sno, name, korean, english, math, science, version, " + NameCollation.KEY_SQL + " FROM student";
+    }
+
+    @Override
+    protected String keyColumn() {
+        return "sno";
+    }
+
+    @Override
+    protected String insertSql() {
+        return "INSERT INTO STUDENT (SNO, NAME, KOREAN, ENGLISH, MATH, SCIENCE) VALUES (?, ?, ?, ?, ?, ?)";
+    }
+
+    @Override
+    protected String upsertSql() {
+        return "INSERT INTO STUDENT (SNO, NAME, KOREAN, ENGLISH, MATH, SCIENCE) VALUES (?, ?, ?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE NAME = VALUES(NAME), KOREAN = VALUES(KOREAN), ENGLISH = VALUES(ENGLISH),"
+                + " MATH = VALUES(MATH), SCIENCE = VALUES(SCIENCE), VERSION = VERSION + 1";
+    }
+
+    @Override
+    protected String updateSql() {
+        return "UPDATE Student SET NAME=?, KOREAN=?, ENGLISH=?, MATH=?, SCIENCE=?, VERSION=VERSION+1 WHERE SNO=? AND VERSION=?";
+    }
+
+    @Override
+    protected String deleteSql() {
+        return "DELETE FROM student WHERE sno = ?";
+    }
+
+    @Override
+    protected String orderBy(int sortNum) {
+        switch (sortNum) {
+            // name 컬럼은 SchemaManager가 sort.nameCollation 콜레이션으로 만들고, 두 정렬 모두 인덱스 순서로 읽힙니다.
+            case 1: return " ORDER BY name ASC, sno ASC";
+            case 2: return " ORDER BY sno ASC";
+            case 3: return " ORDER BY total DESC, sno DESC";
+            default: return "";
+        }
+    }
+
+    @Override
+    protected Comparator<StudentVO> comparator(int sortNum) {
+        switch (sortNum) {
+            case 1: return (s1, s2) -> {
+                // 데이터베이스가 계산한 정렬 키를 바이트로 비교하고, 같은 이름은 학번으로 순서를 정해 DB 정렬과 맞춥니다.
+                int c = NameCollation.compare(s1.getNameKey(), s2.getNameKey());
+                return (c != 0) ? c : s1.getSno().compareTo(s2.getSno());
+            };
+            case 2: return (s1, s2) -> s1.getSno().compareTo(s2.getSno());
+            case 3: return (s1, s2) -> {
+                int c = Integer.compare(s2.getTotal(), s1.getTotal());
+                return (c != 0) ? c : s2.getSno().compareTo(s1.getSno());
+            };
+            default: return null;
         }
     }
 
     /**
-     * 학생 데이터를 수정합니다.
-     *
-     * @param personVO 수정할 학생 데이터 객체
+     * 이름순으로 정렬하기 전에, 정렬 키를 모르는 학생(입력/수정 후 캐시된 학생 등)의 키를 데이터베이스에서 읽어 채웁니다.
+     * 키는 학번별 {@code IN} 조회로 샤드마다 100명씩 읽으며, 데이터베이스의 이름이 캐시의 이름과 같을 때만 씁니다.
+     * 읽지 못한 학생은 이름순 목록의 맨 뒤에 놓입니다.
      */
     @Override
-    public void update(PersonVO personVO) {
-        StudentVO student = (StudentVO) personVO;
+    protected void prepareSort(List<StudentVO> list, int sortNum) {
+        if (sortNum != 1) return;
+
+        Map<Integer, List<StudentVO>> byShard = new HashMap<>();
+        for (StudentVO vo : list) {
+            if (vo.getNameKey() == null) byShard.computeIfAbsent(shardOf(vo.getSno()), k -> new ArrayList<>()).add(vo);
+        }
+        if (byShard.isEmpty()) return;
 
-        if (studentlist.isEmpty()) this.connect();
+        StringBuilder sql = new StringBuilder("SELECT sno, name, ").append(NameCollation.KEY_SQL)
+                .append(" FROM student WHERE sno IN (?");
+        for (int i = 1; i < NAME_KEY_BATCH; i++) sql.append(", ?");
+        sql.append(')');
 
+        LatencyBudget budget = LatencyBudget.start(READ_BUDGET_MILLIS);
         try {
-            conn = DBUtil.getConnection();
-            String sql = "UPDATE Student SET NAME=?, KOREAN=?, ENGLISH=?, MATH=?, SCIENCE=? WHERE SNO=?";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, student.getName());
-            pstmt.setInt(2, student.getKorean());
-            pstmt.setInt(3, student.getEnglish());
-            pstmt.setInt(4, student.getMath());
-            pstmt.setInt(5, student.getScience());
-            pstmt.setString(6, student.getSno());
-
-            int result = pstmt.executeUpdate();
-            if (result != 0) {
-                this.total(student);
-                this.average(student);
-                this.grade(student);
-
-                for (StudentVO s : studentlist) {
-                    if (s.getSno().equals(student.getSno())) {
-                        s.setName(student.getName());
-                        s.setKorean(student.getKorean());
-                        s.setEnglish(student.getEnglish());
-                        s.setMath(student.getMath());
-                        s.setScience(student.getScience());
-                        break;
+            for (Map.Entry<Integer, List<StudentVO>> entry : byShard.entrySet()) {
+                List<StudentVO> missing = entry.getValue();
+                Map<String, StudentVO> bySno = new HashMap<>();
+                for (StudentVO vo : missing) bySno.put(vo.getSno(), vo);
+
+                try (Connection conn = getReadConnection(entry.getKey());
+                     PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                    for (int from = 0; from < missing.size(); from += NAME_KEY_BATCH) {
+                        int to = Math.min(missing.size(), from + NAME_KEY_BATCH);
+                        for (int i = 0; i < NAME_KEY_BATCH; i++) {
+                            pstmt.setString(i + 1, missing.get(Math.min(from + i, to - 1)).getSno());
+                        }
+                        try (ResultSet rs = pstmt.executeQuery()) {
+                            while (rs.next()) {
+                                StudentVO vo = bySno.get(rs.getString(1));
+                                if (vo != null && rs.getString(2).equals(vo.getName())) vo.setNameKey(rs.getBytes(3));
+                            }
+                        }
                     }
                 }
             }
         } catch (SQLException e) {
-            e.printStackTrace();
+            System.out.println("이름 정렬 키를 읽지 못했습니다(" + e.getMessage() + "): 해당 학생은 목록의 맨 뒤에 표시합니다.");
         } finally {
-            disConnect();
+            budget.close();
         }
     }
 
-    /**
-     * 학생 데이터를 삭제합니다.
-     *
-     * @param deleteNum 삭제할 학생의 ID
-     */
     @Override
-    public void delete(String deleteNum) {
-        if (studentlist.isEmpty()) this.connect();
+    protected RowMapper<StudentVO> mapper() {
+        return MAPPER;
+    }
 
-        try {
-            conn = DBUtil.getConnection();
-            String sql = "DELETE FROM student WHERE sno = ?";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, deleteNum);
-
-            int result = pstmt.executeUpdate();
-            if (result != 0) {
-                studentlist.removeIf(s -> s.getSno().equals(deleteNum));
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            disConnect();
-        }
+    @Override
+    protected void bindInsert(PreparedStatement pstmt, StudentVO newStudent) throws SQLException {
+        pstmt.setString(1, newStudent.getSno());
+        pstmt.setString(2, newStudent.getName());
+        pstmt.setInt(3, newStudent.getKorean());
+        pstmt.setInt(4, newStudent.getEnglish());
+        pstmt.setInt(5, newStudent.getMath());
+        pstmt.setInt(6, newStudent.getScience());
     }
 
-    /**
-     * 전체 학생 데이터를 특정 조건에 따라 정렬하여 출력합니다.
-     *
-     * @param sortNum 정렬 조건을 나타내는 번호
-     */
-    public void totalSearch(int sortNum) {
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement pstmt = createSortPreparedStatement(conn, sortNum);
-             ResultSet rs = pstmt.executeQuery()) {
-
-            System.out.println("학번\t이름\t국어\t영어\t수학\t과학\t총점");
-            System.out.println("--------------------------------------------------");
-            while (rs.next()) {
-                String sno = rs.getString("sno");
-                String name = rs.getString("name");
-                int korean = rs.getInt("korean");
-                int english = rs.getInt("english");
-                int math = rs.getInt("math");
-                int science = rs.getInt("science");
-                int total = korean + english + math + science;
-
-                System.out.printf("%s\t%s\t%d\t%d\t%d\t%d\t%d\n",
-                        sno, name, korean, english, math, science, total);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    @Override
+    protected void bindUpdate(PreparedStatement pstmt, StudentVO student) throws SQLException {
+        pstmt.setString(1, student.getName());
+        pstmt.setInt(2, student.getKorean());
+        pstmt.setInt(3, student.getEnglish());
+        pstmt.setInt(4, student.getMath());
+        pstmt.setInt(5, student.getScience());
+        pstmt.setString(6, student.getSno());
+        pstmt.setInt(7, student.getVersion());
     }
 
-    private PreparedStatement createSortPreparedStatement(Connection conn, int sortNum) throws SQLException {
-        String sql = "SELECT * FROM student";
-        switch (sortNum) {
-            case 1 -> sql += " ORDER BY name ASC";
-            case 2 -> sql += " ORDER BY sno ASC";
-            case 3 -> sql += " ORDER BY (korean + english + math + science) DESC";
-        }
-        return conn.prepareStatement(sql);
+    @Override
+    protected String keyOf(StudentVO studentVO) {
+        return studentVO.getSno();
     }
 
-    /**
-     * 특정 학생 데이터를 검색하여 출력합니다.
-     *
-     * @param searchNum 검색할 학생의 ID
-     */
     @Override
-    public void search(String searchNum) {
-        boolean found = false;
-        for (StudentVO s : studentlist) {
-            if (s.getSno().equals(searchNum)) {
-                int total = s.getKorean() + s.getEnglish() + s.getMath() + s.getScience();
-                System.out.printf("%s\t%s\t%d\t%d\t%d\t%d\t%d\n",
-                        s.getSno(), s.getName(),
-                        s.getKorean(), s.getEnglish(), s.getMath(), s.getScience(),
-                        total);
-                found = true;
-                break;
-            }
-        }
-        if (!found) System.out.println("입력된 학생이 없습니다.");
+    protected void derive(StudentVO studentVO) {
+        this.total(studentVO);
+        this.average(studentVO);
+        this.grade(studentVO);
+    }
+
+    @Override
+    protected String format(StudentVO s) {
+        return String.format("%s\t%s\t%d\t%d\t%d\t%d\t%d",
+                s.getSno(), s.getName(),
+                s.getKorean(), s.getEnglish(), s.getMath(), s.getScience(),
+                s.getTotal());
+    }
+
+    @Override
+    protected String notFoundMessage() {
+        return "입력된 학생이 없습니다.";
     }
 
     /**
-     * 학생 데이터를 정렬합니다.
+     * 전체 학생 데이터를 특정 조건에 따라 정렬하여 출력합니다.
      *
      * @param sortNum 정렬 조건을 나타내는 번호
      */
     @Override
-    public void sort(int sortNum) {
-        switch (sortNum) {
-            case 1 -> studentlist.sort((s1, s2) -> s1.getName().compareTo(s2.getName()));
-            case 2 -> studentlist.sort((s1, s2) -> s1.getSno().compareTo(s2.getSno()));
-            case 3 -> studentlist.sort((s1, s2) -> s2.getTotal() - s1.getTotal());
-        }
+    public void totalSearch(int sortNum) {
+        System.out.println("학번\t이름\t국어\t영어\t수학\t과학\t총점");
+        System.out.println("--------------------------------------------------");
+        super.totalSearch(sortNum);
     }
 
     /**
@@ -282,32 +281,67 @@ public class StudentDAO implements Student {
     }
 
     /**
-     * 학생의 평균 점수를 계산합니다.
+     * 학생의 평균 점수를 현재 등급 정책의 과목 가중치로 계산합니다.
      *
      * @param studentVO 평균 점수를 계산할 학생 객체
      */
     @Override
     public void average(StudentVO studentVO) {
-        studentVO.setAverage(studentVO.getTotal() / 4.0);
+        studentVO.setAverage(policy.average(
+                studentVO.getKorean(), studentVO.getEnglish(), studentVO.getMath(), studentVO.getScience()));
     }
 
     /**
-     * 학생의 등급을 결정합니다.
+     * 학생의 등급을 현재 등급 정책으로 결정합니다.
      *
      * @param studentVO 등급을 계산할 학생 객체
      */
     @Override
     public void grade(StudentVO studentVO) {
-        double avg = studentVO.getAverage();
-        if (avg >= 90) studentVO.setGrade("A");
-        else if (avg >= 80) studentVO.setGrade("B");
-        else if (avg >= 70) studentVO.setGrade("C");
-        else if (avg >= 60) studentVO.setGrade("D");
-        else studentVO.setGrade("F");
+        studentVO.setGrade(policy.grade((float) studentVO.getAverage()));
+    }
+
+    /**
+     * @return 현재 등급 정책
+     */
+    public GradingPolicy getGradingPolicy() {
+        return policy;
+    }
+
+    /**
+     * 등급 정책을 바꾸고 전체 학생을 다시 채점합니다.
+     * <p>
+     * 전체 학생의 점수를 과목별 기본형 배열로 한 번 읽어 {@link GradeKernel}로 평균과 등급을 일괄 계산하고,
+     * 상대평가 정책이면 이 분포로 기준 점수를 정합니다. 캐시된 학생은 새 정책으로 다시 계산되도록 비웁니다.
+     *
+     * @param newPolicy 새 등급 정책
+     * @return 재채점 결과 (학생별 총점, 평균, 등급 인덱스)
+     * @throws SQLException 전체 조회에 실패한 경우 (정책은 바뀌지 않음)
+     */
+    public GradeKernel.Scores setGradingPolicy(GradingPolicy newPolicy) throws SQLException {
+        GradeKernel.Scores scores = new GradeKernel.Scores(1024);
+        scan(0, vo -> scores.add(vo.getSno(), vo.getKorean(), vo.getEnglish(), vo.getMath(), vo.getScience()));
+        GradeKernel.recompute(scores, newPolicy);
+
+        this.policy = newPolicy;
+        cache.clear();
+        return scores;
+    }
+
+    /**
+     * 학생을 학번의 일부나 등급 등으로 묶어 집단별 인원, 과목 평균, 등급 분포를 구합니다.
+     * 학생 수가 많으면 각 샤드에서 {@code GROUP BY}로, 적으면 메모리에서 병렬로 집계합니다 ({@link CohortAggregator} 참고).
+     *
+     * @param key 집단 키
+     * @return 집단별 집계 결과
+     * @throws SQLException 조회에 실패한 경우
+     */
+    public List<CohortVO> groupBy(CohortAggregator.Key key) throws SQLException {
+        return CohortAggregator.aggregate(this, key);
     }
 
     @Override
     public void input(StudentVO studentVO) {
-
+        this.input((PersonVO) studentVO);
     }
 }
@@ -0,0 +1,171 @@
+package model;
+
+import vo.StudentVO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@code StudentExporter} 클래스는 학생 테이블 전체를 파일로 내보내는 기능을 제공합니다.
+ * <p>
+ * {@link StudentDAO}의 스트리밍 커서에서 한 행씩 받아 곧바로 버퍼에 기록하므로,
+ * 행 수와 관계없이 일정한 메모리만 사용합니다. 행마다 {@code String.format}을 쓰지 않고
+ * 필드를 버퍼에 직접 이어 붙여 CPU 사용을 줄였습니다.
+ * <p>
+ * 지원 형식:
+ * - CSV ({@code .csv}): 첫 줄은 헤더, 이름에 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌉니다.
+ * - JSON Lines ({@code .jsonl}): 한 줄에 학생 하나의 JSON 객체
+ * - 파일 이름이 {@code .gz}로 끝나면 gzip으로 압축합니다.
+ */
+public class StudentExporter {
+
+    /** 출력 버퍼 크기 */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format { CSV, JSON_LINES }
+
+    /**
+     * 객체 생성을 제한합니다.
+     */
+    private StudentExporter() {
+    }
+
+    /**
+     * 파일 이름의 확장자로 형식과 압축 여부를 정해 학생 테이블을 내보냅니다.
+     *
+     * @param path 출력 파일 경로 ({@code .csv}, {@code .jsonl}, 각각 {@code .gz} 가능)
+     * @return 내보낸 행 수
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public static long export(Path path) throws IOException {
+        String name = path.getFileName().toString().toLowerCase();
+        boolean gzip = name.endsWith(".gz");
+        if (gzip) name = name.substring(0, name.length() - 3);
+
+        Format format = name.endsWith(".jsonl") || name.endsWith(".json") ? Format.JSON_LINES : Format.CSV;
+        return export(path, format, gzip, 2);
+    }
+
+    /**
+     * 학생 테이블을 지정한 형식으로 내보냅니다.
+     *
+     * @param path    출력 파일 경로
+     * @param format  출력 형식
+     * @param gzip    gzip 압축 여부
+     * @param sortNum 정렬 조건 번호 (0: 정렬 안 함, 1: 이름순, 2: 학번순, 3: 성적순)
+     * @return 내보낸 행 수
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public static long export(Path path, Format format, boolean gzip, int sortNum) throws IOException {
+        long[] count = {0};
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer out = open(channel, gzip)) {
+
+            if (format == Format.CSV) out.write("sno,name,korean,english,math,science,total,average,grade\n");
+
+            StringBuilder line = new StringBuilder(128);
+            StudentDAO.getInstance().scan(sortNum, s -> {
+                line.setLength(0);
+                if (format == Format.CSV) appendCsv(line, s);
+                else appendJson(line, s);
+
+                try {
+                    out.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        return count[0];
+    }
+
+    /**
+     * 파일 채널 위에 (필요하면 gzip 압축을 거치는) 버퍼 기반 문자 출력 스트림을 엽니다.
+     */
+    private static Writer open(FileChannel channel, boolean gzip) throws IOException {
+        OutputStream stream = Channels.newOutputStream(channel);
+        if (gzip) stream = new GZIPOutputStream(stream, BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * 학생 한 명을 CSV 한 줄로 이어 붙입니다.
+     */
+    private static void appendCsv(StringBuilder line, StudentVO s) {
+        line.append(s.getSno()).append(',');
+        String name = s.getName();
+        if (name.indexOf(',') >= 0 || name.indexOf('"') >= 0 || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+            line.append('"').append(name.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(name);
+        }
+        line.append(',').append(s.getKorean())
+                .append(',').append(s.getEnglish())
+                .append(',').append(s.getMath())
+                .append(',').append(s.getScience())
+                .append(',').append(s.getTotal())
+                .append(',').append(s.getAverage())
+                .append(',').append(s.getGrade())
+                .append('\n');
+    }
+
+    /**
+     * 학생 한 명을 JSON 객체 한 줄로 이어 붙입니다.
+     */
+    private static void appendJson(StringBuilder line, StudentVO s) {
+        line.append("{\"sno\":");
+        appendJsonString(line, s.getSno());
+        line.append(",\"name\":");
+        appendJsonString(line, s.getName());
+        line.append(",\"korean\":").append(s.getKorean())
+                .append(",\"english\":").append(s.getEnglish())
+                .append(",\"math\":").append(s.getMath())
+                .append(",\"science\":").append(s.getScience())
+                .append(",\"total\":").append(s.getTotal())
+                .append(",\"average\":").append(s.getAverage())
+                .append(",\"grade\":\"").append(s.getGrade())
+                .append("\"}\n");
+    }
+
+    /**
+     * 문자열을 JSON 문자열 리터럴로 이스케이프하여 이어 붙입니다.
+     */
+    static void appendJsonString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': line.append("\\\""); break;
+                case '\\': line.append("\\\\"); break;
+                case '\n': line.append("\\n"); break;
+                case '\r': line.append("\\r"); break;
+                case '\t': line.append("\\t"); break;
+                default:
+                    if (c < 0x20) line.append(String.format("\\u%04x", (int) c));
+                    else line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,339 @@
+package model;
+
+import vo.StudentVO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@code StudentImporter} 클래스는 대용량 성적표 CSV 파일을 학생 테이블로 가져오는 파이프라인입니다.
+ * <p>
+ * 처리 단계는 다음과 같습니다:
+ * - 읽기: 파일을 줄 경계에 맞춘 청크로 나누고, 청크마다 메모리 매핑({@link MappedByteBuffer})으로 읽습니다.
+ * - 파싱/검증: 청크들을 병렬로 파싱하며 필드 수, 학번/이름 길이, 숫자 형식, 점수 범위(0~100)를 검사합니다.
+ * - 쓰기: 청크를 파일 순서대로 받아 학번 중복을 걸러낸 뒤 {@link StudentDAO#merge}로 배치 기록합니다.
+ *   쓰기 단계가 앞 청크를 기록하는 동안 뒤 청크의 파싱이 계속 진행되며, 파싱이 쓰기보다 앞서 나갈 수 있는 청크 수를
+ *   제한하므로 파일 크기와 관계없이 메모리에는 몇 개 청크만 올라갑니다.
+ *   커밋된 행만 반영 건수에 포함하고, 저장에 실패한 행은 거부 건수에 포함합니다.
+ * <p>
+ * 입력 형식은 {@code sno,name,korean,english,math,science}이며, 그 뒤의 컬럼(내보내기 파일의 총점 등)은 무시합니다.
+ * 첫 줄이 {@code sno}로 시작하면 헤더로 보고 건너뜁니다. 따옴표로 감싼 필드를 지원하지만 필드 안의 줄바꿈은 지원하지 않습니다.
+ * 이미 있는 학번은 파일의 값으로 수정됩니다.
+ */
+public class StudentImporter {
+
+    /** 파싱 청크 크기(바이트) */
+    private static final int CHUNK_SIZE = 8 << 20;
+
+    /** 한 번에 기록할 학생 수 */
+    private static final int BATCH_SIZE = 1000;
+
+    /** 보고서에 보관할 최대 거부 행 수 */
+    private static final int MAX_REJECTS_KEPT = 1000;
+
+    /** 쓰기 단계보다 앞서 파싱할 수 있는 최대 청크 수 */
+    private static final int MAX_CHUNKS_AHEAD = ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    /** 학생 테이블의 학번/이름 컬럼 길이 ({@code VARCHAR(20)}, {@code VARCHAR(50)}) */
+    private static final int MAX_SNO_LENGTH = 20;
+    private static final int MAX_NAME_LENGTH = 50;
+
+    /**
+     * 객체 생성을 제한합니다.
+     */
+    private StudentImporter() {
+    }
+
+    /**
+     * 가져오기 결과 보고서
+     */
+    public static class ImportReport {
+        private long totalRows;
+        private long accepted;
+        private long rejected;
+        private final List<String> rejects = new ArrayList<>();
+        private double seconds;
+
+        /**
+         * 거부된 행을 기록합니다. 상세 내용은 {@value #MAX_REJECTS_KEPT}건까지만 보관합니다.
+         */
+        private void reject(long line, String reason, String raw) {
+            rejected++;
+            if (rejects.size() < MAX_REJECTS_KEPT) rejects.add(line + "행: " + reason + " [" + raw + "]");
+        }
+
+        /**
+         * 배치를 기록한 결과를 반영합니다. 커밋되지 않은 행은 거부 건수에 포함합니다.
+         */
+        private void written(long firstLine, long lastLine, int size, int committed) {
+            accepted += committed;
+            if (committed == size) return;
+
+            rejected += size - committed;
+            if (rejects.size() < MAX_REJECTS_KEPT) {
+                rejects.add(firstLine + "~" + lastLine + "행: 저장 실패 " + (size - committed) + "건");
+            }
+        }
+
+        public long getTotalRows() {
+            return totalRows;
+        }
+
+        public long getAccepted() {
+            return accepted;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        /** @return 거부된 행의 상세 내용 (최대 {@value #MAX_REJECTS_KEPT}건) */
+        public List<String> getRejects() {
+            return rejects;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+
+        /** @return 초당 처리한 행 수 */
+        public double getRowsPerSecond() {
+            return seconds > 0 ? totalRows / seconds : totalRows;
+        }
+
+        /**
+         * 보고서를 문자열로 변환합니다.
+         *
+         * @return 처리 건수와 처리량 요약
+         */
+        @Override
+        public String toString() {
+            return String.format("전체 %d행, 반영 %d행, 거부 %d행 (%.2f초, %.0f행/초)",
+                    totalRows, accepted, rejected, seconds, getRowsPerSecond());
+        }
+    }
+
+    /**
+     * 한 줄을 파싱한 결과 (학생 또는 거부 사유)
+     */
+    private static class ParsedLine {
+        final long line;
+        final StudentVO student;
+        final String error;
+        final String raw;
+
+        ParsedLine(long line, StudentVO student, String error, String raw) {
+            this.line = line;
+            this.student = student;
+            this.error = error;
+            this.raw = raw;
+        }
+    }
+
+    /**
+     * 청크 하나를 파싱한 결과. 줄 번호는 청크 안에서의 번호입니다.
+     */
+    private static class ParsedChunk {
+        final List<ParsedLine> lines = new ArrayList<>();
+        long lineCount;
+    }
+
+    /**
+     * CSV 파일을 학생 테이블로 가져옵니다.
+     *
+     * @param path CSV 파일 경로
+     * @return 가져오기 결과 보고서
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    public static ImportReport importCsv(Path path) throws IOException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Deque<CompletableFuture<ParsedChunk>> chunks = new ArrayDeque<>();
+            long size = channel.size();
+            long pos = 0;
+
+            StudentDAO dao = StudentDAO.getInstance();
+            Set<String> seen = new HashSet<>();
+            List<StudentVO> batch = new ArrayList<>(BATCH_SIZE);
+            long batchFirstLine = 0, batchLastLine = 0;
+            long lineBase = 0;
+
+            while (pos < size || !chunks.isEmpty()) {
+                // 쓰기 단계가 따라올 때까지 최대 MAX_CHUNKS_AHEAD개 청크만 미리 파싱합니다.
+                while (pos < size && chunks.size() < MAX_CHUNKS_AHEAD) {
+                    long end = Math.min(size, pos + CHUNK_SIZE);
+                    if (end < size) end = nextLineStart(channel, end);
+
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, end - pos);
+                    boolean skipHeader = pos == 0;
+                    chunks.add(CompletableFuture.supplyAsync(() -> parse(buffer, skipHeader), ForkJoinPool.commonPool()));
+                    pos = end;
+                }
+
+                ParsedChunk chunk = chunks.poll().join();
+                for (ParsedLine parsed : chunk.lines) {
+                    long line = lineBase + parsed.line;
+                    report.totalRows++;
+
+                    if (parsed.student == null) {
+                        report.reject(line, parsed.error, parsed.raw);
+                    } else if (!seen.add(parsed.student.getSno())) {
+                        report.reject(line, "중복된 학번", parsed.raw);
+                    } else {
+                        if (batch.isEmpty()) batchFirstLine = line;
+                        batchLastLine = line;
+                        batch.add(parsed.student);
+                        if (batch.size() == BATCH_SIZE) {
+                            report.written(batchFirstLine, batchLastLine, batch.size(), dao.merge(batch));
+                            batch = new ArrayList<>(BATCH_SIZE);
+                        }
+                    }
+                }
+                lineBase += chunk.lineCount;
+            }
+            if (!batch.isEmpty()) {
+                report.written(batchFirstLine, batchLastLine, batch.size(), dao.merge(batch));
+            }
+        }
+
+        report.seconds = (System.nanoTime() - start) / 1e9;
+        return report;
+    }
+
+    /**
+     * {@code pos} 이후 처음 나오는 줄의 시작 위치를 찾습니다.
+     */
+    private static long nextLineStart(FileChannel channel, long pos) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long size = channel.size();
+        while (pos < size) {
+            probe.clear();
+            int read = channel.read(probe, pos);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return pos + i + 1;
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    /**
+     * 매핑된 청크를 줄 단위로 파싱합니다.
+     */
+    private static ParsedChunk parse(MappedByteBuffer buffer, boolean skipHeader) {
+        ParsedChunk chunk = new ParsedChunk();
+        byte[] line = new byte[256];
+        int length = 0;
+
+        while (true) {
+            boolean end = !buffer.hasRemaining();
+            byte b = end ? (byte) '\n' : buffer.get();
+
+            if (b == '\n') {
+                if (end && length == 0) break;
+                chunk.lineCount++;
+
+                int len = (length > 0 && line[length - 1] == '\r') ? length - 1 : length;
+                String raw = new String(line, 0, len, StandardCharsets.UTF_8);
+                length = 0;
+
+                if (!(skipHeader && chunk.lineCount == 1 && raw.startsWith("sno")) && !raw.isBlank()) {
+                    chunk.lines.add(parseLine(chunk.lineCount, raw));
+                }
+                if (end) break;
+                continue;
+            }
+
+            if (length == line.length) line = Arrays.copyOf(line, length * 2);
+            line[length++] = b;
+        }
+        return chunk;
+    }
+
+    /**
+     * 한 줄을 학생 객체로 변환하고 값을 검증합니다.
+     */
+    private static ParsedLine parseLine(long lineNo, String raw) {
+        List<String> fields = splitCsv(raw);
+        if (fields == null) return new ParsedLine(lineNo, null, "따옴표가 닫히지 않음", raw);
+        if (fields.size() < 6) return new ParsedLine(lineNo, null, "필드 수 부족", raw);
+
+        String sno = fields.get(0).trim();
+        String name = fields.get(1).trim();
+        if (sno.isEmpty()) return new ParsedLine(lineNo, null, "학번 없음", raw);
+        if (name.isEmpty()) return new ParsedLine(lineNo, null, "이름 없음", raw);
+        // 한 행이라도 컬럼 길이를 넘으면 배치 전체가 실패하므로 미리 거부합니다. (MySQL은 문자 단위로 셉니다)
+        if (sno.codePointCount(0, sno.length()) > MAX_SNO_LENGTH) {
+            return new ParsedLine(lineNo, null, "학번 길이(" + MAX_SNO_LENGTH + "자) 초과", raw);
+        }
+        if (name.codePointCount(0, name.length()) > MAX_NAME_LENGTH) {
+            return new ParsedLine(lineNo, null, "이름 길이(" + MAX_NAME_LENGTH + "자) 초과", raw);
+        }
+
+        int[] scores = new int[4];
+        for (int i = 0; i < 4; i++) {
+            try {
+                scores[i] = Integer.parseInt(fields.get(i + 2).trim());
+            } catch (NumberFormatException e) {
+                return new ParsedLine(lineNo, null, "점수 형식 오류", raw);
+            }
+            if (scores[i] < 0 || scores[i] > 100) return new ParsedLine(lineNo, null, "점수 범위(0~100) 초과", raw);
+        }
+
+        return new ParsedLine(lineNo, new StudentVO(sno, name, scores[0], scores[1], scores[2], scores[3]), null, raw);
+    }
+
+    /**
+     * CSV 한 줄을 필드로 나눕니다. 따옴표로 감싼 필드와 {@code ""} 이스케이프를 지원합니다.
+     *
+     * @return 필드 목록, 따옴표가 닫히지 않았으면 {@code null}
+     */
+    private static List<String> splitCsv(String raw) {
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) return null;
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,137 @@
+package model;
+
+import vo.StudentVO;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code StudentStatsView} 클래스는 등급별 인원과 과목별 평균을 유지하는 증분 집계 뷰입니다.
+ * <p>
+ * 처음 한 번만 전체 학생을 읽어 기준값을 만들고, 이후에는 {@link StudentDAO}가 발행하는 변경 이벤트의
+ * 변경 전 값을 빼고 변경 후 값을 더하는 방식으로 갱신하므로, 통계를 볼 때마다 전체를 다시 읽지 않습니다.
+ */
+public class StudentStatsView implements ChangeListener<StudentVO> {
+    private final Map<String, Integer> gradeCounts = new LinkedHashMap<>();
+    private long count;
+    private long korean, english, math, science;
+
+    /**
+     * Singleton 패턴을 위한 StudentStatsView 객체
+     */
+    private static StudentStatsView view;
+
+    /**
+     * StudentStatsView의 생성자.
+     * Singleton 패턴을 위해 private으로 선언되었습니다.
+     */
+    private StudentStatsView() {
+        resetGrades();
+    }
+
+    /**
+     * 등급별 인원을 현재 등급 정책의 등급 순서대로 0으로 초기화합니다.
+     */
+    private void resetGrades() {
+        gradeCounts.clear();
+        for (String grade : StudentDAO.getInstance().getGradingPolicy().grades()) gradeCounts.put(grade, 0);
+    }
+
+    /**
+     * Singleton 패턴으로 인스턴스를 반환합니다.
+     * 처음 호출될 때 변경 이벤트를 구독하고 기준값을 만듭니다.
+     * 구독 후 기준값을 읽는 사이에 일어난 변경은 중복 반영될 수 있으므로, 쓰기 작업이 시작되기 전에 호출하는 것이 좋습니다.
+     *
+     * @return {@code StudentStatsView}의 Singleton 인스턴스
+     */
+    public static synchronized StudentStatsView getInstance() {
+        if (view == null) {
+            StudentStatsView created = new StudentStatsView();
+            StudentDAO dao = StudentDAO.getInstance();
+            dao.subscribe(created);
+            try {
+                dao.scan(0, created::add);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            view = created;
+        }
+
+        return view;
+    }
+
+    /**
+     * 이미 만들어진 뷰가 있으면 전체 학생을 다시 읽어 기준값을 새로 만듭니다.
+     * 등급 정책이 바뀌어 기존 등급별 인원이 더 이상 맞지 않을 때 사용합니다.
+     */
+    public static void refreshIfAttached() {
+        StudentStatsView current;
+        synchronized (StudentStatsView.class) {
+            current = view;
+        }
+        if (current == null) return;
+
+        synchronized (current) {
+            current.resetGrades();
+            current.count = 0;
+            current.korean = current.english = current.math = current.science = 0;
+            try {
+                StudentDAO.getInstance().scan(0, current::add);
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 변경 이벤트를 집계에 반영합니다.
+     *
+     * @param event 변경 이벤트
+     */
+    @Override
+    public synchronized void onChange(ChangeEvent<StudentVO> event) {
+        if (event.getBefore() != null) remove(event.getBefore());
+        if (event.getAfter() != null) add(event.getAfter());
+    }
+
+    private synchronized void add(StudentVO vo) {
+        gradeCounts.merge(vo.getGrade(), 1, Integer::sum);
+        count++;
+        korean += vo.getKorean();
+        english += vo.getEnglish();
+        math += vo.getMath();
+        science += vo.getScience();
+    }
+
+    private void remove(StudentVO vo) {
+        gradeCounts.merge(vo.getGrade(), -1, Integer::sum);
+        count--;
+        korean -= vo.getKorean();
+        english -= vo.getEnglish();
+        math -= vo.getMath();
+        science -= vo.getScience();
+    }
+
+    /**
+     * 지금까지 발생한 변경을 모두 반영한 뒤 통계를 출력합니다.
+     */
+    public void print() {
+        StudentDAO.getInstance().flushEvents();
+
+        synchronized (this) {
+            System.out.println("등급\t인원");
+            System.out.println("------------");
+            for (Map.Entry<String, Integer> entry : gradeCounts.entrySet()) {
+                System.out.println(entry.getKey() + "\t" + entry.getValue());
+            }
+            System.out.println("------------");
+            System.out.println("총 " + count + "명");
+
+            if (count == 0) return;
+            System.out.printf("과목 평균\t국어 %.2f\t영어 %.2f\t수학 %.2f\t과학 %.2f\n",
+                    (double) korean / count, (double) english / count,
+                    (double) math / count, (double) science / count);
+        }
+    }
+}
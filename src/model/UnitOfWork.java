@@ -0,0 +1,173 @@
+package model;
+
+import util.DBUtil;
+import vo.PersonVO;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * {@code UnitOfWork} 클래스는 여러 입력/수정/삭제를 하나의 트랜잭션으로 묶어 한 번에 커밋합니다.
+ * <p>
+ * 각 작업은 호출 즉시 데이터베이스에 실행되지만 커밋 전까지는 다른 사용자에게 보이지 않으며,
+ * 캐시와 변경 이벤트에는 {@link #commit()}이 성공한 뒤에만 반영됩니다.
+ * {@link #commit()} 없이 {@link #close()}되면 모든 작업이 롤백됩니다.
+ * <pre>
+ * try (UnitOfWork&lt;StudentVO&gt; work = StudentDAO.getInstance().begin()) {
+ *     work.update(a);
+ *     work.delete("2024002");
+ *     work.commit();
+ * }
+ * </pre>
+ * <b>여러 샤드에 걸친 작업 단위는 원자적이지 않습니다.</b> 샤드마다 연결 하나를 열어 두고 커밋 시 샤드 번호 순서대로 커밋하므로,
+ * 원자성은 샤드 안에서만 보장됩니다. 중간 샤드의 커밋이 실패하면 앞 샤드의 작업은 이미 반영된 채 남고 뒤 샤드의 작업은 롤백됩니다.
+ * 이때 {@link #commit()}은 작업한 모든 키를 캐시에서 내리고, 커밋된 샤드의 작업만 변경 이벤트로 발행한 뒤 예외를 던집니다.
+ *
+ * @param <T> 관리 대상 VO 타입
+ */
+public class UnitOfWork<T extends PersonVO> implements AutoCloseable {
+    private final AbstractDAO<T> dao;
+
+    /** 샤드 번호별로 트랜잭션이 열린 연결 */
+    private final Map<Integer, Connection> connections = new TreeMap<>();
+
+    /** 샤드 번호별로 커밋 후 캐시와 변경 이벤트에 반영할 작업 */
+    private final Map<Integer, List<Runnable>> applied = new TreeMap<>();
+
+    /** 작업한 식별 번호 (커밋이 중간에 실패하면 캐시에서 내림) */
+    private final List<String> touched = new ArrayList<>();
+
+    /** 커밋을 마친 샤드 */
+    private final Set<Integer> committed = new HashSet<>();
+
+    private boolean finished;
+
+    UnitOfWork(AbstractDAO<T> dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * 데이터를 추가합니다.
+     *
+     * @param vo 추가할 데이터
+     * @throws SQLException 문장 실행에 실패한 경우
+     */
+    public void input(T vo) throws SQLException {
+        if (dao.insertRow(connection(dao.keyOf(vo)), vo)) applied(dao.keyOf(vo), () -> dao.afterInsert(vo));
+    }
+
+    /**
+     * 데이터를 수정합니다.
+     *
+     * @param vo 수정할 데이터
+     * @return 수정되었으면 {@code true}, 해당 데이터가 없으면 {@code false}
+     * @throws OptimisticLockException 다른 사용자가 먼저 수정한 경우
+     * @throws SQLException            문장 실행에 실패한 경우
+     */
+    public boolean update(T vo) throws SQLException {
+        Connection conn = connection(dao.keyOf(vo));
+        T before = dao.hasSubscribers() ? dao.lockRow(conn, dao.keyOf(vo)) : null;
+        if (!dao.updateRow(conn, vo)) return false;
+
+        applied(dao.keyOf(vo), () -> dao.afterUpdate(before, vo));
+        return true;
+    }
+
+    /**
+     * 데이터를 삭제합니다.
+     *
+     * @param key 삭제할 데이터의 식별 번호
+     * @return 삭제되었으면 {@code true}
+     * @throws SQLException 문장 실행에 실패한 경우
+     */
+    public boolean delete(String key) throws SQLException {
+        Connection conn = connection(key);
+        T before = dao.hasSubscribers() ? dao.lockRow(conn, key) : null;
+        if (!dao.deleteRow(conn, key)) return false;
+
+        applied(key, () -> dao.afterDelete(key, before));
+        return true;
+    }
+
+    /**
+     * 모든 작업을 샤드 번호 순서대로 커밋하고 캐시와 변경 이벤트에 반영합니다.
+     *
+     * @throws SQLException 커밋에 실패한 경우. 그 앞 샤드는 이미 커밋되어 변경 이벤트가 발행되며,
+     *                      실패한 샤드와 뒤 샤드는 {@link #close()}에서 롤백됩니다. 작업한 키는 모두 캐시에서 내립니다.
+     */
+    public void commit() throws SQLException {
+        if (finished) throw new IllegalStateException("이미 종료된 작업 단위입니다.");
+        finished = true;
+
+        try {
+            for (Map.Entry<Integer, Connection> entry : connections.entrySet()) {
+                entry.getValue().commit();
+                committed.add(entry.getKey());
+            }
+        } catch (SQLException e) {
+            // 실패한 샤드는 커밋 응답을 받지 못했을 수도 있으므로 반영 여부를 알 수 없습니다.
+            for (String key : touched) dao.evict(key);
+            throw e;
+        } finally {
+            if (!committed.isEmpty()) DBUtil.markWritten();
+            for (Map.Entry<Integer, List<Runnable>> entry : applied.entrySet()) {
+                if (!committed.contains(entry.getKey())) continue;
+                for (Runnable apply : entry.getValue()) apply.run();
+            }
+        }
+    }
+
+    /**
+     * 커밋되지 않은 작업을 롤백하고 연결을 반납합니다.
+     * 롤백된 수정에 사용한 VO의 버전은 이미 올라가 있으므로, 다시 수정하려면 새로 조회해야 합니다.
+     */
+    @Override
+    public void close() {
+        for (Map.Entry<Integer, Connection> entry : connections.entrySet()) {
+            Connection conn = entry.getValue();
+            try {
+                if (!committed.contains(entry.getKey())) conn.rollback();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+            try {
+                conn.setAutoCommit(true);
+                conn.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        connections.clear();
+        finished = true;
+    }
+
+    /**
+     * 커밋 후 반영할 작업을 키가 속한 샤드에 등록합니다.
+     */
+    private void applied(String key, Runnable apply) {
+        touched.add(key);
+        applied.computeIfAbsent(dao.shardOf(key), k -> new ArrayList<>()).add(apply);
+    }
+
+    /**
+     * 키가 속한 샤드의 트랜잭션 연결을 반환합니다. 처음 사용하는 샤드면 연결을 열고 트랜잭션을 시작합니다.
+     */
+    private Connection connection(String key) throws SQLException {
+        if (finished) throw new IllegalStateException("이미 종료된 작업 단위입니다.");
+
+        int shard = dao.shardOf(key);
+        Connection conn = connections.get(shard);
+        if (conn == null) {
+            conn = dao.getConnection(shard);
+            conn.setAutoCommit(false);
+            connections.put(shard, conn);
+        }
+        return conn;
+    }
+}
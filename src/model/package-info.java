@@ -4,12 +4,35 @@
  * <p>
  * <strong>구성 요소:</strong>
  * <ul>
+ *     <li>{@link AbstractDAO} - 모든 DAO가 공유하는 기반 클래스로, 식별 번호 기준 크기 제한 캐시, 배치 입력, 공통 CRUD와 정렬을 제공합니다.</li>
+ *     <li>{@link AuditLog} - 변경 이벤트를 락 없는 큐로 받아 전용 스레드가 날짜/크기별 gzip 파일에 기록하는 감사 로그.</li>
+ *     <li>{@link ChangeEvent} - DAO를 통해 일어난 변경 한 건(종류, 식별 번호, 변경 전/후 값).</li>
+ *     <li>{@link ChangeListener} - 변경 이벤트 구독자 인터페이스.</li>
+ *     <li>{@link ChangeRingBuffer} - 쓰기 경로에서 락 없이 변경 이벤트를 발행하고 전달 스레드가 구독자에게 넘겨주는 링 버퍼.</li>
+ *     <li>{@link RowMapper} - 결과 집합의 한 행을 컬럼 인덱스로 읽어 VO로 변환하는 함수형 인터페이스.</li>
+ *     <li>{@link CurvedGrading} - 평균 분포의 석차 비율로 기준 점수를 정하는 상대평가 등급 정책.</li>
+ *     <li>{@link CutoffGrading} - 고정 기준 점수로 등급을 정하는 절대평가 정책 (A~F, A+~F).</li>
+ *     <li>{@link CohortAggregator} - 학번 구간(입학년도, 학과 등)이나 등급별 인원, 평균, 등급 분포를 GROUP BY 또는 병렬 수집기로 구하는 집계기.</li>
  *     <li>{@link DBCommon} - 데이터베이스와 상호작용하기 위한 공통 인터페이스로, 데이터를 입력, 수정, 삭제, 검색, 정렬하는 작업을 정의합니다.</li>
  *     <li>{@link Fulltime} - 정규직 직원 관리를 위한 인터페이스로, 월급 인상과 관련된 기능을 제공합니다.</li>
  *     <li>{@link FulltimeDAO} - 정규직 직원 데이터를 관리하는 DAO 클래스로, 데이터 추가, 삭제, 수정, 검색 및 월급 인상 로직이 포함됩니다.</li>
+ *     <li>{@link GradeKernel} - 과목별 기본형 배열로 전체 학생의 총점, 평균, 등급을 병렬 일괄 계산하는 커널.</li>
+ *     <li>{@link GradingPolicy} - 과목 가중치와 등급 기준을 정의하는 등급 정책 인터페이스.</li>
+ *     <li>{@link LoadGenerator} - 여러 동시 사용자의 작업 비율을 흉내 내어 처리량, 지연 시간 백분위수, 오류율을 측정하는 부하 생성기.</li>
+ *     <li>{@link OffHeapStudentStore} - 학생을 힙 밖 고정 크기 슬롯에 보관하고 조회 시에만 디코딩하는 CLOCK 교체 캐시.</li>
+ *     <li>{@link OptimisticLockException} - 수정하려는 데이터의 버전이 달라 덮어쓰지 않았음을 알리는 예외.</li>
  *     <li>{@link Parttime} - 시간제 직원 관리를 위한 인터페이스.</li>
  *     <li>{@link ParttimeDAO} - 시간제 직원 데이터를 관리하는 DAO 클래스로, 데이터 추가, 삭제, 수정 및 임금 계산 로직이 포함됩니다.</li>
+ *     <li>{@link PayrollEngine} - 근무 기록을 스트리밍으로 읽어 Fork/Join으로 시간제 직원 급여를 병렬 계산하고 배치로 기록하는 엔진.</li>
+ *     <li>{@link ReportCardGenerator} - 템플릿을 병렬로 채워 학생별 성적표(석차, 학급 통계 포함)를 파일 또는 zip으로 만드는 생성기.</li>
+ *     <li>{@link SchemaManager} - 시작 시 테이블, 총점 생성 컬럼, 정렬용 인덱스를 확인하고 없는 것만 만드는 스키마 관리자.</li>
+ *     <li>{@link ScoreHistory} - 학생별 학기 점수를 델타/varint로 인코딩해 보관하고, 변경 이벤트로 현재 학기 항목을 갱신해 배치로 저장하는 성적 이력.</li>
  *     <li>{@link Student} - 학생 관리를 위한 인터페이스로, 총점 계산, 평균 계산, 등급 계산 기능을 제공합니다.</li>
+ *     <li>{@link StudentExporter} - 학생 테이블을 스트리밍 커서에서 바로 CSV/JSON Lines(선택적 gzip) 파일로 내보내는 클래스.</li>
+ *     <li>{@link StudentImporter} - 메모리 매핑 청크 읽기, 병렬 파싱/검증, 배치 기록 단계로 구성된 CSV 가져오기 파이프라인.</li>
+ *     <li>{@link UnitOfWork} - 여러 입력/수정/삭제를 하나의 트랜잭션과 한 번의 커밋으로 묶는 작업 단위.</li>
+ *     <li>{@link StudentStatsView} - 변경 이벤트로 등급별 인원과 과목별 평균을 증분 갱신하는 집계 뷰.</li>
+ *     <li>{@link StudentBitmapIndex} - 과목별 점수 구간과 등급의 압축 비트맵으로 여러 조건의 학생 검색을 처리하는 인덱스.</li>
  *     <li>{@link StudentDAO} - 학생 데이터를 관리하는 DAO 클래스로, 데이터 추가, 삭제, 수정, 검색 및 학업 성적 계산 로직이 포함됩니다.</li>
  * </ul>
  * </p>
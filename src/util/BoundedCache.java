@@ -0,0 +1,370 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code BoundedCache} 클래스는 항목 수가 제한된 W-TinyLFU 캐시입니다.
+ * <p>
+ * 새 항목은 작은 LRU 창(window, 전체의 1%)에 먼저 들어가고, 창에서 밀려난 항목은 주 영역(SLRU)의
+ * 수습(probation) 구간에서 가장 오래된 항목과 접근 빈도를 겨룹니다. 빈도는 4비트 count-min 스케치로 근사하며,
+ * 표본이 일정 수 쌓이면 모든 카운터를 절반으로 줄여 오래된 인기도가 사라지게 합니다.
+ * 덕분에 전체 조회처럼 한 번만 읽히는 대량의 항목이 자주 쓰이는 항목을 밀어내지 못합니다.
+ * {@code lru} 정책을 지정하면 빈도 비교와 보호 구간 승격 없이 창과 수습 구간이 하나의 LRU 목록처럼 동작합니다.
+ * <p>
+ * 만료 시간(TTL)을 지정하면 저장 후 그 시간이 지난 항목은 조회 시 없는 것으로 처리됩니다. 만료된 항목은 다시 저장되거나
+ * 교체될 때까지 남아 있어, 원본을 읽을 수 없을 때 {@link #peekStale(Object)}로 대신 내줄 수 있습니다.
+ * 모든 연산은 캐시 객체 하나의 락으로 직렬화되므로, 여러 연산을 묶어야 하는 호출자는 {@code synchronized (cache)}로
+ * 감쌀 수 있습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class BoundedCache<K, V> implements Cache<K, V> {
+    private static final int WINDOW = 0, PROBATION = 1, PROTECTED = 2;
+
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    private final Queue<K, V>[] queues;
+    private final FrequencySketch sketch;
+    private final boolean admission;
+    private final long ttlNanos;
+
+    private final int maxSize;
+    private final int windowMax;
+    private final int protectedMax;
+
+    private long hits, misses, evictions, expirations;
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param maxSize    최대 항목 수
+     * @param ttlSeconds 저장 후 만료 시간(초), 0이면 만료 없음
+     * @param policy     교체 정책 ({@code tinylfu} 또는 {@code lru})
+     */
+    public BoundedCache(int maxSize, long ttlSeconds, String policy) {
+        this.maxSize = Math.max(1, maxSize);
+        this.windowMax = Math.max(1, this.maxSize / 100);
+        this.protectedMax = (this.maxSize - windowMax) * 4 / 5;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.admission = !"lru".equalsIgnoreCase(policy);
+        this.sketch = new FrequencySketch(this.maxSize);
+        this.queues = newQueues(3);
+    }
+
+    /**
+     * 빈 큐 배열을 만듭니다. 제네릭 배열은 직접 만들 수 없으므로 와일드카드 배열을 만들어 변환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Queue<K, V>[] newQueues(int count) {
+        Queue<K, V>[] queues = (Queue<K, V>[]) new Queue<?, ?>[count];
+        for (int i = 0; i < count; i++) queues[i] = new Queue<>();
+        return queues;
+    }
+
+    /**
+     * {@code dbinfo.properties}의 {@code cache.*} 설정으로 캐시를 생성합니다.
+     *
+     * @param <K> 키 타입
+     * @param <V> 값 타입
+     * @return 새 캐시
+     */
+    public static <K, V> BoundedCache<K, V> fromProperties() {
+        return new BoundedCache<>(
+                Integer.parseInt(DBUtil.getProperty("cache.maxSize", "10000")),
+                Long.parseLong(DBUtil.getProperty("cache.ttlSeconds", "0")),
+                DBUtil.getProperty("cache.policy", "tinylfu"));
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        sketch.increment(key);
+
+        Node<K, V> node = live(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        onAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public synchronized V peek(K key) {
+        Node<K, V> node = live(key);
+        return (node == null) ? null : node.value;
+    }
+
+    @Override
+    public synchronized V peekStale(K key) {
+        Node<K, V> node = data.get(key);
+        return (node == null) ? null : node.value;
+    }
+
+    @Override
+    public synchronized V put(K key, V value) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            V old = node.value;
+            node.value = value;
+            node.written = System.nanoTime();
+            onAccess(node);
+            return old;
+        }
+
+        sketch.increment(key);
+        add(key, value);
+        return null;
+    }
+
+    @Override
+    public synchronized V putIfAbsent(K key, V value) {
+        Node<K, V> node = data.get(key);
+        if (node != null && !expired(node, System.nanoTime())) return node.value;
+
+        if (node != null) {
+            // 만료된 항목은 없는 것으로 보고 새 값으로 바꿉니다.
+            node.value = value;
+            node.written = System.nanoTime();
+            onAccess(node);
+        } else {
+            add(key, value);
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized V remove(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) return null;
+
+        queues[node.queue].unlink(node);
+        return node.value;
+    }
+
+    @Override
+    public synchronized List<V> values() {
+        List<V> values = new ArrayList<>(data.size());
+        long now = System.nanoTime();
+        for (Node<K, V> node : data.values()) {
+            if (!expired(node, now)) values.add(node.value);
+        }
+        return values;
+    }
+
+    @Override
+    public synchronized int size() {
+        return data.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        data.clear();
+        for (Queue<K, V> queue : queues) queue.clear();
+    }
+
+    @Override
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, expirations, data.size(), maxSize);
+    }
+
+    /**
+     * 만료되지 않은 노드를 찾습니다. 만료된 노드는 대체 값으로 쓸 수 있도록 남겨 둡니다.
+     */
+    private Node<K, V> live(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null || !expired(node, System.nanoTime())) return node;
+
+        expirations++;
+        return null;
+    }
+
+    private boolean expired(Node<K, V> node, long now) {
+        return ttlNanos > 0 && now - node.written >= ttlNanos;
+    }
+
+    /**
+     * 새 항목을 창에 넣고, 창이 넘치면 밀려난 항목을 주 영역에 들일지 결정합니다.
+     */
+    private void add(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        data.put(key, node);
+        queues[WINDOW].append(node, WINDOW);
+
+        if (queues[WINDOW].size <= windowMax) return;
+
+        Node<K, V> candidate = queues[WINDOW].head();
+        queues[WINDOW].unlink(candidate);
+        queues[PROBATION].append(candidate, PROBATION);
+
+        if (data.size() <= maxSize) return;
+
+        // 주 영역이 넘치면 수습 구간의 가장 오래된 항목(victim)과 새로 들어온 항목(candidate) 중 하나를 내보냅니다.
+        Node<K, V> victim = queues[PROBATION].head();
+        if (victim == candidate && queues[PROTECTED].size > 0) victim = queues[PROTECTED].head();
+
+        Node<K, V> evicted = victim;
+        if (admission && victim != candidate) {
+            int candidateFreq = sketch.frequency(candidate.key);
+            int victimFreq = sketch.frequency(victim.key);
+            // 빈도가 같을 때 가끔은 새 항목을 받아들여, 공격적인 패턴에 캐시가 고정되지 않게 합니다.
+            if (candidateFreq < victimFreq
+                    || (candidateFreq == victimFreq && ThreadLocalRandom.current().nextInt(8) != 0)) {
+                evicted = candidate;
+            }
+        }
+
+        data.remove(evicted.key);
+        queues[evicted.queue].unlink(evicted);
+        evictions++;
+    }
+
+    /**
+     * 접근된 항목의 위치를 갱신합니다. 수습 구간에서 다시 접근된 항목은 보호 구간으로 승격됩니다.
+     */
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+            case PROTECTED:
+                queues[node.queue].moveToTail(node);
+                break;
+            case PROBATION:
+                if (!admission) {
+                    queues[PROBATION].moveToTail(node);
+                    break;
+                }
+                queues[PROBATION].unlink(node);
+                queues[PROTECTED].append(node, PROTECTED);
+                if (queues[PROTECTED].size > protectedMax) {
+                    Node<K, V> demoted = queues[PROTECTED].head();
+                    queues[PROTECTED].unlink(demoted);
+                    queues[PROBATION].append(demoted, PROBATION);
+                }
+                break;
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static class Node<K, V> {
+        final K key;
+        V value;
+        long written = System.nanoTime();
+        int queue;
+        Node<K, V> prev, next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * 노드에 직접 연결 정보를 두는 이중 연결 리스트로, 가장 오래된 항목이 head입니다.
+     */
+    private static class Queue<K, V> {
+        private final Node<K, V> sentinel = new Node<>(null, null);
+        int size;
+
+        Queue() {
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+        }
+
+        Node<K, V> head() {
+            return sentinel.next == sentinel ? null : sentinel.next;
+        }
+
+        void append(Node<K, V> node, int queue) {
+            node.queue = queue;
+            node.prev = sentinel.prev;
+            node.next = sentinel;
+            sentinel.prev.next = node;
+            sentinel.prev = node;
+            size++;
+        }
+
+        void unlink(Node<K, V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToTail(Node<K, V> node) {
+            unlink(node);
+            append(node, node.queue);
+        }
+
+        void clear() {
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            size = 0;
+        }
+    }
+
+    /**
+     * 4비트 카운터 네 줄로 이루어진 count-min 스케치입니다.
+     * 최근 접근 빈도를 근사하며, 표본 수가 캐시 크기의 10배에 이르면 모든 카운터를 절반으로 줄입니다.
+     */
+    private static class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int samples;
+
+        FrequencySketch(int maxSize) {
+            int width = Integer.highestOneBit(Math.max(16, maxSize - 1)) << 1;
+            this.table = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * maxSize;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < DEPTH; i++) min = Math.min(min, table[i][index(hash, i)]);
+            return min;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int min = frequency(key);
+            if (min >= 15) return;
+
+            // 최솟값인 카운터만 올리는 보수적 갱신으로 과대 추정을 줄입니다.
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                if (table[i][index] == min) table[i][index]++;
+            }
+            if (++samples >= sampleSize) reset();
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) row[i] >>= 1;
+            }
+            samples /= 2;
+        }
+
+        private int index(int hash, int row) {
+            int h = hash * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x45D9F3B;
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package util;
+
+import java.util.List;
+
+/**
+ * {@code Cache} 인터페이스는 DAO가 식별 번호로 데이터를 보관하는 캐시의 동작을 정의합니다.
+ * <p>
+ * 구현체는 스레드 안전해야 하며, 크기 제한이나 만료 때문에 넣은 값이 언제든 사라질 수 있습니다.
+ * 따라서 호출자는 {@link #get(Object)}이 {@code null}을 반환하면 원본(데이터베이스)에서 다시 읽어야 합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public interface Cache<K, V> {
+    /**
+     * 값을 조회합니다. 적중/실패 통계에 반영됩니다.
+     *
+     * @param key 키
+     * @return 값, 없거나 만료되었으면 {@code null}
+     */
+    V get(K key);
+
+    /**
+     * 통계와 교체 정책에 영향을 주지 않고 값을 조회합니다.
+     *
+     * @param key 키
+     * @return 값, 없거나 만료되었으면 {@code null}
+     */
+    V peek(K key);
+
+    /**
+     * 만료 여부와 관계없이 남아 있는 값을 조회합니다. 통계와 교체 정책에 영향을 주지 않습니다.
+     * 원본을 제한 시간 안에 읽지 못했을 때 오래된 값이라도 대신 내주기 위해 사용합니다.
+     *
+     * @param key 키
+     * @return 값, 없으면 {@code null}
+     */
+    V peekStale(K key);
+
+    /**
+     * 값을 저장합니다.
+     *
+     * @param key   키
+     * @param value 값
+     * @return 이전 값, 없었으면 {@code null}
+     */
+    V put(K key, V value);
+
+    /**
+     * 키가 없을 때만 값을 저장합니다.
+     *
+     * @param key   키
+     * @param value 값
+     * @return 이미 있던 값, 새로 저장했으면 {@code null}
+     */
+    V putIfAbsent(K key, V value);
+
+    /**
+     * 값을 제거합니다.
+     *
+     * @param key 키
+     * @return 제거된 값, 없었으면 {@code null}
+     */
+    V remove(K key);
+
+    /**
+     * @return 현재 보관 중인 값들의 복사본
+     */
+    List<V> values();
+
+    /**
+     * @return 현재 보관 중인 항목 수
+     */
+    int size();
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    void clear();
+
+    /**
+     * @return 적중률 등 누적 통계
+     */
+    CacheStats stats();
+}
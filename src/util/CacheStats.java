@@ -0,0 +1,60 @@
+package util;
+
+/**
+ * {@code CacheStats} 클래스는 캐시의 누적 통계 스냅숏입니다.
+ */
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final int size;
+    private final int maxSize;
+
+    public CacheStats(long hits, long misses, long evictions, long expirations, int size, int maxSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return 적중률 (조회가 없었으면 0)
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("캐시 %d/%d건, 적중률 %.1f%% (적중 %d, 실패 %d), 교체 %d, 만료 %d",
+                size, maxSize, hitRate() * 100, hits, misses, evictions, expirations);
+    }
+}
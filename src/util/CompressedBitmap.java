@@ -0,0 +1,332 @@
+package util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * {@code CompressedBitmap} 클래스는 음이 아닌 정수 집합을 압축하여 저장하는 비트맵입니다.
+ * <p>
+ * Roaring 비트맵과 같은 방식으로 값을 상위 16비트로 나눈 구간(container)에 담습니다.
+ * 값이 {@value #ARRAY_MAX}개 이하인 구간은 정렬된 {@code char[]}로, 그보다 많으면 65536비트 {@code long[]}로 저장하므로
+ * 희소한 집합과 조밀한 집합 모두 공간을 적게 쓰고, 교집합/합집합/차집합은 구간별 정렬 병합이나 워드 단위 비트 연산으로 계산합니다.
+ * 이 클래스는 스레드 안전하지 않습니다.
+ */
+public class CompressedBitmap {
+    /** 배열 구간이 담을 수 있는 최대 값 수 (이보다 많으면 비트 구간이 더 작음) */
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 추가할 값 (0 이상)
+     */
+    public void add(int value) {
+        char high = (char) (value >>> 16);
+        int i = Arrays.binarySearch(keys, 0, size, high);
+        if (i < 0) {
+            i = -i - 1;
+            insert(i, high, new Container());
+        }
+        containers[i].add((char) value);
+    }
+
+    /**
+     * 값을 제거합니다.
+     *
+     * @param value 제거할 값
+     */
+    public void remove(int value) {
+        int i = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        if (i < 0) return;
+
+        Container container = containers[i];
+        container.remove((char) value);
+        if (container.cardinality() == 0) delete(i);
+    }
+
+    /**
+     * @param value 확인할 값
+     * @return 값이 있으면 {@code true}
+     */
+    public boolean contains(int value) {
+        int i = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * @return 값의 개수
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) cardinality += containers[i].cardinality();
+        return cardinality;
+    }
+
+    /**
+     * 모든 값을 오름차순으로 전달합니다.
+     *
+     * @param action 값을 받을 함수
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) containers[i].forEach(keys[i] << 16, action);
+    }
+
+    /**
+     * @return 두 집합의 교집합
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) i++;
+            else if (a.keys[i] > b.keys[j]) j++;
+            else {
+                Container c = Container.and(a.containers[i], b.containers[j]);
+                if (c.cardinality() > 0) result.append(a.keys[i], c);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 두 집합의 합집합
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0, j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.append(a.keys[i], Container.or(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code a}에는 있고 {@code b}에는 없는 값의 집합
+     */
+    public static CompressedBitmap andNot(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) j++;
+            Container c = (j < b.size && b.keys[j] == a.keys[i])
+                    ? Container.andNot(a.containers[i], b.containers[j])
+                    : a.containers[i].copy();
+            if (c.cardinality() > 0) result.append(a.keys[i], c);
+        }
+        return result;
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void append(char key, Container container) {
+        insert(size, key, container);
+    }
+
+    private void delete(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * 상위 16비트가 같은 값들의 구간. 정렬된 배열 또는 비트 배열 중 하나로 저장합니다.
+     */
+    private static final class Container {
+        char[] array = new char[4];
+        int count;
+        long[] bits;
+
+        int cardinality() {
+            return count;
+        }
+
+        boolean contains(char value) {
+            if (bits != null) return (bits[value >>> 6] & (1L << value)) != 0;
+            return Arrays.binarySearch(array, 0, count, value) >= 0;
+        }
+
+        void add(char value) {
+            if (bits != null) {
+                long word = bits[value >>> 6];
+                long mask = 1L << value;
+                if ((word & mask) == 0) {
+                    bits[value >>> 6] = word | mask;
+                    count++;
+                }
+                return;
+            }
+
+            int i = Arrays.binarySearch(array, 0, count, value);
+            if (i >= 0) return;
+            if (count == ARRAY_MAX) {
+                toBits();
+                add(value);
+                return;
+            }
+
+            i = -i - 1;
+            if (count == array.length) array = Arrays.copyOf(array, Math.min(ARRAY_MAX, count * 2));
+            System.arraycopy(array, i, array, i + 1, count - i);
+            array[i] = value;
+            count++;
+        }
+
+        void remove(char value) {
+            if (bits != null) {
+                long word = bits[value >>> 6];
+                long mask = 1L << value;
+                if ((word & mask) != 0) {
+                    bits[value >>> 6] = word & ~mask;
+                    if (--count <= ARRAY_MAX / 2) toArray();
+                }
+                return;
+            }
+
+            int i = Arrays.binarySearch(array, 0, count, value);
+            if (i < 0) return;
+            System.arraycopy(array, i + 1, array, i, count - i - 1);
+            count--;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (bits == null) {
+                for (int i = 0; i < count; i++) action.accept(base | array[i]);
+                return;
+            }
+            for (int w = 0; w < WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        Container copy() {
+            Container c = new Container();
+            c.count = count;
+            if (bits != null) c.bits = bits.clone();
+            else c.array = Arrays.copyOf(array, Math.max(4, count));
+            return c;
+        }
+
+        /** 비트 배열로 변환합니다. 배열 구간이면 새 워드 배열을 만들고, 비트 구간이면 그대로 반환합니다. */
+        long[] words() {
+            if (bits != null) return bits;
+            long[] words = new long[WORDS];
+            for (int i = 0; i < count; i++) words[array[i] >>> 6] |= 1L << array[i];
+            return words;
+        }
+
+        private void toBits() {
+            bits = words();
+            array = null;
+        }
+
+        private void toArray() {
+            char[] values = new char[Math.max(4, count)];
+            int n = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    values[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            array = values;
+            bits = null;
+        }
+
+        /** 워드 배열로 계산한 결과를 값 수에 맞는 표현으로 만듭니다. */
+        static Container fromWords(long[] words) {
+            Container c = new Container();
+            for (long word : words) c.count += Long.bitCount(word);
+            c.bits = words;
+            c.array = null;
+            if (c.count <= ARRAY_MAX) c.toArray();
+            return c;
+        }
+
+        static Container and(Container a, Container b) {
+            if (a.bits != null && b.bits != null) {
+                long[] words = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) words[w] = a.bits[w] & b.bits[w];
+                return fromWords(words);
+            }
+            // 한쪽이라도 배열이면 배열의 값마다 다른 쪽 포함 여부를 확인합니다.
+            Container small = (a.bits == null) ? a : b;
+            Container other = (small == a) ? b : a;
+            Container c = new Container();
+            c.array = new char[Math.max(4, small.count)];
+            for (int i = 0; i < small.count; i++) {
+                if (other.contains(small.array[i])) c.array[c.count++] = small.array[i];
+            }
+            return c;
+        }
+
+        static Container or(Container a, Container b) {
+            if (a.bits == null && b.bits == null && a.count + b.count <= ARRAY_MAX) {
+                Container c = new Container();
+                c.array = new char[Math.max(4, a.count + b.count)];
+                int i = 0, j = 0;
+                while (i < a.count || j < b.count) {
+                    char v;
+                    if (j == b.count || (i < a.count && a.array[i] < b.array[j])) v = a.array[i++];
+                    else if (i == a.count || a.array[i] > b.array[j]) v = b.array[j++];
+                    else {
+                        v = a.array[i++];
+                        j++;
+                    }
+                    c.array[c.count++] = v;
+                }
+                return c;
+            }
+            long[] words = a.words().clone();
+            long[] other = b.words();
+            for (int w = 0; w < WORDS; w++) words[w] |= other[w];
+            return fromWords(words);
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a.bits == null) {
+                Container c = new Container();
+                c.array = new char[Math.max(4, a.count)];
+                for (int i = 0; i < a.count; i++) {
+                    if (!b.contains(a.array[i])) c.array[c.count++] = a.array[i];
+                }
+                return c;
+            }
+            long[] words = a.bits.clone();
+            long[] other = b.words();
+            for (int w = 0; w < WORDS; w++) words[w] &= ~other[w];
+            return fromWords(words);
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ConnectionPool} 클래스는 하나의 데이터베이스 URL에 대한 물리 연결을 재사용하는 연결 풀입니다.
+ * <p>
+ * 풀에서 빌려준 연결의 {@code close()}는 물리 연결을 닫지 않고 풀로 반납합니다.
+ * 또한 물리 연결마다 SQL 문자열을 키로 하는 LRU {@link PreparedStatement} 캐시를 두어,
+ * 같은 SQL을 다시 준비할 때 파싱/실행 계획 수립 없이 기존 문장 객체를 재사용합니다.
+ * 캐시된 문장의 {@code close()}는 파라미터만 초기화하고 문장을 캐시에 되돌립니다.
+ * <p>
+ * 연결 대기와 문장 실행에는 제한 시간이 있습니다. 연결은 최대 {@code acquireTimeoutMillis} 동안만 기다리고,
+ * 문장은 {@code queryTimeoutSeconds}를 JDBC 질의 제한 시간으로 실행합니다. 현재 스레드에 {@link LatencyBudget}이
+ * 있으면 두 제한 모두 남은 예산으로 줄어들며, 예산이 끝날 때까지 끝나지 않은 질의는 감시 스레드가 취소합니다.
+ * 제한 시간을 넘기면 {@link SQLTimeoutException}이 발생합니다.
+ */
+public class ConnectionPool {
+    private final String url;
+    private final Properties info;
+    private final int maxSize;
+    private final int statementCacheSize;
+    private final long acquireTimeoutMillis;
+    private final int queryTimeoutSeconds;
+
+    /** 예산을 넘긴 질의를 취소하는 감시 스레드 (모든 풀이 공유) */
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "query-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 반납되어 대기 중인 물리 연결 */
+    private final Deque<PhysicalConnection> idle = new ArrayDeque<>();
+
+    /** 풀이 생성한 물리 연결 수 */
+    private int created;
+
+    /** 현재 빌려준 연결 수 */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * 연결 풀을 생성합니다.
+     *
+     * @param url                  데이터베이스 URL
+     * @param user                 사용자
+     * @param password             비밀번호
+     * @param maxSize              최대 물리 연결 수
+     * @param statementCacheSize   연결당 캐시할 최대 문장 수
+     * @param serverPrepare        드라이버의 서버 측 prepare 사용 여부
+     * @param acquireTimeoutMillis 연결을 기다리는 최대 시간(밀리초, 새 물리 연결의 접속 제한 시간으로도 사용)
+     * @param queryTimeoutSeconds  문장 실행 제한 시간(초), 0이면 제한 없음
+     */
+    public ConnectionPool(String url, String user, String password,
+                          int maxSize, int statementCacheSize, boolean serverPrepare,
+                          long acquireTimeoutMillis, int queryTimeoutSeconds) {
+        this.url = url;
+        this.maxSize = maxSize;
+        this.statementCacheSize = statementCacheSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+
+        this.info = new Properties();
+        info.setProperty("user", user);
+        info.setProperty("password", password);
+        // MySQL Connector/J: 서버 측 prepare를 사용하면 재사용되는 문장은 실행 시 파라미터만 전송합니다.
+        info.setProperty("useServerPrepStmts", String.valueOf(serverPrepare));
+        // 배치로 모은 INSERT를 다중 행 문장 하나로 재작성하여 왕복 횟수를 줄입니다.
+        info.setProperty("rewriteBatchedStatements", "true");
+        // 응답하지 않는 서버에 접속하느라 연결 대기 시간을 넘기지 않도록 합니다.
+        info.setProperty("connectTimeout", String.valueOf(acquireTimeoutMillis));
+    }
+
+    /**
+     * 풀에서 연결을 빌려옵니다. 대기 중인 연결이 없고 최대 수에 도달했다면 반납될 때까지 기다리되,
+     * 연결 대기 제한 시간과 현재 스레드의 남은 예산 중 짧은 시간까지만 기다립니다.
+     *
+     * @return 논리 연결 객체, {@code close()} 시 풀로 반납됩니다
+     * @throws SQLTimeoutException 제한 시간 안에 연결을 얻지 못한 경우
+     * @throws SQLException        물리 연결 생성에 실패한 경우
+     */
+    public Connection getConnection() throws SQLException {
+        PhysicalConnection physical = null;
+        long waitMillis = Math.min(acquireTimeoutMillis > 0 ? acquireTimeoutMillis : Long.MAX_VALUE,
+                LatencyBudget.remainingMillis());
+        if (waitMillis <= 0) throw new SQLTimeoutException("지연 시간 예산 초과: 연결을 기다리지 않았습니다.");
+        boolean unbounded = (waitMillis == Long.MAX_VALUE);
+        long deadline = System.nanoTime() + (unbounded ? 0 : waitMillis * 1_000_000L);
+
+        synchronized (this) {
+            while (physical == null) {
+                physical = idle.pollFirst();
+                if (physical != null && physical.conn.isClosed()) {
+                    created--;
+                    physical = null;
+                    continue;
+                }
+                if (physical == null) {
+                    if (created < maxSize) {
+                        created++;
+                        break;
+                    }
+                    try {
+                        if (unbounded) {
+                            wait();
+                        } else {
+                            long remaining = (deadline - System.nanoTime()) / 1_000_000L;
+                            if (remaining <= 0) {
+                                throw new SQLTimeoutException("연결 대기 시간 초과 (" + waitMillis + "ms, 사용 중 "
+                                        + active.get() + "/" + maxSize + ")");
+                            }
+                            wait(remaining);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("연결 대기 중 인터럽트", e);
+                    }
+                }
+            }
+        }
+
+        if (physical == null) {
+            try {
+                physical = new PhysicalConnection(DriverManager.getConnection(url, info));
+            } catch (SQLException e) {
+                synchronized (this) {
+                    created--;
+                    notifyAll();
+                }
+                throw e;
+            }
+        }
+
+        active.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new LogicalConnection(physical));
+    }
+
+    /**
+     * 풀을 거치지 않는 새 물리 연결을 엽니다. 접속 설정은 풀의 연결과 같지만 문장 제한 시간과 지연 시간 예산이 적용되지 않으며,
+     * 호출자가 직접 닫아야 합니다.
+     *
+     * @return 물리 연결
+     * @throws SQLException 접속에 실패한 경우
+     */
+    public Connection openDirect() throws SQLException {
+        return DriverManager.getConnection(url, info);
+    }
+
+    /**
+     * 현재 빌려준(사용 중인) 연결 수를 반환합니다.
+     *
+     * @return 사용 중인 연결 수
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * 물리 연결을 풀로 반납합니다.
+     *
+     * @param physical 반납할 물리 연결
+     */
+    private void release(PhysicalConnection physical) {
+        active.decrementAndGet();
+        try {
+            if (!physical.conn.getAutoCommit()) {
+                physical.conn.rollback();
+                physical.conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            physical.closeQuietly();
+        }
+
+        synchronized (this) {
+            if (physical.isClosed()) created--;
+            else idle.addFirst(physical);
+            notifyAll();
+        }
+    }
+
+    /**
+     * 리플렉션 호출을 수행하고, 원본 메서드가 던진 예외를 그대로 전달합니다.
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 문장의 {@code execute*} 호출을 제한 시간 안에서 실행합니다.
+     * <p>
+     * 현재 스레드에 예산이 없으면 {@code queryTimeoutSeconds}만 지정합니다. 예산이 있으면 남은 시간(초 단위 올림)을
+     * 질의 제한 시간으로 지정하고, 드라이버의 초 단위 제한보다 먼저 남은 시간(밀리초)이 지나면 감시 스레드가 문장을 취소합니다.
+     */
+    private Object execute(Statement target, Method method, Object[] args) throws Throwable {
+        long remaining = LatencyBudget.remainingMillis();
+        if (remaining == Long.MAX_VALUE) {
+            target.setQueryTimeout(queryTimeoutSeconds);
+            return invoke(target, method, args);
+        }
+        if (remaining <= 0) throw new SQLTimeoutException("지연 시간 예산 초과: 문장을 실행하지 않았습니다.");
+
+        int seconds = (int) Math.min(Integer.MAX_VALUE, (remaining + 999) / 1000);
+        target.setQueryTimeout(queryTimeoutSeconds > 0 ? Math.min(seconds, queryTimeoutSeconds) : seconds);
+
+        // 0: 실행 중, 1: 끝남, 2: 취소함 (끝난 뒤에는 취소하지 않아 같은 연결의 다음 문장에 영향이 없게 합니다)
+        AtomicInteger state = new AtomicInteger();
+        ScheduledFuture<?> watchdog = WATCHDOG.schedule(() -> {
+            if (!state.compareAndSet(0, 2)) return;
+            try {
+                target.cancel();
+            } catch (SQLException e) {
+                // 취소하지 못하면 드라이버의 질의 제한 시간에 맡깁니다.
+            }
+        }, remaining, TimeUnit.MILLISECONDS);
+        try {
+            return invoke(target, method, args);
+        } catch (SQLException e) {
+            if (state.get() == 2) throw new SQLTimeoutException("지연 시간 예산 초과: 질의를 취소했습니다 (" + remaining + "ms)", e);
+            throw e;
+        } finally {
+            state.compareAndSet(0, 1);
+            watchdog.cancel(false);
+        }
+    }
+
+    /**
+     * 물리 연결과 그 연결에 묶인 문장 캐시입니다.
+     */
+    private class PhysicalConnection {
+        final Connection conn;
+
+        /** SQL 문자열을 키로 하는 접근 순서 기반 LRU 캐시 (순회하면 가장 오래 쓰지 않은 문장부터 나옴) */
+        final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+        PhysicalConnection(Connection conn) {
+            this.conn = conn;
+        }
+
+        boolean isClosed() {
+            try {
+                return conn.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+
+        void closeQuietly() {
+            for (CachedStatement cached : statements.values()) cached.closePhysical();
+            statements.clear();
+            try { conn.close(); } catch (SQLException e) {}
+        }
+
+        /**
+         * 캐시에서 문장을 꺼내거나 새로 준비합니다.
+         * 같은 SQL의 문장이 이미 사용 중이면 캐시하지 않는 일회용 문장을 반환합니다.
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            CachedStatement cached = statements.get(sql);
+            if (cached == null) {
+                cached = new CachedStatement(conn.prepareStatement(sql));
+                statements.put(sql, cached);
+                evictIdle();
+            } else if (cached.inUse) {
+                return timed(conn.prepareStatement(sql), PreparedStatement.class);
+            }
+            cached.inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, cached);
+        }
+
+        /**
+         * 캐시가 최대 크기를 넘으면 가장 오래 쓰지 않은 유휴 문장부터 닫습니다.
+         * 사용 중인 문장은 닫을 수 없으므로 건너뛰고 그다음으로 오래된 유휴 문장을 닫습니다.
+         */
+        void evictIdle() {
+            Iterator<CachedStatement> it = statements.values().iterator();
+            while (statements.size() > statementCacheSize && it.hasNext()) {
+                CachedStatement cached = it.next();
+                if (cached.inUse) continue;
+                cached.closePhysical();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * 캐시하지 않는 문장의 {@code execute*} 호출에 제한 시간을 적용하는 프록시를 만듭니다.
+     */
+    private <S extends Statement> S timed(S target, Class<S> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                method.getName().startsWith("execute") ? execute(target, method, args) : invoke(target, method, args)));
+    }
+
+    /**
+     * 캐시된 문장에 대한 호출을 처리하며, {@code close()}를 캐시 반납으로 바꿉니다.
+     */
+    private class CachedStatement implements InvocationHandler {
+        final PreparedStatement target;
+        boolean inUse;
+
+        /** 이번 사용 중에 열린 결과 집합 (반납 시 닫음) */
+        ResultSet lastResult;
+
+        /** 이번 사용 중에 가져오기 크기, 최대 행 수 등 문장 설정이 바뀌었는지 여부 (반납 시 처음 값으로 되돌림) */
+        boolean reconfigured;
+
+        /** 준비 직후의 문장 설정 */
+        final int fetchSize, fetchDirection, maxRows, maxFieldSize;
+
+        CachedStatement(PreparedStatement target) throws SQLException {
+            this.target = target;
+            this.fetchSize = target.getFetchSize();
+            this.fetchDirection = target.getFetchDirection();
+            this.maxRows = target.getMaxRows();
+            this.maxFieldSize = target.getMaxFieldSize();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (inUse) {
+                        try { if (lastResult != null) lastResult.close(); } catch (SQLException e) {}
+                        lastResult = null;
+                        target.clearParameters();
+                        target.clearBatch();
+                        if (reconfigured) {
+                            // 스트리밍용 setFetchSize(Integer.MIN_VALUE) 등이 다음 사용자에게 넘어가지 않게 합니다.
+                            target.setFetchSize(fetchSize);
+                            target.setFetchDirection(fetchDirection);
+                            target.setMaxRows(maxRows);
+                            target.setMaxFieldSize(maxFieldSize);
+                            reconfigured = false;
+                        }
+                        inUse = false;
+                    }
+                    return null;
+                case "isClosed":
+                    return !inUse || target.isClosed();
+                case "executeQuery":
+                    lastResult = (ResultSet) execute(target, method, args);
+                    return lastResult;
+                case "setFetchSize":
+                case "setFetchDirection":
+                case "setMaxRows":
+                case "setLargeMaxRows":
+                case "setMaxFieldSize":
+                    reconfigured = true;
+                    return ConnectionPool.invoke(target, method, args);
+                default:
+                    if (method.getName().startsWith("execute")) return execute(target, method, args);
+                    return ConnectionPool.invoke(target, method, args);
+            }
+        }
+
+        void closePhysical() {
+            try { target.close(); } catch (SQLException e) {}
+        }
+    }
+
+    /**
+     * 풀에서 빌려준 논리 연결에 대한 호출을 처리합니다.
+     */
+    private class LogicalConnection implements InvocationHandler {
+        private PhysicalConnection physical;
+
+        LogicalConnection(PhysicalConnection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.equals("close")) {
+                if (physical != null) {
+                    PhysicalConnection returned = physical;
+                    physical = null;
+                    release(returned);
+                }
+                return null;
+            }
+            if (name.equals("isClosed")) return physical == null || physical.isClosed();
+            if (physical == null) throw new SQLException("이미 반납된 연결입니다.");
+
+            if (name.equals("prepareStatement") && args.length == 1) {
+                return physical.prepare((String) args[0]);
+            }
+            if (name.equals("prepareStatement")) {
+                return timed((PreparedStatement) ConnectionPool.invoke(physical.conn, method, args), PreparedStatement.class);
+            }
+            if (name.equals("createStatement")) {
+                return timed((Statement) ConnectionPool.invoke(physical.conn, method, args), Statement.class);
+            }
+            return ConnectionPool.invoke(physical.conn, method, args);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code DBUtil} 클래스는 데이터베이스 연결을 관리하기 위한 유틸리티 클래스입니다.
@@ -13,32 +16,238 @@ public class DBUtil {
     /** 데이터베이스 정보가 포함된 ResourceBundle 객체 */
      private static ResourceBundle bundle;
 
+    /** SQL 실행 추적 여부 */
+    private static boolean trace;
+
+    /** 샤드별 연결 풀 (0번 샤드는 기본 {@code url}) */
+    private static ConnectionPool[] pools;
+
+    /** 샤드별 읽기 전용 복제본 연결 풀 */
+    private static ConnectionPool[][] replicas;
+
+    /** 샤드별 round-robin 복제본 선택 위치 */
+    private static AtomicInteger[] replicaCursor;
+
+    /** 복제본 선택 방식 ({@code round-robin} 또는 {@code least-busy}) */
+    private static String replicaSelection;
+
+    /** 쓰기 후 이 시간(나노초) 동안은 같은 스레드의 읽기를 주 서버로 보냅니다 */
+    private static long stickyNanos;
+
+    /** 스레드(세션)별 마지막 쓰기 시각, 쓰기 이력이 없으면 0 */
+    private static final ThreadLocal<long[]> lastWrite = ThreadLocal.withInitial(() -> new long[1]);
+
+    /** 샤드 키 분배 방식 ({@code hash} 또는 {@code range}) */
+    private static String shardStrategy;
+
+    /** range 방식일 때 각 샤드의 상한 키 (샤드 i는 {@code bounds[i]} 미만의 키를 담당) */
+    private static String[] shardBounds;
+
     static {
         bundle = ResourceBundle.getBundle("util.dbinfo");
 
         try {
-            Class.forName(bundle.getString("driver"));
+            Class.forName(getProperty("driver", null));
         } catch (ClassNotFoundException e) {
             System.out.println("드라이버 로딩 실패");
             e.printStackTrace();
         }
 
+        trace = Boolean.parseBoolean(getProperty("trace.enabled", "false"));
+
+        int shardCount = Integer.parseInt(getProperty("shard.count", "1"));
+        pools = new ConnectionPool[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            pools[i] = newPool(getProperty("shard." + i + ".url", getProperty("url", null)), i);
+        }
+
+        replicas = new ConnectionPool[shardCount][];
+        replicaCursor = new AtomicInteger[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            String urls = getProperty("shard." + i + ".replicas", i == 0 ? getProperty("replicas", "") : "");
+            String[] list = urls.isEmpty() ? new String[0] : urls.split("\\s*,\\s*");
+            replicas[i] = new ConnectionPool[list.length];
+            for (int r = 0; r < list.length; r++) replicas[i][r] = newPool(list[r], i);
+            replicaCursor[i] = new AtomicInteger();
+        }
+        replicaSelection = getProperty("replica.selection", "round-robin");
+        stickyNanos = Long.parseLong(getProperty("replica.stickyMillis", "2000")) * 1_000_000L;
+
+        shardStrategy = getProperty("shard.strategy", "hash");
+        String bounds = getProperty("shard.range.bounds", "");
+        shardBounds = bounds.isEmpty() ? new String[0] : bounds.split("\\s*,\\s*");
+    }
+
+    /**
+     * {@code pool.*} 설정으로 샤드의 주 서버나 복제본 연결 풀을 만듭니다.
+     *
+     * @param url   데이터베이스 URL
+     * @param shard 샤드 번호 (사용자/비밀번호 설정에 사용)
+     * @return 연결 풀
+     */
+    private static ConnectionPool newPool(String url, int shard) {
+        return new ConnectionPool(url,
+                getProperty("shard." + shard + ".user", getProperty("user", null)),
+                getProperty("shard." + shard + ".password", getProperty("password", null)),
+                Integer.parseInt(getProperty("pool.maxSize", "10")),
+                Integer.parseInt(getProperty("pool.statementCacheSize", "32")),
+                Boolean.parseBoolean(getProperty("pool.serverPrepare", "true")),
+                Long.parseLong(getProperty("pool.acquireTimeoutMillis", "2000")),
+                Integer.parseInt(getProperty("statement.timeoutSeconds", "30")));
+    }
+
+    /**
+     * 설정 파일에서 값을 읽어오는 메서드입니다.
+     * 같은 이름의 시스템 속성({@code -Dkey=value})이 있으면 그 값을 우선하므로,
+     * 부하 테스트처럼 설정 파일을 고치지 않고 다른 데이터베이스로 연결할 수 있습니다.
+     *
+     * @param key          설정 키
+     * @param defaultValue 설정이 없을 때 사용할 기본값
+     * @return 설정 값, 없으면 {@code defaultValue}
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String override = System.getProperty(key);
+        if (override != null) return override.trim();
+
+        try {
+            return bundle.getString(key).trim();
+        } catch (MissingResourceException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 설정된 샤드 수를 반환합니다.
+     *
+     * @return 샤드 수 (샤딩을 사용하지 않으면 1)
+     */
+    public static int getShardCount() {
+        return pools.length;
+    }
+
+    /**
+     * 샤드 키가 저장되는 샤드 번호를 계산합니다.
+     * <p>
+     * {@code hash} 방식은 키의 해시값으로 고르게 분산하고,
+     * {@code range} 방식은 {@code shard.range.bounds}에 나열된 상한 키와 문자열 비교로 샤드를 고릅니다.
+     *
+     * @param key 샤드 키 (학번 등)
+     * @return 샤드 번호
+     */
+    public static int shardOf(String key) {
+        if (pools.length == 1) return 0;
+
+        if (shardStrategy.equals("range")) {
+            for (int i = 0; i < shardBounds.length && i < pools.length - 1; i++) {
+                if (key.compareTo(shardBounds[i]) < 0) return i;
+            }
+            return pools.length - 1;
+        }
+        return (key.hashCode() & 0x7fffffff) % pools.length;
+    }
+
+    /**
+     * 기본(0번) 샤드의 데이터베이스 연결 객체를 반환하는 메서드입니다.
+     *
+     * @return 데이터베이스 연결 객체(Connection)
+     * @throws SQLException 연결을 얻지 못한 경우 ({@link #getConnection(int)} 참고)
+     */
+    public static Connection getConnection() throws SQLException {
+        return getConnection(0);
+    }
+
+    /**
+     * 지정한 샤드의 주(primary) 데이터베이스 연결 객체를 반환하는 메서드입니다.
+     * 쓰기 작업과, 방금 쓴 데이터를 반드시 읽어야 하는 작업에 사용합니다.
+     * <p>
+     * 연결은 {@link ConnectionPool}에서 빌려오며, {@code close()}하면 풀로 반납됩니다.
+     * {@code trace.enabled}가 설정된 경우, 모든 SQL 실행 시간을 측정하는 {@link SqlTracer} 프록시로 감싸서 반환합니다.
+     * 풀이 가득 차 있으면 {@code pool.acquireTimeoutMillis}와 현재 스레드의 {@link LatencyBudget} 중 짧은 시간까지만 기다립니다.
+     *
+     * @param shard 샤드 번호
+     * @return 데이터베이스 연결 객체(Connection)
+     * @throws java.sql.SQLTimeoutException 대기 시간이나 지연 시간 예산 안에 연결을 얻지 못한 경우
+     * @throws SQLTransientConnectionException 데이터베이스에 연결하지 못한 경우
+     */
+    public static Connection getConnection(int shard) throws SQLException {
+        return borrow(pools[shard]);
+    }
+
+    /**
+     * 연결 풀을 거치지 않고 샤드의 주 서버에 직접 연결합니다.
+     * {@code statement.timeoutSeconds}와 지연 시간 예산이 적용되지 않으므로, 테이블을 다시 만드는 DDL처럼
+     * 오래 걸릴 수 있는 작업에 사용합니다. 사용한 뒤에는 반드시 닫아야 합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 데이터베이스 연결 객체(Connection)
+     * @throws SQLException 연결에 실패한 경우
+     */
+    public static Connection getDirectConnection(int shard) throws SQLException {
+        return pools[shard].openDirect();
+    }
+
+    /**
+     * 지정한 샤드의 읽기용 연결 객체를 반환하는 메서드입니다.
+     * <p>
+     * 복제본이 설정되어 있으면 {@code replica.selection}에 따라 round-robin 또는 사용 중인 연결이 가장 적은
+     * 복제본을 고릅니다. 단, 현재 스레드가 {@code replica.stickyMillis} 이내에 쓰기를 했다면
+     * 복제 지연으로 자신이 쓴 데이터를 못 읽는 일이 없도록 주 서버 연결을 반환합니다.
+     * 복제본 연결에 실패한 경우에도 주 서버 연결을 반환합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 데이터베이스 연결 객체(Connection)
+     * @throws SQLException 주 서버 연결도 얻지 못한 경우 ({@link #getConnection(int)} 참고)
+     */
+    public static Connection getReadConnection(int shard) throws SQLException {
+        ConnectionPool[] candidates = replicas[shard];
+        long written = lastWrite.get()[0];
+        if (candidates.length == 0 || (written != 0 && System.nanoTime() - written < stickyNanos)) {
+            return getConnection(shard);
+        }
+
+        ConnectionPool replica;
+        if (replicaSelection.equals("least-busy")) {
+            replica = candidates[0];
+            for (ConnectionPool candidate : candidates) {
+                if (candidate.getActiveCount() < replica.getActiveCount()) replica = candidate;
+            }
+        } else {
+            replica = candidates[Math.floorMod(replicaCursor[shard].getAndIncrement(), candidates.length)];
+        }
+
+        try {
+            return borrow(replica);
+        } catch (SQLException e) {
+            return getConnection(shard);
+        }
+    }
+
+    /**
+     * 현재 스레드(세션)가 방금 쓰기를 완료했음을 기록합니다.
+     * 이후 {@code replica.stickyMillis} 동안 이 스레드의 읽기는 주 서버로 전달됩니다.
+     */
+    public static void markWritten() {
+        lastWrite.get()[0] = System.nanoTime();
     }
 
     /**
-     * 데이터베이스 연결 객체를 반환하는 메서드입니다.
+     * 풀에서 연결을 빌려오고, 추적이 설정되어 있으면 추적 프록시로 감쌉니다.
+     * 대기 시간 초과({@link java.sql.SQLTimeoutException})는 그대로 전달하고, 물리 연결 생성 실패는
+     * {@link SQLTransientConnectionException}으로 감싸 호출자가 재시도나 캐시 응답으로 처리할 수 있게 합니다.
      *
-     * @return 데이터베이스 연결 객체(Connection), 연결 실패 시 {@code null} 반환
+     * @param pool 연결을 빌려올 풀
+     * @return 데이터베이스 연결 객체(Connection)
+     * @throws SQLException 연결을 얻지 못한 경우
      */
-    public static Connection getConnection() {
+    private static Connection borrow(ConnectionPool pool) throws SQLException {
+        Connection conn;
         try {
-            return DriverManager.getConnection(
-                    bundle.getString("url"),
-                    bundle.getString("user"),
-                    bundle.getString("password"));
+            conn = pool.getConnection();
+        } catch (SQLTransientException e) {
+            throw e;
         } catch (SQLException e) {
-            System.out.println("연결 실패");
-            return null;
+            throw new SQLTransientConnectionException("연결 실패: " + e.getMessage(), e.getSQLState(), e);
         }
+        return trace ? SqlTracer.wrap(conn) : conn;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,321 @@
+package util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MulticastSocket;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code InvalidationBus} 클래스는 같은 데이터베이스를 쓰는 여러 프로그램 인스턴스 사이에 변경된 키를 UDP로 알려,
+ * 각 인스턴스의 DAO 캐시에서 오래된 항목을 지우게 하는 무효화 채널입니다.
+ * <p>
+ * 커밋 후 {@link #invalidate(String, String)}로 넘겨진 키는 채널(DAO)별 집합에 모였다가,
+ * 송신 스레드가 {@code invalidation.coalesceMillis}마다 한 번에 데이터그램으로 보냅니다. 같은 키가 여러 번 바뀌어도 한 번만 전송되고,
+ * 한 주기에 너무 많은 키가 모이면 키 대신 "채널 전체 무효화"를 보냅니다.
+ * <p>
+ * UDP는 유실될 수 있으므로 데이터그램마다 인스턴스별 순번을 붙이고, 주기적으로 마지막 순번을 알리는 하트비트를 보냅니다.
+ * 수신 측은 순번이 건너뛴 것을 발견하면 어떤 키를 놓쳤는지 알 수 없으므로 등록된 모든 캐시를 비우고(resync) 다시 읽게 합니다.
+ * <p>
+ * 기본은 멀티캐스트 그룹({@code invalidation.group}:{@code invalidation.port})을 사용하고,
+ * {@code invalidation.peers}에 {@code host:port} 목록을 지정하면 각 상대에게 직접(unicast) 보냅니다.
+ * 한 컴퓨터에서 시험할 때는 인스턴스마다 {@code -Dinvalidation.port}를 다르게 주고 서로를 peers로 지정하면 됩니다.
+ * {@code invalidation.enabled = false}(기본값)이면 아무 일도 하지 않습니다.
+ */
+public class InvalidationBus {
+    private static final int MAGIC = 0x49564C31;
+    private static final byte KEYS = 0, CLEAR = 1, HEARTBEAT = 2;
+
+    /** 데이터그램 하나의 최대 크기 (일반적인 MTU 안쪽) */
+    private static final int MAX_DATAGRAM = 1400;
+
+    /** 한 주기에 채널당 이보다 많은 키가 모이면 채널 전체 무효화로 바꿉니다 */
+    private static final int MAX_PENDING = 4096;
+
+    /**
+     * 다른 인스턴스의 변경을 받아 처리하는 쪽 (보통 DAO 캐시)
+     */
+    public interface Handler {
+        /**
+         * @param keys 다른 인스턴스에서 바뀐 키
+         */
+        void invalidate(Collection<String> keys);
+
+        /**
+         * 어떤 키가 바뀌었는지 알 수 없을 때 호출되며, 보관 중인 모든 항목을 버려야 합니다.
+         */
+        void resync();
+    }
+
+    /** 싱글톤(Singleton)으로 구현된 인스턴스 */
+    private static InvalidationBus bus;
+
+    private final boolean enabled;
+    private final long instanceId = ThreadLocalRandom.current().nextLong();
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+
+    /** 채널별 전송 대기 키 ({@code this}로 보호) */
+    private Map<String, Set<String>> pending = new HashMap<>();
+    /** 키가 너무 많아 전체 무효화를 보낼 채널 ({@code this}로 보호) */
+    private Set<String> overflowed = new LinkedHashSet<>();
+
+    /** 마지막으로 보낸 데이터그램 순번 (송신 스레드만 사용) */
+    private long sequence;
+
+    /** 인스턴스별 마지막으로 받은 순번 (수신 스레드만 사용) */
+    private final Map<Long, Long> received = new HashMap<>();
+
+    private long sent, resyncs;
+
+    private DatagramSocket socket;
+    private final List<SocketAddress> targets = new ArrayList<>();
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     */
+    private InvalidationBus() {
+        this.enabled = Boolean.parseBoolean(DBUtil.getProperty("invalidation.enabled", "false"));
+        if (!enabled) return;
+
+        try {
+            open();
+        } catch (IOException e) {
+            System.out.println("캐시 무효화 채널을 열지 못했습니다: " + e.getMessage());
+            return;
+        }
+
+        long coalesceMillis = Long.parseLong(DBUtil.getProperty("invalidation.coalesceMillis", "20"));
+        long heartbeatMillis = Long.parseLong(DBUtil.getProperty("invalidation.heartbeatMillis", "1000"));
+
+        Thread sender = new Thread(() -> sendLoop(coalesceMillis, heartbeatMillis), "invalidation-sender");
+        sender.setDaemon(true);
+        sender.start();
+
+        Thread receiver = new Thread(this::receiveLoop, "invalidation-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    /**
+     * 무효화 채널 인스턴스를 반환하는 싱글톤(Singleton) 메서드
+     *
+     * @return {@code InvalidationBus} 인스턴스
+     */
+    public static synchronized InvalidationBus getInstance() {
+        if (bus == null) bus = new InvalidationBus();
+        return bus;
+    }
+
+    private void open() throws IOException {
+        int port = Integer.parseInt(DBUtil.getProperty("invalidation.port", "4446"));
+        String peers = DBUtil.getProperty("invalidation.peers", "");
+
+        if (!peers.isEmpty()) {
+            socket = new DatagramSocket(port);
+            for (String peer : peers.split(",")) {
+                String[] hostPort = peer.trim().split(":");
+                targets.add(new InetSocketAddress(hostPort[0], Integer.parseInt(hostPort[1])));
+            }
+            return;
+        }
+
+        InetAddress group = InetAddress.getByName(DBUtil.getProperty("invalidation.group", "239.255.77.77"));
+        MulticastSocket multicast = new MulticastSocket(port);
+        multicast.setTimeToLive(1);
+        multicast.joinGroup(new InetSocketAddress(group, port), null);
+        socket = multicast;
+        targets.add(new InetSocketAddress(group, port));
+    }
+
+    /**
+     * 채널의 수신 처리기를 등록합니다.
+     *
+     * @param channel 채널 이름 (모든 인스턴스에서 같아야 함)
+     * @param handler 다른 인스턴스의 변경을 처리할 객체
+     */
+    public void register(String channel, Handler handler) {
+        handlers.put(channel, handler);
+    }
+
+    /**
+     * 커밋된 변경의 키를 다른 인스턴스에 알리도록 예약합니다. 실제 전송은 송신 스레드가 모아서 합니다.
+     *
+     * @param channel 채널 이름
+     * @param key     바뀐 키
+     */
+    public void invalidate(String channel, String key) {
+        if (socket == null) return;
+
+        synchronized (this) {
+            if (overflowed.contains(channel)) return;
+
+            Set<String> keys = pending.computeIfAbsent(channel, c -> new LinkedHashSet<>());
+            keys.add(key);
+            if (keys.size() > MAX_PENDING) {
+                pending.remove(channel);
+                overflowed.add(channel);
+            }
+        }
+    }
+
+    /**
+     * @return 무효화 채널이 켜져 있고 소켓이 열려 있으면 {@code true}
+     */
+    public boolean isEnabled() {
+        return enabled && socket != null;
+    }
+
+    /**
+     * @return 보낸 데이터그램 수와 순번 누락으로 전체 무효화한 횟수
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("무효화 채널: 전송 %d건, 재동기화 %d회", sent, resyncs);
+    }
+
+    // ////////////////////////////////////////////////////////////////
+    // 송신
+
+    private void sendLoop(long coalesceMillis, long heartbeatMillis) {
+        long lastSent = System.nanoTime();
+        while (true) {
+            try {
+                Thread.sleep(coalesceMillis);
+
+                Map<String, Set<String>> keys;
+                Set<String> clears;
+                synchronized (this) {
+                    keys = pending;
+                    clears = overflowed;
+                    pending = new HashMap<>();
+                    overflowed = new LinkedHashSet<>();
+                }
+
+                for (String channel : clears) send(CLEAR, channel, List.of());
+                for (Map.Entry<String, Set<String>> entry : keys.entrySet()) sendKeys(entry.getKey(), entry.getValue());
+
+                if (!keys.isEmpty() || !clears.isEmpty()) {
+                    lastSent = System.nanoTime();
+                } else if (System.nanoTime() - lastSent >= heartbeatMillis * 1_000_000L) {
+                    send(HEARTBEAT, "", List.of());
+                    lastSent = System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                System.out.println("캐시 무효화 전송 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 키를 데이터그램 크기에 맞게 나누어 보냅니다.
+     */
+    private void sendKeys(String channel, Collection<String> keys) throws IOException {
+        List<String> batch = new ArrayList<>();
+        int size = 64 + channel.length() * 3;
+        for (String key : keys) {
+            int keySize = 2 + key.length() * 3;
+            if (!batch.isEmpty() && size + keySize > MAX_DATAGRAM) {
+                send(KEYS, channel, batch);
+                batch = new ArrayList<>();
+                size = 64 + channel.length() * 3;
+            }
+            batch.add(key);
+            size += keySize;
+        }
+        if (!batch.isEmpty()) send(KEYS, channel, batch);
+    }
+
+    /**
+     * 데이터그램 하나를 보냅니다.
+     * 형식: MAGIC, 인스턴스 ID, 순번, 종류, 채널, 키 수, 키 목록. 하트비트는 순번을 올리지 않고 마지막 순번을 알립니다.
+     */
+    private void send(byte type, String channel, List<String> keys) throws IOException {
+        if (type != HEARTBEAT) sequence++;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(MAX_DATAGRAM);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeLong(instanceId);
+        out.writeLong(sequence);
+        out.writeByte(type);
+        out.writeUTF(channel);
+        out.writeShort(keys.size());
+        for (String key : keys) out.writeUTF(key);
+
+        byte[] data = bytes.toByteArray();
+        for (SocketAddress target : targets) socket.send(new DatagramPacket(data, data.length, target));
+        synchronized (this) {
+            sent++;
+        }
+    }
+
+    // ////////////////////////////////////////////////////////////////
+    // 수신
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[65535];
+        while (true) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                handle(new DataInputStream(new ByteArrayInputStream(packet.getData(), 0, packet.getLength())));
+            } catch (IOException e) {
+                if (socket.isClosed()) return;
+                // 읽지 못한 데이터그램에 어떤 키가 있었는지 모르므로 전체를 다시 읽게 합니다.
+                resyncAll();
+            }
+        }
+    }
+
+    private void handle(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) return;
+        long sender = in.readLong();
+        if (sender == instanceId) return;
+
+        long seq = in.readLong();
+        byte type = in.readByte();
+        String channel = in.readUTF();
+        int count = in.readUnsignedShort();
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) keys.add(in.readUTF());
+
+        // 처음 보는 인스턴스는 이미 보낸 변경이 있을 수 있고, 순번이 건너뛰었으면 그 사이 데이터그램을 놓친 것입니다.
+        Long last = received.get(sender);
+        long expected = (last == null) ? 1 : last + 1;
+        boolean gap = (type == HEARTBEAT) ? seq >= expected : seq > expected;
+        if (last == null || seq > last) received.put(sender, seq);
+        if (gap) {
+            resyncAll();
+            return;
+        }
+
+        Handler handler = handlers.get(channel);
+        if (handler == null) return;
+        if (type == CLEAR) handler.resync();
+        else if (type == KEYS) handler.invalidate(keys);
+    }
+
+    private void resyncAll() {
+        synchronized (this) {
+            resyncs++;
+        }
+        for (Handler handler : handlers.values()) handler.resync();
+    }
+}
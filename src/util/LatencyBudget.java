@@ -0,0 +1,98 @@
+package util;
+
+/**
+ * {@code LatencyBudget} 클래스는 DAO 작업 하나에 허용된 시간(지연 시간 예산)을 현재 스레드에 기록합니다.
+ * <p>
+ * 예산이 설정된 동안 {@link ConnectionPool}은 연결 대기를 남은 시간 안에서만 하고, 문장을 실행할 때는
+ * 남은 시간을 JDBC 질의 제한 시간으로 지정한 뒤 그 시간이 지나면 {@link java.sql.Statement#cancel()}로 질의를 취소합니다.
+ * 예산을 넘기면 {@link java.sql.SQLTimeoutException}이 발생하므로, 호출자는 캐시에 있는 값으로 대신 응답할 수 있습니다.
+ * <p>
+ * 예산은 중첩할 수 있으며 안쪽 예산은 바깥 예산의 마감 시각을 넘지 않습니다. 다른 스레드로 작업을 넘길 때는
+ * {@link #current()}로 예산을 얻어 그 스레드에서 {@link #inherit(LatencyBudget)}로 이어 씁니다.
+ * 제한 없음은 마감 시각 값이 아닌 별도의 표시로 나타내므로, 어떤 {@link System#nanoTime()} 값도 마감 시각이 될 수 있습니다.
+ * <pre>
+ * LatencyBudget budget = LatencyBudget.start(500);
+ * try {
+ *     ...
+ * } finally {
+ *     budget.close();
+ * }
+ * </pre>
+ */
+public final class LatencyBudget implements AutoCloseable {
+    /** 현재 스레드의 예산, 없으면 {@code null} */
+    private static final ThreadLocal<LatencyBudget> CURRENT = new ThreadLocal<>();
+
+    /** 마감 시각이 있는지 여부 ({@code false}이면 {@link #deadline}은 의미 없음) */
+    private final boolean limited;
+
+    /** 마감 시각 ({@link System#nanoTime()} 기준) */
+    private final long deadline;
+    private final LatencyBudget outer;
+
+    private LatencyBudget(boolean limited, long deadline, LatencyBudget outer) {
+        this.limited = limited;
+        this.deadline = deadline;
+        this.outer = outer;
+    }
+
+    /**
+     * 지금부터 주어진 시간 동안의 예산을 시작합니다. 0 이하이면 제한 없이 바깥 예산만 따릅니다.
+     *
+     * @param millis 허용 시간(밀리초)
+     * @return {@code close()}하면 이전 예산으로 돌아가는 예산 객체
+     */
+    public static LatencyBudget start(long millis) {
+        return open(millis > 0, millis > 0 ? System.nanoTime() + millis * 1_000_000L : 0);
+    }
+
+    /**
+     * 다른 스레드의 예산을 이어 받아 현재 스레드에서 시작합니다.
+     *
+     * @param from {@link #current()}로 얻은 예산, {@code null}이면 제한 없음
+     * @return {@code close()}하면 이전 예산으로 돌아가는 예산 객체
+     */
+    public static LatencyBudget inherit(LatencyBudget from) {
+        return (from == null) ? open(false, 0) : open(from.limited, from.deadline);
+    }
+
+    /**
+     * 바깥 예산에 마감 시각이 있고 그 시각이 더 이르면(또는 안쪽 예산이 제한 없음이면) 바깥 마감 시각을 따릅니다.
+     */
+    private static LatencyBudget open(boolean limited, long deadline) {
+        LatencyBudget outer = CURRENT.get();
+        if (outer != null && outer.limited && (!limited || outer.deadline - deadline < 0)) {
+            limited = true;
+            deadline = outer.deadline;
+        }
+
+        LatencyBudget budget = new LatencyBudget(limited, deadline, outer);
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    /**
+     * @return 현재 스레드의 예산, 없으면 {@code null}
+     */
+    public static LatencyBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 현재 스레드 예산의 남은 시간(밀리초, 이미 지났으면 0 이하), 예산이 없거나 제한 없음이면 {@link Long#MAX_VALUE}
+     */
+    public static long remainingMillis() {
+        LatencyBudget budget = CURRENT.get();
+        if (budget == null || !budget.limited) return Long.MAX_VALUE;
+        return Math.floorDiv(budget.deadline - System.nanoTime(), 1_000_000L);
+    }
+
+    /**
+     * 이전 예산으로 돌아갑니다.
+     */
+    @Override
+    public void close() {
+        if (outer == null) CURRENT.remove();
+        else CURRENT.set(outer);
+    }
+}
@@ -0,0 +1,32 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * {@code NameCollation} 클래스는 이름 정렬 키를 비교합니다.
+ * <p>
+ * 정렬 키는 Java에서 만들지 않고, 데이터베이스가 {@code name} 컬럼의 콜레이션({@code sort.nameCollation})으로 계산한
+ * 가중치 문자열({@code WEIGHT_STRING(name)})을 행과 함께 읽어 씁니다. {@code ORDER BY name}도 같은 가중치로 정렬하므로,
+ * 메모리 정렬과 샤드 병합의 순서가 데이터베이스 순서와 정확히 일치합니다. Java의 {@link java.text.Collator}는
+ * 공백과 하이픈을 무시하고 한자를 한글보다 앞에 두는 등 MySQL 콜레이션과 규칙이 달라 이 용도로 쓸 수 없습니다.
+ * <p>
+ * 정렬 키는 한 번 읽어 두면 비교가 부호 없는 바이트 비교로 끝나므로, 비교마다 콜레이션 규칙을 적용하는 것보다 훨씬 빠릅니다.
+ * 키가 같은 이름은 호출자가 식별 번호로 순서를 정해야 데이터베이스와 순서가 일치합니다.
+ */
+public class NameCollation {
+
+    /** 이름 정렬 키를 계산하는 SQL 식 (컬럼의 콜레이션을 따름) */
+    public static final String KEY_SQL = "WEIGHT_STRING(name)";
+
+    private NameCollation() { }
+
+    /**
+     * 두 정렬 키를 비교합니다. 키를 모르는({@code null}) 이름은 모든 키보다 뒤에 둡니다.
+     *
+     * @return {@code a}가 앞이면 음수, 같으면 0, 뒤면 양수
+     */
+    public static int compare(byte[] a, byte[] b) {
+        if (a == null || b == null) return (a == null) ? (b == null ? 0 : 1) : -1;
+        return Arrays.compareUnsigned(a, b);
+    }
+}
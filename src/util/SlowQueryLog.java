@@ -0,0 +1,109 @@
+package util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code SlowQueryLog} 클래스는 임계 시간을 넘긴 SQL 문장을 파일에 기록하는 비동기 로거입니다.
+ * <p>
+ * 쿼리를 실행한 스레드는 기록할 내용을 큐에 넣기만 하고, 실제 파일 쓰기는 백그라운드 스레드가 담당합니다.
+ * 큐가 가득 찬 경우에는 쿼리 실행을 지연시키지 않도록 기록을 버리고 버린 개수만 집계합니다.
+ */
+public class SlowQueryLog {
+    /** 기록 대기 큐의 최대 크기 */
+    private static final int QUEUE_CAPACITY = 1024;
+
+    /** 싱글톤(Singleton)으로 구현된 로거 인스턴스 */
+    private static SlowQueryLog log;
+
+    /** 슬로우 쿼리로 판단할 임계 시간(나노초) */
+    private final long thresholdNanos;
+
+    /** 기록 대기 중인 로그 라인 */
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /** 큐가 가득 차서 버려진 기록 수 */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 생성자를 private으로 설정하여, 외부에서의 객체 생성을 제한합니다.
+     *
+     * @param thresholdMillis 슬로우 쿼리 임계 시간(밀리초)
+     * @param fileName        로그 파일 경로
+     */
+    private SlowQueryLog(long thresholdMillis, String fileName) {
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+
+        Thread writer = new Thread(() -> writeLoop(fileName), "slow-query-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 로거 인스턴스를 반환하는 싱글톤(Singleton) 메서드
+     *
+     * @return {@code SlowQueryLog} 인스턴스
+     */
+    public static synchronized SlowQueryLog getInstance() {
+        if (log == null) {
+            log = new SlowQueryLog(
+                    Long.parseLong(DBUtil.getProperty("trace.slowQueryMillis", "200")),
+                    DBUtil.getProperty("trace.slowQueryLog", "slow-query.log"));
+        }
+        return log;
+    }
+
+    /**
+     * 실행이 끝난 SQL 문장을 전달받아, 임계 시간을 넘긴 경우에만 기록 큐에 넣습니다.
+     *
+     * @param sql          실행된 SQL 문장
+     * @param params       바인딩된 파라미터 (문자열로 변환된 형태)
+     * @param elapsedNanos 실행 시간(나노초)
+     */
+    public void record(String sql, String params, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) return;
+
+        String line = String.format("%s\t%.3fms\t%s\t%s",
+                LocalDateTime.now(), elapsedNanos / 1_000_000.0, sql, params);
+        if (!queue.offer(line)) dropped.incrementAndGet();
+    }
+
+    /**
+     * 큐가 가득 차서 기록되지 못한 슬로우 쿼리 수를 반환합니다.
+     *
+     * @return 버려진 기록 수
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * 큐에서 로그 라인을 꺼내 파일에 추가하는 백그라운드 루프입니다.
+     *
+     * @param fileName 로그 파일 경로
+     */
+    private void writeLoop(String fileName) {
+        try (BufferedWriter out = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            while (true) {
+                out.write(queue.take());
+                out.newLine();
+                // 대기 중인 기록이 없을 때만 flush하여 몰려드는 기록은 한 번에 내보냅니다.
+                if (queue.isEmpty()) out.flush();
+            }
+        } catch (IOException e) {
+            System.out.println("슬로우 쿼리 로그 기록 실패");
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
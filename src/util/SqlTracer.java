@@ -0,0 +1,126 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code SqlTracer} 클래스는 {@link Connection}과 그로부터 생성된 {@link Statement}를 감싸
+ * 모든 SQL 실행 시간을 측정하고, SQL 문장과 바인딩 파라미터를 {@link SlowQueryLog}로 전달합니다.
+ * <p>
+ * JDBC 인터페이스는 메서드 수가 매우 많으므로 동적 프록시({@link Proxy})로 감싸고,
+ * 실행/파라미터 설정 메서드만 가로채며 나머지 호출은 원본 객체에 그대로 위임합니다.
+ */
+public class SqlTracer {
+
+    /**
+     * 객체 생성을 제한합니다.
+     */
+    private SqlTracer() {
+    }
+
+    /**
+     * 연결 객체를 추적용 프록시로 감쌉니다.
+     *
+     * @param conn 원본 연결 객체
+     * @return 추적 기능이 추가된 연결 객체, {@code conn}이 {@code null}이면 {@code null}
+     */
+    public static Connection wrap(Connection conn) {
+        if (conn == null) return null;
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(conn));
+    }
+
+    /**
+     * 리플렉션 호출을 수행하고, 원본 메서드가 던진 예외를 그대로 전달합니다.
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 연결 객체에 대한 호출을 처리하며, 생성되는 문장 객체를 추적용 프록시로 감쌉니다.
+     */
+    private static class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlTracer.invoke(target, method, args);
+
+            if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+                return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                        new Class<?>[]{PreparedStatement.class},
+                        new StatementHandler((Statement) result, (String) args[0]));
+            }
+            if (result instanceof Statement && method.getName().equals("createStatement")) {
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                        new Class<?>[]{Statement.class},
+                        new StatementHandler((Statement) result, null));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 문장 객체에 대한 호출을 처리하며, 파라미터를 기록하고 실행 시간을 측정합니다.
+     */
+    private static class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+
+        /** 현재 바인딩된 파라미터 (인덱스 순서 유지) */
+        private final Map<Integer, Object> params = new TreeMap<>();
+
+        /** {@code addBatch}로 누적된 행 수 */
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.equals("setNull")) {
+                params.put((Integer) args[0], null);
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                params.put((Integer) args[0], args[1]);
+            } else if (name.equals("clearParameters")) {
+                params.clear();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.startsWith("execute")) {
+                // Statement.execute(String sql) 계열은 인자로 SQL을 전달받습니다.
+                String executed = (args != null && args.length > 0 && args[0] instanceof String)
+                        ? (String) args[0] : sql;
+                String bound = name.equals("executeBatch") ? "batch=" + batchSize : params.toString();
+
+                long start = System.nanoTime();
+                try {
+                    return SqlTracer.invoke(target, method, args);
+                } finally {
+                    SlowQueryLog.getInstance().record(executed, bound, System.nanoTime() - start);
+                    if (name.equals("executeBatch")) batchSize = 0;
+                }
+            }
+            return SqlTracer.invoke(target, method, args);
+        }
+    }
+}
@@ -4,7 +4,17 @@
  * <p>
  * <strong>구성 요소:</strong>
  * <ul>
- *     <li>{@link DBUtil} - 데이터베이스 연결 관리 및 드라이버 로딩을 위한 유틸리티 클래스.</li>
+ *     <li>{@link DBUtil} - 데이터베이스 연결 관리 및 드라이버 로딩을 위한 유틸리티 클래스. 샤드 라우팅과 읽기 복제본 선택도 담당합니다.</li>
+ *     <li>{@link ConnectionPool} - 물리 연결을 재사용하고, 연결마다 SQL 기준 LRU PreparedStatement 캐시를 유지하는 연결 풀.</li>
+ *     <li>{@link SqlTracer} - 연결/문장 객체를 감싸 모든 SQL의 실행 시간과 바인딩 파라미터를 측정하는 추적 프록시.</li>
+ *     <li>{@link SlowQueryLog} - 임계 시간을 넘긴 SQL을 백그라운드 스레드에서 파일로 기록하는 비동기 로거.</li>
+ *     <li>{@link Cache} - DAO가 식별 번호로 데이터를 보관하는 스레드 안전 캐시 인터페이스.</li>
+ *     <li>{@link BoundedCache} - 항목 수 제한, 선택적 만료 시간, W-TinyLFU(또는 LRU) 교체 정책을 갖춘 캐시.</li>
+ *     <li>{@link CacheStats} - 캐시 적중률, 교체/만료 횟수 스냅숏.</li>
+ *     <li>{@link NameCollation} - 데이터베이스가 이름 컬럼의 콜레이션으로 계산한 정렬 키를 바이트 단위로 비교하는 유틸리티.</li>
+ *     <li>{@link CompressedBitmap} - 구간별로 정렬 배열과 비트 배열을 골라 쓰는 압축 비트맵과 교집합/합집합/차집합 연산.</li>
+ *     <li>{@link InvalidationBus} - 커밋된 변경의 키를 모아 UDP(멀티캐스트 또는 지정 상대)로 다른 인스턴스에 알리고, 유실 시 전체 재동기화하는 캐시 무효화 채널.</li>
+ *     <li>{@link LatencyBudget} - DAO 작업 하나에 허용된 시간을 스레드에 기록하여 연결 대기와 질의 실행을 그 안으로 제한하는 지연 시간 예산.</li>
  *     <li>dbinfo.properties - 데이터베이스 접속 정보 (드라이버, URL, 사용자 정보, 비밀번호)를 포함한 설정 파일.</li>
  * </ul>
  * </p>
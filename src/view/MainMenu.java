@@ -2,8 +2,20 @@ package view;
 
 import controller.Controller;
 import controller.ControllerImpl;
+import model.AuditLog;
+import model.CohortAggregator;
+import model.LoadGenerator;
+import model.ScoreHistory;
+import model.SchemaManager;
+import vo.FulltimeVO;
+import vo.ParttimeVO;
+import vo.ShiftVO;
 import vo.StudentVO;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -83,6 +95,38 @@ public class MainMenu {
                     Ssearch();
                     break;
                 case 6:
+                    //학생 내보내기
+                    Sexport();
+                    break;
+                case 7:
+                    //학생 가져오기
+                    Simport();
+                    break;
+                case 8:
+                    //학생 성적 통계
+                    control.statistics();
+                    break;
+                case 9:
+                    //등급 기준 변경
+                    SgradingPolicy();
+                    break;
+                case 10:
+                    //조건 검색
+                    Sfilter();
+                    break;
+                case 11:
+                    //성적표 생성
+                    SreportCards();
+                    break;
+                case 12:
+                    //집단별 집계
+                    Scohorts();
+                    break;
+                case 13:
+                    //성적 추이
+                    SscoreHistory();
+                    break;
+                case 14:
                     //학생 종료
                     exit();
                 default:
@@ -101,7 +145,11 @@ public class MainMenu {
         System.out.println("\t------------------------------");
         System.out.println("\t1. 학생 입력\t\t2. 학생 삭제");
         System.out.println("\t3. 학생 수정\t\t4. 학생 명단보기");
-        System.out.println("\t5. 학생 검색\t\t6. 종료");
+        System.out.println("\t5. 학생 검색\t\t6. 학생 내보내기");
+        System.out.println("\t7. 학생 가져오기\t\t8. 성적 통계");
+        System.out.println("\t9. 등급 기준\t\t10. 조건 검색");
+        System.out.println("\t11. 성적표 생성\t\t12. 집단별 집계");
+        System.out.println("\t13. 성적 추이\t\t14. 종료");
         System.out.println("\t------------------------------");
         System.out.print("\t입력: ");
     }
@@ -150,6 +198,13 @@ public class MainMenu {
         String sno = scan.next();
         System.out.println("\t------------------------------");
 
+        // 수정을 시작할 때의 버전을 기억해 두었다가, 그 사이 다른 사용자가 수정했으면 덮어쓰지 않습니다.
+        StudentVO current = (StudentVO) control.find(sno);
+        if (current == null) {
+            System.out.println("\t해당 학번의 학생이 없습니다.");
+            return;
+        }
+
         System.out.print("\t이름: ");
         String nname = scan.next();
         System.out.print("\t국어 점수: ");
@@ -163,6 +218,7 @@ public class MainMenu {
         System.out.println("\t------------------------------");
 
         StudentVO studentVO = new StudentVO(sno,nname,nkorean,nenglish,nmath,nscience);
+        studentVO.setVersion(current.getVersion());
         control.update(studentVO);
     }
 
@@ -198,6 +254,125 @@ public class MainMenu {
         control.search(sno);
     }
 
+    /**
+     * 학생 데이터를 CSV 또는 JSON Lines 파일로 내보내는 메서드입니다.
+     */
+    void Sexport(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t파일 이름(.csv/.jsonl, 압축 시 .gz): ");
+        String fileName = scan.next();
+        System.out.println("\t------------------------------");
+
+        control.export(fileName);
+    }
+
+    /**
+     * CSV 성적표 파일의 학생 데이터를 일괄로 가져오는 메서드입니다.
+     */
+    void Simport(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t가져올 CSV 파일: ");
+        String fileName = scan.next();
+        System.out.println("\t------------------------------");
+
+        control.importCsv(fileName);
+    }
+
+    /**
+     * 등급 정책(절대평가, +/- 절대평가, 상대평가)과 과목 가중치를 입력받아 전체 학생을 다시 채점합니다.
+     */
+    void SgradingPolicy(){
+        System.out.println("\t------------------------------");
+        System.out.println("\t1. 절대평가\t\t2. +/- 절대평가");
+        System.out.println("\t3. 상대평가");
+        System.out.print("\t정책 선택: ");
+        int type = scan.nextInt();
+        System.out.print("\t가중치(국어 영어 수학 과학): ");
+        float[] weights = {scan.nextFloat(), scan.nextFloat(), scan.nextFloat(), scan.nextFloat()};
+        System.out.println("\t------------------------------");
+
+        control.gradingPolicy(type, weights);
+    }
+
+    /**
+     * 과목 점수와 등급 조건식을 입력받아 조건에 맞는 학생을 검색합니다.
+     * 조건은 {@code &}(그리고), {@code |}(또는), 괄호로 조합할 수 있습니다.
+     */
+    void Sfilter(){
+        System.out.println("\t------------------------------");
+        System.out.println("\t예) math>=90 & grade=A & science<60");
+        System.out.print("\t조건식: ");
+        scan.nextLine();
+        String query = scan.nextLine();
+        System.out.println("\t------------------------------");
+
+        control.filter(query);
+    }
+
+    /**
+     * 출력 위치를 입력받아 전체 학생의 성적표를 만듭니다.
+     */
+    void SreportCards(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t출력 위치(디렉터리 또는 .zip): ");
+        String output = scan.next();
+        System.out.println("\t------------------------------");
+
+        control.reportCards(output);
+    }
+
+    /**
+     * 집단 키(입학년도, 학과 등 학번 구간 또는 등급)를 선택받아 집단별 성적을 집계합니다.
+     */
+    void Scohorts(){
+        System.out.println("\t------------------------------");
+        List<CohortAggregator.Key> keys = CohortAggregator.Key.fromProperties();
+        for (int i = 0; i < keys.size(); i++) System.out.println("\t" + (i + 1) + ". " + keys.get(i).getName());
+        System.out.print("\t집단 키 선택: ");
+        int keyNum = scan.nextInt();
+        System.out.println("\t------------------------------");
+
+        control.cohorts(keyNum);
+    }
+
+    /**
+     * 학생별 학기 추이, 향상 순위, 현재 학기 변경 중 하나를 선택받아 실행합니다.
+     */
+    void SscoreHistory(){
+        System.out.println("\t------------------------------");
+        System.out.println("\t1. 학생별 추이\t\t2. 향상 순위");
+        System.out.println("\t3. 현재 학기 변경");
+        System.out.print("\t선택: ");
+        int choice = scan.nextInt();
+
+        switch (choice) {
+            case 1:
+                System.out.print("\t학번: ");
+                String sno = scan.next();
+                System.out.print("\t최근 학기 수(0은 전체): ");
+                int terms = scan.nextInt();
+                System.out.println("\t------------------------------");
+                control.scoreTrend(sno, terms);
+                break;
+            case 2:
+                System.out.print("\t비교할 최근 학기 수: ");
+                int window = scan.nextInt();
+                System.out.print("\t출력 인원: ");
+                int limit = scan.nextInt();
+                System.out.println("\t------------------------------");
+                control.mostImproved(window, limit);
+                break;
+            case 3:
+                System.out.print("\t학기(예: 20252): ");
+                int term = scan.nextInt();
+                System.out.println("\t------------------------------");
+                control.setTerm(term);
+                break;
+            default:
+                System.out.println("번호를 잘못 입력하셨습니다.");
+        }
+    }
+
     /**
      * 학생 관리 하위 시스템을 종료하고 메인 메뉴로 돌아갑니다.
      */
@@ -206,6 +381,327 @@ public class MainMenu {
         System.exit(0);
     }
 
+    // ////////////////////////////////////////////////////////////////
+    // ////////////////////////////////////////////////////////////////
+    // ////////////////////////////////////////////////////////////////
+
+    /**
+     * 직원(정규직) 관리 시스템을 실행하는 메서드입니다.
+     * <p>직원 입력, 삭제, 수정, 조회, 검색 등의 작업을 수행합니다.</p>
+     */
+    void FulltimeSystem() {
+        int choice;
+
+        while (true) {
+            showFulltimeMenu();
+            choice = scan.nextInt();
+
+            switch (choice) {
+                case 1:
+                    //직원 입력
+                    Finput();
+                    break;
+                case 2:
+                    //직원 삭제
+                    Edelete();
+                    break;
+                case 3:
+                    //직원 수정
+                    Fupdate();
+                    break;
+                case 4:
+                    //직원 명단
+                    EtotalSearch("실적순");
+                    break;
+                case 5:
+                    //직원 검색
+                    Esearch();
+                    break;
+                case 6:
+                    //월급 인상
+                    FsalaryIncrease();
+                    break;
+                case 7:
+                    //직원 종료
+                    exit();
+                default:
+                    System.out.println("번호를 잘못 입력하셨습니다.");
+            }
+        }
+    }
+
+    /**
+     * 직원 관리 하위 메뉴를 보여주는 메서드입니다.
+     */
+    void showFulltimeMenu(){
+        System.out.println();
+        System.out.println("\t------------------------------");
+        System.out.println("\t-       직원 관리 시스템       -");
+        System.out.println("\t------------------------------");
+        System.out.println("\t1. 직원 입력\t\t2. 직원 삭제");
+        System.out.println("\t3. 직원 수정\t\t4. 직원 명단보기");
+        System.out.println("\t5. 직원 검색\t\t6. 월급 인상");
+        System.out.println("\t7. 종료");
+        System.out.println("\t------------------------------");
+        System.out.print("\t입력: ");
+    }
+
+    /**
+     * 직원 데이터를 입력받아 {@code FulltimeVO} 객체로 생성하고 컨트롤러에 전달합니다.
+     */
+    void Finput() {
+        System.out.println("\t------------------------------");
+        System.out.print("\t사번: ");
+        String eno = scan.next();
+        System.out.print("\t이름: ");
+        String name = scan.next();
+        System.out.print("\t월급: ");
+        int salary = scan.nextInt();
+        System.out.print("\t실적: ");
+        int performance = scan.nextInt();
+        System.out.println("\t------------------------------");
+
+        control.input(new FulltimeVO(eno, name, salary, performance));
+    }
+
+    /**
+     * 특정 직원 데이터를 수정하는 메서드입니다.
+     */
+    void Fupdate(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t수정할 사번: ");
+        String eno = scan.next();
+        System.out.println("\t------------------------------");
+
+        System.out.print("\t이름: ");
+        String nname = scan.next();
+        System.out.print("\t월급: ");
+        int nsalary = scan.nextInt();
+        System.out.print("\t실적: ");
+        int nperformance = scan.nextInt();
+        System.out.println("\t------------------------------");
+
+        control.update(new FulltimeVO(eno, nname, nsalary, nperformance));
+    }
+
+    /**
+     * 사번과 인상률을 입력받아 직원의 월급을 인상하는 메서드입니다.
+     */
+    void FsalaryIncrease(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t인상할 사번: ");
+        String eno = scan.next();
+        System.out.print("\t인상률(%): ");
+        int percent = scan.nextInt();
+        System.out.println("\t------------------------------");
+
+        control.salaryIncrease(eno, percent);
+    }
+
+    // ////////////////////////////////////////////////////////////////
+    // ////////////////////////////////////////////////////////////////
+    // ////////////////////////////////////////////////////////////////
+
+    /**
+     * 알바(시간제 직원) 관리 시스템을 실행하는 메서드입니다.
+     * <p>알바 입력, 삭제, 수정, 조회, 검색 등의 작업을 수행합니다.</p>
+     */
+    void ParttimeSystem() {
+        int choice;
+
+        while (true) {
+            showParttimeMenu();
+            choice = scan.nextInt();
+
+            switch (choice) {
+                case 1:
+                    //알바 입력
+                    Pinput();
+                    break;
+                case 2:
+                    //알바 삭제
+                    Edelete();
+                    break;
+                case 3:
+                    //알바 수정
+                    Pupdate();
+                    break;
+                case 4:
+                    //알바 명단
+                    EtotalSearch("임금순");
+                    break;
+                case 5:
+                    //알바 검색
+                    Esearch();
+                    break;
+                case 6:
+                    //급여 정산
+                    Ppayroll();
+                    break;
+                case 7:
+                    //근무 기록 입력
+                    Pshift();
+                    break;
+                case 8:
+                    //공휴일 등록
+                    Pholiday();
+                    break;
+                case 9:
+                    //알바 종료
+                    exit();
+                default:
+                    System.out.println("번호를 잘못 입력하셨습니다.");
+            }
+        }
+    }
+
+    /**
+     * 알바 관리 하위 메뉴를 보여주는 메서드입니다.
+     */
+    void showParttimeMenu(){
+        System.out.println();
+        System.out.println("\t------------------------------");
+        System.out.println("\t-       알바 관리 시스템       -");
+        System.out.println("\t------------------------------");
+        System.out.println("\t1. 알바 입력\t\t2. 알바 삭제");
+        System.out.println("\t3. 알바 수정\t\t4. 알바 명단보기");
+        System.out.println("\t5. 알바 검색\t\t6. 급여 정산");
+        System.out.println("\t7. 근무 입력\t\t8. 공휴일 등록");
+        System.out.println("\t9. 종료");
+        System.out.println("\t------------------------------");
+        System.out.print("\t입력: ");
+    }
+
+    /**
+     * 알바 데이터를 입력받아 {@code ParttimeVO} 객체로 생성하고 컨트롤러에 전달합니다.
+     */
+    void Pinput() {
+        System.out.println("\t------------------------------");
+        System.out.print("\t사번: ");
+        String eno = scan.next();
+        System.out.print("\t이름: ");
+        String name = scan.next();
+        System.out.print("\t시급: ");
+        int hourlyWage = scan.nextInt();
+        System.out.print("\t근무 시간: ");
+        int workHours = scan.nextInt();
+        System.out.println("\t------------------------------");
+
+        control.input(new ParttimeVO(eno, name, hourlyWage, workHours));
+    }
+
+    /**
+     * 특정 알바 데이터를 수정하는 메서드입니다.
+     */
+    void Pupdate(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t수정할 사번: ");
+        String eno = scan.next();
+        System.out.println("\t------------------------------");
+
+        System.out.print("\t이름: ");
+        String nname = scan.next();
+        System.out.print("\t시급: ");
+        int nhourlyWage = scan.nextInt();
+        System.out.print("\t근무 시간: ");
+        int nworkHours = scan.nextInt();
+        System.out.println("\t------------------------------");
+
+        control.update(new ParttimeVO(eno, nname, nhourlyWage, nworkHours));
+    }
+
+    /**
+     * 정산 기간을 입력받아 알바 급여 정산을 실행하는 메서드입니다.
+     */
+    void Ppayroll(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t정산 시작일(yyyy-MM-dd): ");
+        LocalDate from = LocalDate.parse(scan.next());
+        System.out.print("\t정산 종료일(yyyy-MM-dd, 미포함): ");
+        LocalDate to = LocalDate.parse(scan.next());
+        System.out.println("\t------------------------------");
+
+        control.payroll(from, to);
+    }
+
+    /**
+     * 알바의 근무 기록 한 건을 입력받아 컨트롤러에 전달합니다.
+     * 퇴근 시각이 출근 시각보다 이르거나 같으면 다음 날 퇴근한 것으로 봅니다.
+     */
+    void Pshift(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t사번: ");
+        String eno = scan.next();
+        System.out.print("\t근무일(yyyy-MM-dd): ");
+        LocalDate day = LocalDate.parse(scan.next());
+        System.out.print("\t출근 시각(HH:mm): ");
+        LocalTime startTime = LocalTime.parse(scan.next());
+        System.out.print("\t퇴근 시각(HH:mm): ");
+        LocalTime endTime = LocalTime.parse(scan.next());
+        System.out.println("\t------------------------------");
+
+        LocalDateTime start = day.atTime(startTime);
+        LocalDateTime end = endTime.isAfter(startTime) ? day.atTime(endTime) : day.plusDays(1).atTime(endTime);
+        control.addShift(new ShiftVO(eno, start, end));
+    }
+
+    /**
+     * 공휴일 날짜와 이름을 입력받아 컨트롤러에 전달합니다.
+     */
+    void Pholiday(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t공휴일(yyyy-MM-dd): ");
+        LocalDate day = LocalDate.parse(scan.next());
+        System.out.print("\t이름: ");
+        String name = scan.next();
+        System.out.println("\t------------------------------");
+
+        control.addHoliday(day, name);
+    }
+
+    // ////////////////////////////////////////////////////////////////
+    // 직원/알바 공통
+    // ////////////////////////////////////////////////////////////////
+
+    /**
+     * 특정 직원 데이터를 사번으로 삭제하는 메서드입니다.
+     */
+    void Edelete(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t삭제할 사번: ");
+        String deleteNum = scan.next();
+        System.out.println("\t------------------------------");
+
+        control.delete(deleteNum);
+    }
+
+    /**
+     * 모든 직원 데이터를 조회하고 정렬 옵션에 따라 리스트를 출력하는 메서드입니다.
+     *
+     * @param thirdOrder 세 번째 정렬 옵션의 이름 (실적순, 임금순)
+     */
+    void EtotalSearch(String thirdOrder){
+        System.out.println("\t------------------------------");
+        System.out.println("\t1. 이름순\t\t2. 사번순");
+        System.out.println("\t3. " + thirdOrder);
+        System.out.print("\t정렬 선택: ");
+        int sortNum = scan.nextInt();
+        System.out.println("\t------------------------------\n");
+
+        control.totalSearch(sortNum);
+    }
+
+    /**
+     * 특정 직원 데이터를 사번으로 검색하여 출력하는 메서드입니다.
+     */
+    void Esearch(){
+        System.out.println("\t------------------------------");
+        System.out.print("\t검색할 사번: ");
+        String eno = scan.next();
+        System.out.println("\t------------------------------");
+
+        control.search(eno);
+    }
 
 
 
@@ -220,9 +716,19 @@ public class MainMenu {
     /**
      * 프로그램의 메인 메서드입니다.
      *
+     * 시작할 때 {@link SchemaManager}로 테이블과 인덱스를 확인하고 {@link AuditLog}와 {@link ScoreHistory} 기록을 시작하며,
+     * 첫 인수가 {@code --load}이면 메뉴 대신 부하 테스트를 실행합니다 ({@link LoadGenerator#fromArgs(String[])} 참고).
+     *
      * @param args 커맨드라인 인수
      */
     public static void main(String[] args) {
+        SchemaManager.migrate();
+        AuditLog.start();
+        ScoreHistory.start();
+        if (args.length > 0 && args[0].equals("--load")) {
+            LoadGenerator.fromArgs(args).run();
+            return;
+        }
         new MainMenu().managementStart();
     }
 
@@ -244,10 +750,10 @@ public class MainMenu {
                     StudentSystem();
                     break;
                 case 2 :
-
+                    FulltimeSystem();
                     break;
                 case 3 :
-
+                    ParttimeSystem();
                     break;
                 case 4 :
                     System.out.println("시스템을 종료합니다.");
@@ -0,0 +1,139 @@
+package vo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code CohortVO} 클래스는 같은 입학년도, 학과, 등급 등으로 묶인 학생 집단의 집계 결과를 저장하기 위한 모델 클래스입니다.
+ * 과목별 평균은 점수 합계와 인원으로 계산합니다.
+ */
+public class CohortVO {
+    //집단 키 (예: 학번 앞 네 자리, 등급)
+    private String key;
+
+    //인원
+    private long count;
+
+    //과목별 점수 합계
+    private long korean;
+    private long english;
+    private long math;
+    private long science;
+
+    //등급 정책 가중치로 계산한 평균의 평균
+    private double average;
+
+    //등급별 인원 (높은 등급부터)
+    private Map<String, Long> gradeCounts = new LinkedHashMap<>();
+
+    public CohortVO() {
+    }
+
+    public CohortVO(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 집계 결과를 문자열로 변환합니다.
+     *
+     * @return 포맷팅된 집계 정보
+     */
+    @Override
+    public String toString() {
+        StringBuilder grades = new StringBuilder();
+        for (Map.Entry<String, Long> entry : gradeCounts.entrySet()) {
+            if (grades.length() > 0) grades.append(' ');
+            grades.append(entry.getKey()).append(':').append(entry.getValue());
+        }
+        String str = "%s\t%d\t%.2f\t%.2f\t%.2f\t%.2f\t%.2f\t%.2f\t%s";
+        return String.format(str, key, count, getKoreanAverage(), getEnglishAverage(), getMathAverage(),
+                getScienceAverage(), getTotalAverage(), average, grades);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getKorean() {
+        return korean;
+    }
+
+    public void setKorean(long korean) {
+        this.korean = korean;
+    }
+
+    public long getEnglish() {
+        return english;
+    }
+
+    public void setEnglish(long english) {
+        this.english = english;
+    }
+
+    public long getMath() {
+        return math;
+    }
+
+    public void setMath(long math) {
+        this.math = math;
+    }
+
+    public long getScience() {
+        return science;
+    }
+
+    public void setScience(long science) {
+        this.science = science;
+    }
+
+    public double getKoreanAverage() {
+        return (count == 0) ? 0 : (double) korean / count;
+    }
+
+    public double getEnglishAverage() {
+        return (count == 0) ? 0 : (double) english / count;
+    }
+
+    public double getMathAverage() {
+        return (count == 0) ? 0 : (double) math / count;
+    }
+
+    public double getScienceAverage() {
+        return (count == 0) ? 0 : (double) science / count;
+    }
+
+    /**
+     * @return 네 과목 총점의 평균
+     */
+    public double getTotalAverage() {
+        return (count == 0) ? 0 : (double) (korean + english + math + science) / count;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public void setAverage(double average) {
+        this.average = average;
+    }
+
+    public Map<String, Long> getGradeCounts() {
+        return gradeCounts;
+    }
+
+    public void setGradeCounts(Map<String, Long> gradeCounts) {
+        this.gradeCounts = gradeCounts;
+    }
+}
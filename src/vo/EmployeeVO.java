@@ -0,0 +1,67 @@
+package vo;
+
+import java.util.Objects;
+
+/**
+ * {@code EmployeeVO} 클래스는 직원 데이터를 저장하기 위한 기본 모델 클래스입니다.
+ * 사번을 포함하며, 정규직과 시간제 직원 VO가 상속하여 사용합니다.
+ */
+public abstract class EmployeeVO extends PersonVO {
+    //사번
+    private String eno;
+
+    //이름의 정렬 키 (데이터베이스가 name 컬럼의 콜레이션으로 계산한 값, 모르거나 이름이 바뀌면 null)
+    private volatile byte[] nameKey;
+
+    public EmployeeVO() {
+    }
+
+    public EmployeeVO(String eno, String name) {
+        super(name);
+        this.eno = eno;
+    }
+
+    /**
+     * 직원의 동등성을 비교한다.
+     *
+     * @param obj 비교할 객체
+     * @return 동일한 사번을 가진 경우 {@code true} 그렇지 않으면 {@code false}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof EmployeeVO)) return false;
+        return Objects.equals(eno, ((EmployeeVO) obj).eno);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(eno);
+    }
+
+    public String getEno() {
+        return eno;
+    }
+
+    public void setEno(String eno) {
+        this.eno = eno;
+    }
+
+    @Override
+    public void setName(String name) {
+        super.setName(name);
+        this.nameKey = null;
+    }
+
+    /**
+     * 이름순 비교에 쓰는 정렬 키를 반환합니다. ({@link util.NameCollation} 참고)
+     *
+     * @return 이름의 정렬 키, 데이터베이스에서 읽지 않았으면 {@code null}
+     */
+    public byte[] getNameKey() {
+        return nameKey;
+    }
+
+    public void setNameKey(byte[] nameKey) {
+        this.nameKey = nameKey;
+    }
+}
@@ -0,0 +1,60 @@
+package vo;
+
+/**
+ * {@code FulltimeVO} 클래스는 정규직 직원 데이터를 저장하기 위한 모델 클래스입니다.
+ * 사번, 이름 외에 월급과 실적을 관리합니다.
+ */
+public class FulltimeVO extends EmployeeVO implements Comparable<FulltimeVO> {
+    //월급
+    private int salary;
+
+    //실적
+    private int performance;
+
+    public FulltimeVO() {
+    }
+
+    public FulltimeVO(String eno, String name, int salary, int performance) {
+        super(eno, name);
+        this.salary = salary;
+        this.performance = performance;
+    }
+
+    /**
+     * 직원의 사번을 기준으로 정렬합니다.
+     *
+     * @param o 비교할 {@code FulltimeVO} 객체
+     * @return 사번의 문자열 비교 결과
+     */
+    @Override
+    public int compareTo(FulltimeVO o) {
+        return this.getEno().compareTo(o.getEno());
+    }
+
+    /**
+     * 정규직 직원 정보를 문자열로 변환합니다.
+     *
+     * @return 포맷팅된 직원 정보
+     */
+    @Override
+    public String toString() {
+        String str = "\t%-12s%-11s%-11d%-11d";
+        return String.format(str, getEno(), getName(), salary, performance);
+    }
+
+    public int getSalary() {
+        return salary;
+    }
+
+    public void setSalary(int salary) {
+        this.salary = salary;
+    }
+
+    public int getPerformance() {
+        return performance;
+    }
+
+    public void setPerformance(int performance) {
+        this.performance = performance;
+    }
+}
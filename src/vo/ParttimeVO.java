@@ -0,0 +1,71 @@
+package vo;
+
+/**
+ * {@code ParttimeVO} 클래스는 시간제 직원 데이터를 저장하기 위한 모델 클래스입니다.
+ * 사번, 이름 외에 시급, 근무 시간, 그리고 계산된 임금을 관리합니다.
+ */
+public class ParttimeVO extends EmployeeVO implements Comparable<ParttimeVO> {
+    //시급
+    private int hourlyWage;
+
+    //근무 시간
+    private int workHours;
+
+    //임금 (시급 * 근무 시간)
+    private int pay;
+
+    public ParttimeVO() {
+    }
+
+    public ParttimeVO(String eno, String name, int hourlyWage, int workHours) {
+        super(eno, name);
+        this.hourlyWage = hourlyWage;
+        this.workHours = workHours;
+    }
+
+    /**
+     * 직원의 사번을 기준으로 정렬합니다.
+     *
+     * @param o 비교할 {@code ParttimeVO} 객체
+     * @return 사번의 문자열 비교 결과
+     */
+    @Override
+    public int compareTo(ParttimeVO o) {
+        return this.getEno().compareTo(o.getEno());
+    }
+
+    /**
+     * 시간제 직원 정보를 문자열로 변환합니다.
+     *
+     * @return 포맷팅된 직원 정보
+     */
+    @Override
+    public String toString() {
+        String str = "\t%-12s%-11s%-11d%-11d%-11d";
+        return String.format(str, getEno(), getName(), hourlyWage, workHours, pay);
+    }
+
+    public int getHourlyWage() {
+        return hourlyWage;
+    }
+
+    public void setHourlyWage(int hourlyWage) {
+        this.hourlyWage = hourlyWage;
+    }
+
+    public int getWorkHours() {
+        return workHours;
+    }
+
+    public void setWorkHours(int workHours) {
+        this.workHours = workHours;
+    }
+
+    public int getPay() {
+        return pay;
+    }
+
+    public void setPay(int pay) {
+        this.pay = pay;
+    }
+}
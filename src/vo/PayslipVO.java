@@ -0,0 +1,117 @@
+package vo;
+
+import java.time.LocalDate;
+
+/**
+ * {@code PayslipVO} 클래스는 한 정산 기간 동안의 시간제 직원 급여 계산 결과를 저장하기 위한 모델 클래스입니다.
+ * 금액 단위는 원입니다.
+ */
+public class PayslipVO {
+    //사번
+    private String eno;
+
+    //정산 시작일 (포함)
+    private LocalDate periodStart;
+
+    //정산 종료일 (미포함)
+    private LocalDate periodEnd;
+
+    //총 근무 시간(분)
+    private long workMinutes;
+
+    //기본급 (시급 * 근무 시간)
+    private long basePay;
+
+    //야간/주말/공휴일 가산 수당
+    private long premiumPay;
+
+    //주휴 수당
+    private long weeklyAllowance;
+
+    //지급 총액
+    private long totalPay;
+
+    public PayslipVO() {
+    }
+
+    public PayslipVO(String eno, LocalDate periodStart, LocalDate periodEnd) {
+        this.eno = eno;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    /**
+     * 급여 계산 결과를 문자열로 변환합니다.
+     *
+     * @return 포맷팅된 급여 정보
+     */
+    @Override
+    public String toString() {
+        String str = "%s\t%d분\t%,d\t%,d\t%,d\t%,d";
+        return String.format(str, eno, workMinutes, basePay, premiumPay, weeklyAllowance, totalPay);
+    }
+
+    public String getEno() {
+        return eno;
+    }
+
+    public void setEno(String eno) {
+        this.eno = eno;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    public void setPeriodEnd(LocalDate periodEnd) {
+        this.periodEnd = periodEnd;
+    }
+
+    public long getWorkMinutes() {
+        return workMinutes;
+    }
+
+    public void setWorkMinutes(long workMinutes) {
+        this.workMinutes = workMinutes;
+    }
+
+    public long getBasePay() {
+        return basePay;
+    }
+
+    public void setBasePay(long basePay) {
+        this.basePay = basePay;
+    }
+
+    public long getPremiumPay() {
+        return premiumPay;
+    }
+
+    public void setPremiumPay(long premiumPay) {
+        this.premiumPay = premiumPay;
+    }
+
+    public long getWeeklyAllowance() {
+        return weeklyAllowance;
+    }
+
+    public void setWeeklyAllowance(long weeklyAllowance) {
+        this.weeklyAllowance = weeklyAllowance;
+    }
+
+    public long getTotalPay() {
+        return totalPay;
+    }
+
+    public void setTotalPay(long totalPay) {
+        this.totalPay = totalPay;
+    }
+}
@@ -0,0 +1,50 @@
+package vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code ShiftVO} 클래스는 시간제 직원의 근무 기록(출근~퇴근) 한 건을 저장하기 위한 모델 클래스입니다.
+ */
+public class ShiftVO {
+    //사번
+    private String eno;
+
+    //출근 시각
+    private LocalDateTime start;
+
+    //퇴근 시각
+    private LocalDateTime end;
+
+    public ShiftVO() {
+    }
+
+    public ShiftVO(String eno, LocalDateTime start, LocalDateTime end) {
+        this.eno = eno;
+        this.start = start;
+        this.end = end;
+    }
+
+    public String getEno() {
+        return eno;
+    }
+
+    public void setEno(String eno) {
+        this.eno = eno;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public void setEnd(LocalDateTime end) {
+        this.end = end;
+    }
+}
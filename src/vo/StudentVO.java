@@ -8,13 +8,16 @@ import java.util.Objects;
  * 학생의 동등성을 비교합니다.
  */
 
-public class StudentVO extends PersonVO implements Comparable<StudentVO> {
+public class StudentVO extends PersonVO implements Comparable<StudentVO>, Versioned {
     //학번
     private String sno;
 
     //이름
     private String name;
 
+    //이름의 정렬 키 (데이터베이스가 name 컬럼의 콜레이션으로 계산한 값, 모르거나 이름이 바뀌면 null)
+    private volatile byte[] nameKey;
+
     private int korean;
     private int english;
     private int math;
@@ -25,6 +28,9 @@ public class StudentVO extends PersonVO implements Comparable<StudentVO> {
     private double average;
     private String grade;
 
+    //낙관적 동시성 제어용 버전
+    private int version;
+
     public StudentVO() {
     }
 
@@ -97,6 +103,20 @@ public class StudentVO extends PersonVO implements Comparable<StudentVO> {
 
     public void setName(String name) {
         this.name = name;
+        this.nameKey = null;
+    }
+
+    /**
+     * 이름순 비교에 쓰는 정렬 키를 반환합니다. ({@link util.NameCollation} 참고)
+     *
+     * @return 이름의 정렬 키, 데이터베이스에서 읽지 않았으면 {@code null}
+     */
+    public byte[] getNameKey() {
+        return nameKey;
+    }
+
+    public void setNameKey(byte[] nameKey) {
+        this.nameKey = nameKey;
     }
 
     public int getEnglish() {
@@ -146,4 +166,14 @@ public class StudentVO extends PersonVO implements Comparable<StudentVO> {
     public void setGrade(String grade) {
         this.grade = grade;
     }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(int version) {
+        this.version = version;
+    }
 }
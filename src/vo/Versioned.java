@@ -0,0 +1,18 @@
+package vo;
+
+/**
+ * {@code Versioned} 인터페이스는 낙관적 동시성 제어를 위한 버전 번호를 가진 VO를 나타냅니다.
+ * <p>
+ * 수정은 읽을 때의 버전과 데이터베이스의 버전이 같을 때만 반영되며, 반영될 때마다 버전이 1씩 증가합니다.
+ */
+public interface Versioned {
+    /**
+     * @return 이 데이터를 읽었을 때의 버전
+     */
+    int getVersion();
+
+    /**
+     * @param version 버전
+     */
+    void setVersion(int version);
+}
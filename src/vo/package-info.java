@@ -14,6 +14,8 @@
  *     <li>{@link FulltimeVO} - 정규직 직원의 데이터를 정의하며, {@link EmployeeVO}를 상속받아 실적, 월급 등의 추가 정보를 관리.</li>
  *     <li>{@link ParttimeVO} - 시간제 근무 직원 데이터를 정의하며, {@link EmployeeVO}를 상속받아 시급, 근무 시간 등을 관리.</li>
  *     <li>{@link StudentVO} - 학생 데이터를 정의하며, {@link PersonVO}를 상속받아 학번, 성적 등 학생 관련 추가 정보를 포함.</li>
+ *     <li>{@link CohortVO} - 학번 구간이나 등급으로 묶인 학생 집단의 인원, 과목별 평균, 등급 분포를 담는 클래스.</li>
+ *     <li>{@link Versioned} - 낙관적 동시성 제어용 버전 번호를 가진 VO를 나타내는 인터페이스.</li>
  * </ul>
  * </p>
  *